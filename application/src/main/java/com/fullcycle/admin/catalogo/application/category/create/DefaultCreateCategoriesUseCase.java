@@ -0,0 +1,67 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.API;
+import io.vavr.control.Either;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultCreateCategoriesUseCase extends CreateCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final int maxBatchSize;
+
+    public DefaultCreateCategoriesUseCase(final CategoryGateway categoryGateway, final int maxBatchSize) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("'maxBatchSize' must be positive");
+        }
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    // The whole batch is validated and written in one transaction, so its size is bounded; larger loads go through
+    // the import, which streams them in batches.
+    @Override
+    public List<Either<Notification, CreateCategoryOutput>> execute(final List<CreateCategoryCommand> aCommands) {
+        if (aCommands.isEmpty()) {
+            throw DomainException.with(new Error("'categories' should not be empty"));
+        }
+        if (aCommands.size() > this.maxBatchSize) {
+            throw DomainException.with(new Error("'categories' must have at most %d items".formatted(this.maxBatchSize)));
+        }
+
+        final var results = new ArrayList<Either<Notification, CreateCategoryOutput>>(aCommands.size());
+        final var validCategories = new ArrayList<Category>(aCommands.size());
+
+        for (final var aCommand : aCommands) {
+            final var notification = Notification.create();
+            final var aCategory = Category.newCategory(aCommand.name(), aCommand.description(), aCommand.isActive());
+            aCategory.validate(notification);
+
+            if (notification.hasErrors()) {
+                results.add(API.Left(notification));
+            } else {
+                validCategories.add(aCategory);
+                results.add(API.Right(CreateCategoryOutput.from(aCategory)));
+            }
+        }
+
+        if (validCategories.isEmpty()) {
+            return results;
+        }
+
+        return API.Try(() -> categoryGateway.createAll(validCategories))
+                .fold(
+                        throwable -> results.stream()
+                                .map(result -> result.isRight() ? API.<Notification, CreateCategoryOutput>Left(Notification.create(throwable)) : result)
+                                .toList(),
+                        created -> results
+                );
+    }
+}
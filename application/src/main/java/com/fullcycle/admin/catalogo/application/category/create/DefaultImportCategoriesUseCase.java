@@ -0,0 +1,171 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Rows are validated as they are read and handed to a single writer in batches through a bounded queue. When the
+// database falls behind the queue fills up and reading stops, so at most (queued batches + 2) batches are in memory.
+public class DefaultImportCategoriesUseCase extends ImportCategoriesUseCase {
+
+    private static final int MAX_REPORTED_REJECTIONS = 100;
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+    private final CategoryGateway categoryGateway;
+    private final Executor writerExecutor;
+    private final int batchSize;
+    private final int queuedBatches;
+
+    public DefaultImportCategoriesUseCase(
+            final CategoryGateway categoryGateway,
+            final Executor writerExecutor,
+            final int batchSize,
+            final int queuedBatches
+    ) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.writerExecutor = Objects.requireNonNull(writerExecutor);
+        if (batchSize < 1 || queuedBatches < 1) {
+            throw new IllegalArgumentException("'batchSize' and 'queuedBatches' must be positive");
+        }
+        this.batchSize = batchSize;
+        this.queuedBatches = queuedBatches;
+    }
+
+    @Override
+    public ImportCategoriesOutput execute(final ImportCategoriesCommand aCommand) {
+        final var rows = aCommand.rows();
+        final var queue = new ArrayBlockingQueue<List<Category>>(this.queuedBatches);
+        final var end = new ArrayList<Category>(0);
+        final var imported = new AtomicLong();
+        final var writer = CompletableFuture.runAsync(() -> write(queue, end, imported), this.writerExecutor);
+
+        final var rejections = new ArrayList<ImportCategoriesOutput.Rejection>();
+        var rejected = 0L;
+        var row = 0L;
+        var batch = new ArrayList<Category>(this.batchSize);
+        RuntimeException failure = null;
+        try {
+            while (rows.hasNext()) {
+                row++;
+                final var aRow = rows.next();
+                final var notification = Notification.create();
+                final var aCategory = Category.newCategory(aRow.name(), aRow.description(), aRow.isActive());
+                aCategory.validate(notification);
+
+                if (notification.hasError()) {
+                    rejected++;
+                    if (rejections.size() < MAX_REPORTED_REJECTIONS) {
+                        rejections.add(new ImportCategoriesOutput.Rejection(row, notification.getErrors()));
+                    }
+                    continue;
+                }
+
+                batch.add(aCategory);
+                if (batch.size() == this.batchSize) {
+                    enqueue(queue, batch, writer);
+                    batch = new ArrayList<>(this.batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                enqueue(queue, batch, writer);
+            }
+        } catch (final RuntimeException ex) {
+            failure = ex;
+        }
+
+        // Lets the writer finish what was already queued even when reading failed half way.
+        final var writeFailure = finish(queue, end, writer);
+        if (failure == null) {
+            failure = writeFailure;
+        } else if (writeFailure != null && writeFailure != failure) {
+            failure.addSuppressed(writeFailure);
+        }
+        if (failure != null) {
+            throw ImportCategoriesException.with(imported.get(), failure);
+        }
+        return ImportCategoriesOutput.with(imported.get(), rejected, rejections);
+    }
+
+    private void write(final BlockingQueue<List<Category>> queue, final List<Category> end, final AtomicLong imported) {
+        try {
+            for (var batch = queue.take(); batch != end; batch = queue.take()) {
+                this.categoryGateway.createAll(batch);
+                imported.addAndGet(batch.size());
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Category import was interrupted", ex);
+        }
+    }
+
+    // Blocks while the queue is full, which is what slows reading down to the writer's pace; gives up as soon as
+    // the writer stops, so a database error does not leave the reader waiting on a queue nobody drains.
+    private static void enqueue(
+            final BlockingQueue<List<Category>> queue,
+            final List<Category> aBatch,
+            final CompletableFuture<Void> writer
+    ) {
+        try {
+            while (!writer.isDone()) {
+                if (queue.offer(aBatch, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            }
+            awaitWriter(writer);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Category import was interrupted", ex);
+        }
+    }
+
+    // Sends the end marker and waits for the writer, returning its failure instead of throwing so that a reading error
+    // is not replaced by it. An interrupted reader drops the batches still queued so the writer is never left waiting.
+    private static RuntimeException finish(
+            final BlockingQueue<List<Category>> queue,
+            final List<Category> end,
+            final CompletableFuture<Void> writer
+    ) {
+        RuntimeException failure = null;
+        try {
+            while (!writer.isDone() && !queue.offer(end, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                // The writer is still draining a full queue.
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            queue.clear();
+            queue.offer(end);
+            failure = new IllegalStateException("Category import was interrupted", ex);
+        }
+        try {
+            awaitWriter(writer);
+        } catch (final RuntimeException ex) {
+            if (failure == null) {
+                return ex;
+            }
+            failure.addSuppressed(ex);
+        }
+        return failure;
+    }
+
+    private static void awaitWriter(final CompletableFuture<Void> writer) {
+        try {
+            writer.join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import java.util.Iterator;
+
+public record ImportCategoriesCommand(Iterator<CreateCategoryCommand> rows) {
+    public static ImportCategoriesCommand with(final Iterator<CreateCategoryCommand> rows) {
+        return new ImportCategoriesCommand(rows);
+    }
+}
@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.NoStacktraceException;
+
+// An import that stopped half way: batches written before the failure stay committed, so the caller gets their count
+// along with the error that stopped it.
+public class ImportCategoriesException extends NoStacktraceException {
+
+    private final long imported;
+
+    private ImportCategoriesException(final String aMessage, final Throwable aCause, final long imported) {
+        super(aMessage, aCause);
+        this.imported = imported;
+    }
+
+    public static ImportCategoriesException with(final long imported, final Throwable aCause) {
+        return new ImportCategoriesException(aCause.getMessage(), aCause, imported);
+    }
+
+    public long imported() {
+        return imported;
+    }
+}
@@ -0,0 +1,19 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+
+import java.util.List;
+
+public record ImportCategoriesOutput(
+        long imported,
+        long rejected,
+        List<Rejection> rejections
+) {
+    public static ImportCategoriesOutput with(final long imported, final long rejected, final List<Rejection> rejections) {
+        return new ImportCategoriesOutput(imported, rejected, rejections);
+    }
+
+    // Rows are numbered from 1 in the order they were read.
+    public record Rejection(long row, List<Error> errors) {
+    }
+}
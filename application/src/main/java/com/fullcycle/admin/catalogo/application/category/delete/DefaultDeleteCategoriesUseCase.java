@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalogo.application.category.delete;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultDeleteCategoriesUseCase extends DeleteCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultDeleteCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public void execute(final List<String> anIds) {
+        final var ids = anIds.stream().distinct().map(CategoryID::from).toList();
+        if (!ids.isEmpty()) {
+            this.categoryGateway.deleteAllById(ids);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.application.category.delete;
+
+import com.fullcycle.admin.catalogo.application.UnitUseCase;
+
+import java.util.List;
+
+public abstract class DeleteCategoriesUseCase extends UnitUseCase<List<String>> {
+}
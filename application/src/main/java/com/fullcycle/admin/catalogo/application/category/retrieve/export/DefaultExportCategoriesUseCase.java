@@ -0,0 +1,21 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.export;
+
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public class DefaultExportCategoriesUseCase extends ExportCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultExportCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public void execute(final Consumer<CategoryListOutput> anAction) {
+        this.categoryGateway.forEachSummary(aSummary -> anAction.accept(CategoryListOutput.from(aSummary)));
+    }
+}
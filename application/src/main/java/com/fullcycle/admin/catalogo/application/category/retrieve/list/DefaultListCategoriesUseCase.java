@@ -16,6 +16,6 @@ public class DefaultListCategoriesUseCase extends ListCategoriesUseCase {
 
     @Override
     public Pagination<CategoryListOutput> execute(final SearchQuery aQuery) {
-        return categoryGateway.findAll(aQuery).map(CategoryListOutput::from);
+        return categoryGateway.findAllSummaries(aQuery).map(CategoryListOutput::from);
     }
 }
@@ -0,0 +1,33 @@
+package com.fullcycle.admin.catalogo.application.category.update;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultUpdateCategoriesStatusUseCase extends UpdateCategoriesStatusUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultUpdateCategoriesStatusUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public UpdateCategoriesStatusOutput execute(final UpdateCategoriesStatusCommand aCommand) {
+        final var ids = aCommand.ids().stream().distinct().map(CategoryID::from).toList();
+        if (ids.isEmpty()) {
+            return UpdateCategoriesStatusOutput.from(List.of(), List.of());
+        }
+
+        // Same rules as Category.activate()/deactivate(), applied by the gateway as one set-based update.
+        final var updated = new HashSet<>(this.categoryGateway.updateStatus(ids, aCommand.isActive(), InstantUtils.now()));
+
+        final var updatedIds = ids.stream().filter(updated::contains).map(CategoryID::getValue).toList();
+        final var notFoundIds = ids.stream().filter(anId -> !updated.contains(anId)).map(CategoryID::getValue).toList();
+        return UpdateCategoriesStatusOutput.from(updatedIds, notFoundIds);
+    }
+}
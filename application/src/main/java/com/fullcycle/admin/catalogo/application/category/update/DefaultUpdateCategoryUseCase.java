@@ -5,6 +5,7 @@ import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.exceptions.VersionConflictException;
 import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
 import io.vavr.control.Either;
 
@@ -25,8 +26,12 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
     @Override
     public Either<Notification, UpdateCategoryOutput> execute(final UpdateCategoryCommand anCommand) {
         final var id = CategoryID.from(anCommand.id());
-        final var aCategory = categoryGateway.findById(id)
+        // A cached copy may trail the row, which would fail the version check or the update for no reason.
+        final var aCategory = categoryGateway.findLatestById(id)
                 .orElseThrow(notFound(id));
+        if (anCommand.expectedVersion() != null && anCommand.expectedVersion() != aCategory.getVersion()) {
+            throw VersionConflictException.with(Category.class, id);
+        }
         final var notification = Notification.create();
         aCategory
                 .update(anCommand.name(), anCommand.description(), anCommand.isActive())
@@ -35,7 +40,11 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
     }
 
     private Either<Notification, UpdateCategoryOutput> update(Category aCategory) {
-        return Try(() -> categoryGateway.update(aCategory)).toEither().bimap(Notification::create, UpdateCategoryOutput::from);
+        final var result = Try(() -> categoryGateway.update(aCategory));
+        if (result.isFailure() && result.getCause() instanceof VersionConflictException ex) {
+            throw ex;
+        }
+        return result.toEither().bimap(Notification::create, UpdateCategoryOutput::from);
     }
 
     private static Supplier<DomainException> notFound(final CategoryID id) {
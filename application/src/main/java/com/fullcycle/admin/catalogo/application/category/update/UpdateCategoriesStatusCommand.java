@@ -0,0 +1,12 @@
+package com.fullcycle.admin.catalogo.application.category.update;
+
+import java.util.List;
+
+public record UpdateCategoriesStatusCommand(
+        List<String> ids,
+        boolean isActive
+) {
+    public static UpdateCategoriesStatusCommand with(final List<String> ids, final boolean isActive) {
+        return new UpdateCategoriesStatusCommand(ids, isActive);
+    }
+}
@@ -0,0 +1,12 @@
+package com.fullcycle.admin.catalogo.application.category.update;
+
+import java.util.List;
+
+public record UpdateCategoriesStatusOutput(
+        List<String> updated,
+        List<String> notFound
+) {
+    public static UpdateCategoriesStatusOutput from(final List<String> updated, final List<String> notFound) {
+        return new UpdateCategoriesStatusOutput(updated, notFound);
+    }
+}
@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalogo.application.category.update;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+
+public abstract class UpdateCategoriesStatusUseCase
+        extends UseCase<UpdateCategoriesStatusCommand, UpdateCategoriesStatusOutput> {
+}
@@ -4,7 +4,8 @@ public record UpdateCategoryCommand(
         String id,
         String name,
         String description,
-        boolean isActive
+        boolean isActive,
+        Long expectedVersion
 ) {
     public static UpdateCategoryCommand with(
             final String aId,
@@ -12,6 +13,16 @@ public record UpdateCategoryCommand(
             final String aDescription,
             final boolean isActive
     ) {
-        return new UpdateCategoryCommand(aId, aName, aDescription, isActive);
+        return with(aId, aName, aDescription, isActive, null);
+    }
+
+    public static UpdateCategoryCommand with(
+            final String aId,
+            final String aName,
+            final String aDescription,
+            final boolean isActive,
+            final Long anExpectedVersion
+    ) {
+        return new UpdateCategoryCommand(aId, aName, aDescription, isActive, anExpectedVersion);
     }
 }
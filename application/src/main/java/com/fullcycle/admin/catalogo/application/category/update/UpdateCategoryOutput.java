@@ -2,12 +2,12 @@ package com.fullcycle.admin.catalogo.application.category.update;
 
 import com.fullcycle.admin.catalogo.domain.category.Category;
 
-public record UpdateCategoryOutput(String id) {
+public record UpdateCategoryOutput(String id, long version) {
     public static UpdateCategoryOutput from(final Category aCategory) {
-        return new UpdateCategoryOutput(aCategory.getId().getValue());
+        return new UpdateCategoryOutput(aCategory.getId().getValue(), aCategory.getVersion());
     }
 
     public static UpdateCategoryOutput from(final String anId) {
-        return new UpdateCategoryOutput(anId);
+        return new UpdateCategoryOutput(anId, 0);
     }
 }
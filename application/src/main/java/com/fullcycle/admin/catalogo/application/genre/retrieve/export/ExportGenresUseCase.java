@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.application.genre.retrieve.export;
+
+import com.fullcycle.admin.catalogo.application.UnitUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.list.GenreListOutput;
+
+import java.util.function.Consumer;
+
+public abstract class ExportGenresUseCase extends UnitUseCase<Consumer<GenreListOutput>> {
+}
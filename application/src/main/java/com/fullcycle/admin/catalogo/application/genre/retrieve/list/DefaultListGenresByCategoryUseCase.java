@@ -0,0 +1,36 @@
+package com.fullcycle.admin.catalogo.application.genre.retrieve.list;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultListGenresByCategoryUseCase extends ListGenresByCategoryUseCase {
+
+    private final GenreGateway genreGateway;
+    private final CategoryGateway categoryGateway;
+
+    public DefaultListGenresByCategoryUseCase(final GenreGateway genreGateway, final CategoryGateway categoryGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Pagination<GenreListOutput> execute(final ListGenresByCategoryCommand aCommand) {
+        final var anId = CategoryID.from(aCommand.categoryId());
+        final var aQuery = new SearchQuery(0, aCommand.perPage(), "", "id", "asc", aCommand.after(), aCommand.totalMode());
+        final var genres = this.genreGateway.findAllByCategory(anId, aQuery);
+
+        // A linked genre proves the category exists, so only an empty page pays for the lookup.
+        if (genres.items().isEmpty() && this.categoryGateway.existsByIds(List.of(anId)).isEmpty()) {
+            throw NotFoundException.with(Category.class, anId);
+        }
+        return genres.map(GenreListOutput::from);
+    }
+}
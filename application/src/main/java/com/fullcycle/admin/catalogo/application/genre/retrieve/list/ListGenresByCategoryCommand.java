@@ -0,0 +1,19 @@
+package com.fullcycle.admin.catalogo.application.genre.retrieve.list;
+
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
+
+public record ListGenresByCategoryCommand(
+        String categoryId,
+        int perPage,
+        String after,
+        TotalMode totalMode
+) {
+    public static ListGenresByCategoryCommand with(
+            final String aCategoryId,
+            final int perPage,
+            final String after,
+            final TotalMode aTotalMode
+    ) {
+        return new ListGenresByCategoryCommand(aCategoryId, perPage, after, aTotalMode);
+    }
+}
@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.application.genre.retrieve.list;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+
+public abstract class ListGenresByCategoryUseCase
+        extends UseCase<ListGenresByCategoryCommand, Pagination<GenreListOutput>> {
+}
@@ -0,0 +1,110 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+public class CreateCategoriesUseCaseTest extends UseCaseTest {
+
+    private static final int MAX_BATCH_SIZE = 3;
+
+    private DefaultCreateCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway);
+    }
+
+    @BeforeEach
+    void setUp() {
+        useCase = new DefaultCreateCategoriesUseCase(categoryGateway, MAX_BATCH_SIZE);
+    }
+
+    @Test
+    public void givenValidAndInvalidCommands_whenCallsCreateCategories_shouldPersistOnlyValidOnesInOneCall() {
+        final var expectedErrorMessage = "'name' should not be null";
+        final var aCommands = List.of(
+                CreateCategoryCommand.with("Filmes", null, true),
+                CreateCategoryCommand.with(null, null, true),
+                CreateCategoryCommand.with("Séries", "Maratonas", false)
+        );
+
+        when(categoryGateway.createAll(Mockito.any())).thenAnswer(AdditionalAnswers.returnsFirstArg());
+
+        final var actualOutput = useCase.execute(aCommands);
+
+        Assertions.assertEquals(3, actualOutput.size());
+        Assertions.assertTrue(actualOutput.get(0).isRight());
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.get(1).getLeft().firstError().message());
+        Assertions.assertTrue(actualOutput.get(2).isRight());
+
+        verify(categoryGateway, times(1)).createAll(argThat(categories ->
+                categories.size() == 2
+                        && categories.get(0).getId().getValue().equals(actualOutput.get(0).get().id())
+                        && categories.get(1).getId().getValue().equals(actualOutput.get(2).get().id())
+        ));
+    }
+
+    @Test
+    public void givenOnlyInvalidCommands_whenCallsCreateCategories_shouldNotCallGateway() {
+        final var actualOutput = useCase.execute(List.of(CreateCategoryCommand.with(null, null, true)));
+
+        Assertions.assertTrue(actualOutput.get(0).isLeft());
+        verify(categoryGateway, times(0)).createAll(any());
+    }
+
+    @Test
+    public void givenNoCommands_whenCallsCreateCategories_shouldThrowDomainExceptionWithoutCallingGateway() {
+        final var expectedErrorMessage = "'categories' should not be empty";
+
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> useCase.execute(List.of()));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        verify(categoryGateway, never()).createAll(any());
+    }
+
+    @Test
+    public void givenMoreCommandsThanTheMaxBatchSize_whenCallsCreateCategories_shouldThrowDomainExceptionWithoutCallingGateway() {
+        final var expectedErrorMessage = "'categories' must have at most 3 items";
+        final var aCommands = List.of(
+                CreateCategoryCommand.with("Filmes", null, true),
+                CreateCategoryCommand.with("Séries", null, true),
+                CreateCategoryCommand.with("Documentários", null, true),
+                CreateCategoryCommand.with("Animes", null, true)
+        );
+
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> useCase.execute(aCommands));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        verify(categoryGateway, never()).createAll(any());
+    }
+
+    @Test
+    public void givenAGatewayError_whenCallsCreateCategories_shouldReturnTheErrorForEveryValidCommand() {
+        final var expectedErrorMessage = "Gateway error";
+        final var aCommands = List.of(
+                CreateCategoryCommand.with("Filmes", null, true),
+                CreateCategoryCommand.with(null, null, true)
+        );
+
+        when(categoryGateway.createAll(Mockito.any())).thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        final var actualOutput = useCase.execute(aCommands);
+
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.get(0).getLeft().firstError().message());
+        Assertions.assertEquals("'name' should not be null", actualOutput.get(1).getLeft().firstError().message());
+    }
+}
@@ -0,0 +1,230 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class ImportCategoriesUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    private final ExecutorService writer = Executors.newSingleThreadExecutor();
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway);
+    }
+
+    @AfterEach
+    void shutdown() {
+        writer.shutdownNow();
+    }
+
+    @Test
+    public void givenValidAndInvalidRows_whenCallsImportCategories_shouldWriteValidOnesInBatchesAndReportTheOthers() {
+        // given
+        final var batches = Collections.synchronizedList(new ArrayList<List<Category>>());
+        doAnswer(invocation -> {
+            final List<Category> batch = invocation.getArgument(0);
+            batches.add(List.copyOf(batch));
+            return batch;
+        }).when(categoryGateway).createAll(any());
+
+        final var rows = List.of(
+                CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true),
+                CreateCategoryCommand.with(null, "Sem nome", true),
+                CreateCategoryCommand.with("Séries", null, true),
+                CreateCategoryCommand.with("Documentários", null, false),
+                CreateCategoryCommand.with(" ", null, true),
+                CreateCategoryCommand.with("Animações", null, true),
+                CreateCategoryCommand.with("Reality shows", null, true)
+        );
+
+        final var useCase = new DefaultImportCategoriesUseCase(categoryGateway, writer, 2, 1);
+
+        // when
+        final var actualOutput = useCase.execute(ImportCategoriesCommand.with(rows.iterator()));
+
+        // then
+        Assertions.assertEquals(5, actualOutput.imported());
+        Assertions.assertEquals(2, actualOutput.rejected());
+        Assertions.assertEquals(List.of(2L, 5L), actualOutput.rejections().stream().map(ImportCategoriesOutput.Rejection::row).toList());
+        Assertions.assertEquals("'name' should not be null", actualOutput.rejections().get(0).errors().get(0).message());
+
+        Assertions.assertEquals(List.of(2, 2, 1), batches.stream().map(List::size).toList());
+        Assertions.assertEquals(
+                List.of("Filmes", "Séries", "Documentários", "Animações", "Reality shows"),
+                batches.stream().flatMap(List::stream).map(Category::getName).toList()
+        );
+        Assertions.assertFalse(batches.get(1).get(0).isActive());
+    }
+
+    @Test
+    public void givenOnlyInvalidRows_whenCallsImportCategories_shouldNotCallTheGateway() {
+        // given
+        final var rows = List.of(CreateCategoryCommand.with(null, null, true));
+        final var useCase = new DefaultImportCategoriesUseCase(categoryGateway, writer, 10, 1);
+
+        // when
+        final var actualOutput = useCase.execute(ImportCategoriesCommand.with(rows.iterator()));
+
+        // then
+        Assertions.assertEquals(0, actualOutput.imported());
+        Assertions.assertEquals(1, actualOutput.rejected());
+        verify(categoryGateway, never()).createAll(any());
+    }
+
+    @Test
+    public void givenASlowGateway_whenCallsImportCategories_shouldStopReadingUntilTheQueueDrains() throws Exception {
+        // given
+        final var batchSize = 10;
+        final var queuedBatches = 2;
+        final var release = new CountDownLatch(1);
+        final var writing = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return invocation.getArgument(0);
+        }).when(categoryGateway).createAll(any());
+
+        final var rows = new CountingRows(1_000);
+        final var useCase = new DefaultImportCategoriesUseCase(categoryGateway, writer, batchSize, queuedBatches);
+
+        // when
+        final var running = Executors.newSingleThreadExecutor();
+        try {
+            final var result = running.submit(() -> useCase.execute(ImportCategoriesCommand.with(rows)));
+
+            Assertions.assertTrue(writing.await(5, TimeUnit.SECONDS));
+            Thread.sleep(300);
+
+            // then: one batch being written, the queue full and one batch being filled, nothing more.
+            Assertions.assertTrue(rows.read.get() <= (queuedBatches + 2) * batchSize, () -> "read " + rows.read.get() + " rows");
+            Assertions.assertFalse(result.isDone());
+
+            release.countDown();
+            Assertions.assertEquals(1_000, result.get(5, TimeUnit.SECONDS).imported());
+            Assertions.assertEquals(1_000, rows.read.get());
+        } finally {
+            running.shutdownNow();
+        }
+    }
+
+    @Test
+    public void givenAGatewayError_whenCallsImportCategories_shouldStopReadingAndThrowIt() {
+        // given
+        final var expectedErrorMessage = "Gateway error";
+        doThrow(new IllegalStateException(expectedErrorMessage)).when(categoryGateway).createAll(any());
+
+        final var rows = new CountingRows(100_000);
+        final var useCase = new DefaultImportCategoriesUseCase(categoryGateway, writer, 10, 2);
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                ImportCategoriesException.class,
+                () -> useCase.execute(ImportCategoriesCommand.with(rows))
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+        Assertions.assertInstanceOf(IllegalStateException.class, actualException.getCause());
+        Assertions.assertEquals(0, actualException.imported());
+        Assertions.assertTrue(rows.read.get() < 100_000);
+    }
+
+    @Test
+    public void givenAMalformedRowAfterSomeBatches_whenCallsImportCategories_shouldThrowItWithTheImportedCount() {
+        // given
+        final var expectedError = DomainException.with(new Error("Malformed JSON at line 26"));
+        doAnswer(invocation -> invocation.getArgument(0)).when(categoryGateway).createAll(any());
+
+        final var rows = new CountingRows(1_000, 26, expectedError);
+        final var useCase = new DefaultImportCategoriesUseCase(categoryGateway, writer, 10, 2);
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                ImportCategoriesException.class,
+                () -> useCase.execute(ImportCategoriesCommand.with(rows))
+        );
+
+        // then: the two full batches were written, the partial one was dropped with the rest of the file.
+        Assertions.assertSame(expectedError, actualException.getCause());
+        Assertions.assertEquals(20, actualException.imported());
+        verify(categoryGateway, times(2)).createAll(any());
+    }
+
+    @Test
+    public void givenAMalformedRowAndAGatewayError_whenCallsImportCategories_shouldKeepTheReadingError() {
+        // given
+        final var expectedError = DomainException.with(new Error("Malformed JSON at line 6"));
+        doThrow(new IllegalStateException("Gateway error")).when(categoryGateway).createAll(any());
+
+        final var rows = new CountingRows(1_000, 6, expectedError);
+        final var useCase = new DefaultImportCategoriesUseCase(categoryGateway, writer, 5, 2);
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                ImportCategoriesException.class,
+                () -> useCase.execute(ImportCategoriesCommand.with(rows))
+        );
+
+        // then
+        Assertions.assertSame(expectedError, actualException.getCause());
+        Assertions.assertEquals("Gateway error", expectedError.getSuppressed()[0].getMessage());
+        Assertions.assertEquals(0, actualException.imported());
+    }
+
+    private static class CountingRows implements Iterator<CreateCategoryCommand> {
+        private final int total;
+        private final int failAt;
+        private final RuntimeException failure;
+        private final AtomicInteger read = new AtomicInteger();
+
+        CountingRows(final int total) {
+            this(total, -1, null);
+        }
+
+        CountingRows(final int total, final int failAt, final RuntimeException failure) {
+            this.total = total;
+            this.failAt = failAt;
+            this.failure = failure;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return read.get() < total;
+        }
+
+        @Override
+        public CreateCategoryCommand next() {
+            if (read.get() + 1 == failAt) {
+                throw failure;
+            }
+            return CreateCategoryCommand.with("Categoria " + read.incrementAndGet(), null, true);
+        }
+    }
+}
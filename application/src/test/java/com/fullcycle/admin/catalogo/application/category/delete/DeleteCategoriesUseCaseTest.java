@@ -0,0 +1,47 @@
+package com.fullcycle.admin.catalogo.application.category.delete;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class DeleteCategoriesUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultDeleteCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway);
+    }
+
+    @Test
+    public void givenIdsWithDuplicates_whenCallsDeleteCategories_shouldDeleteDistinctIdsInOneCall() {
+        final var movies = CategoryID.unique();
+        final var tvShows = CategoryID.unique();
+
+        doNothing().when(categoryGateway).deleteAllById(any());
+
+        useCase.execute(List.of(movies.getValue(), tvShows.getValue(), movies.getValue()));
+
+        verify(categoryGateway, times(1)).deleteAllById(eq(List.of(movies, tvShows)));
+    }
+
+    @Test
+    public void givenNoIds_whenCallsDeleteCategories_shouldNotCallGateway() {
+        useCase.execute(List.of());
+
+        verify(categoryGateway, times(0)).deleteAllById(any());
+    }
+}
@@ -0,0 +1,86 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.export;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategorySummary;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+
+public class ExportCategoriesUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultExportCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway);
+    }
+
+    @Test
+    public void givenPersistedCategories_whenCallsExportCategories_shouldHandEachOneToTheActionInOrder() {
+        // given
+        final var movies = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var tvShows = Category.newCategory("Séries", null, false);
+
+        final var summaries = List.of(summary(movies), summary(tvShows));
+        final var expectedItems = summaries.stream().map(CategoryListOutput::from).toList();
+
+        doAnswer(invocation -> {
+            final Consumer<CategorySummary> action = invocation.getArgument(0);
+            summaries.forEach(action);
+            return null;
+        }).when(categoryGateway).forEachSummary(any());
+
+        // when
+        final var actualItems = new ArrayList<CategoryListOutput>();
+        useCase.execute(actualItems::add);
+
+        // then
+        Assertions.assertEquals(expectedItems, actualItems);
+    }
+
+    @Test
+    public void givenAGatewayError_whenCallsExportCategories_shouldPropagateIt() {
+        // given
+        final var expectedErrorMessage = "Gateway error";
+
+        doThrow(new IllegalStateException(expectedErrorMessage))
+                .when(categoryGateway).forEachSummary(any());
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> useCase.execute(item -> {
+                })
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    private static CategorySummary summary(final Category aCategory) {
+        return new CategorySummary(
+                aCategory.getId(),
+                aCategory.getName(),
+                aCategory.getDescription(),
+                aCategory.isActive(),
+                aCategory.getCreatedAt(),
+                aCategory.getDeletedAt()
+        );
+    }
+}
@@ -3,6 +3,7 @@ package com.fullcycle.admin.catalogo.application.category.retrieve.list;
 import com.fullcycle.admin.catalogo.application.UseCaseTest;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategorySummary;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import org.junit.jupiter.api.Assertions;
@@ -31,8 +32,8 @@ public class ListCategoriesUseCaseTest extends UseCaseTest {
     @Test
     public void givenAValidQuery_whenCallsListCategories_thenShouldReturnCategories() {
         final var categories = List.of(
-                Category.newCategory("Filmes", null, true),
-                Category.newCategory("Series", null, true)
+                summary(Category.newCategory("Filmes", null, true)),
+                summary(Category.newCategory("Series", null, true))
         );
 
         final var expectedPage = 0;
@@ -50,7 +51,7 @@ public class ListCategoriesUseCaseTest extends UseCaseTest {
         final var expectedItemsCount = 2;
         final var expectedResult = expectedPagination.map(CategoryListOutput::from);
 
-        when(categoryGateway.findAll(eq(aQuery)))
+        when(categoryGateway.findAllSummaries(eq(aQuery)))
                 .thenReturn(expectedPagination);
 
         final var actualResult = useCase.execute(aQuery);
@@ -64,7 +65,7 @@ public class ListCategoriesUseCaseTest extends UseCaseTest {
 
     @Test
     public void givenAValidQuery_whenHasNoResults_thenShouldReturnEmptyCategories() {
-        final var categories = List.<Category>of();
+        final var categories = List.<CategorySummary>of();
 
         final var expectedPage = 0;
         final var expectedPerPage = 10;
@@ -81,7 +82,7 @@ public class ListCategoriesUseCaseTest extends UseCaseTest {
         final var expectedItemsCount = 0;
         final var expectedResult = expectedPagination.map(CategoryListOutput::from);
 
-        when(categoryGateway.findAll(eq(aQuery)))
+        when(categoryGateway.findAllSummaries(eq(aQuery)))
                 .thenReturn(expectedPagination);
 
         final var actualResult = useCase.execute(aQuery);
@@ -105,11 +106,22 @@ public class ListCategoriesUseCaseTest extends UseCaseTest {
         final var aQuery =
                 new SearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
 
-        when(categoryGateway.findAll(eq(aQuery)))
+        when(categoryGateway.findAllSummaries(eq(aQuery)))
                 .thenThrow(new IllegalStateException(expectedErrorMessage));
 
         final var actualException = Assertions.assertThrows(IllegalStateException.class, () -> useCase.execute(aQuery));
 
         Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
     }
-}
\ No newline at end of file
+
+    private static CategorySummary summary(final Category aCategory) {
+        return new CategorySummary(
+                aCategory.getId(),
+                aCategory.getName(),
+                aCategory.getDescription(),
+                aCategory.isActive(),
+                aCategory.getCreatedAt(),
+                aCategory.getDeletedAt()
+        );
+    }
+}
@@ -0,0 +1,66 @@
+package com.fullcycle.admin.catalogo.application.category.update;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Objects;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class UpdateCategoriesStatusUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultUpdateCategoriesStatusUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway);
+    }
+
+    @Test
+    public void givenSomeUnknownIds_whenCallsUpdateStatus_shouldReportUpdatedAndNotFoundIds() {
+        final var movies = CategoryID.unique();
+        final var tvShows = CategoryID.unique();
+        final var unknown = CategoryID.from("123");
+
+        when(categoryGateway.updateStatus(any(), anyBoolean(), any())).thenReturn(List.of(movies, tvShows));
+
+        final var aCommand = UpdateCategoriesStatusCommand.with(
+                List.of(movies.getValue(), unknown.getValue(), tvShows.getValue(), movies.getValue()),
+                false
+        );
+
+        final var actualOutput = useCase.execute(aCommand);
+
+        Assertions.assertEquals(List.of(movies.getValue(), tvShows.getValue()), actualOutput.updated());
+        Assertions.assertEquals(List.of(unknown.getValue()), actualOutput.notFound());
+
+        verify(categoryGateway, times(1)).updateStatus(
+                eq(List.of(movies, unknown, tvShows)),
+                eq(false),
+                argThat(Objects::nonNull)
+        );
+    }
+
+    @Test
+    public void givenNoIds_whenCallsUpdateStatus_shouldNotCallGateway() {
+        final var actualOutput = useCase.execute(UpdateCategoriesStatusCommand.with(List.of(), true));
+
+        Assertions.assertTrue(actualOutput.updated().isEmpty());
+        Assertions.assertTrue(actualOutput.notFound().isEmpty());
+        verify(categoryGateway, times(0)).updateStatus(any(), anyBoolean(), any());
+    }
+}
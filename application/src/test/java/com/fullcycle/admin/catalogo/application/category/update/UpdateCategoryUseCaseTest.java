@@ -5,6 +5,7 @@ import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.exceptions.VersionConflictException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -48,7 +49,7 @@ public class UpdateCategoryUseCaseTest extends UseCaseTest {
                 expectedIsActive
         );
 
-        when(categoryGateway.findById(eq(expectedId))).thenReturn(Optional.of(aCategory.clone()));
+        when(categoryGateway.findLatestById(eq(expectedId))).thenReturn(Optional.of(aCategory.clone()));
         when(categoryGateway.update(any())).thenAnswer(returnsFirstArg());
 
         final var actualOutput = useCase.execute(aCommand).get();
@@ -56,7 +57,7 @@ public class UpdateCategoryUseCaseTest extends UseCaseTest {
         Assertions.assertNotNull(actualOutput);
         Assertions.assertNotNull(actualOutput.id());
 
-        Mockito.verify(categoryGateway, times(1)).findById(eq(expectedId));
+        Mockito.verify(categoryGateway, times(1)).findLatestById(eq(expectedId));
         Mockito.verify(categoryGateway, times(1)).update(Mockito.argThat(
                 aUpdatedCategory -> Objects.equals(expectedName, aUpdatedCategory.getName())
                         && Objects.equals(expectedDescription, aUpdatedCategory.getDescription())
@@ -85,7 +86,7 @@ public class UpdateCategoryUseCaseTest extends UseCaseTest {
                 expectedIsActive
         );
 
-        when(categoryGateway.findById(eq(expectedId))).thenReturn(Optional.of(aCategory.clone()));
+        when(categoryGateway.findLatestById(eq(expectedId))).thenReturn(Optional.of(aCategory.clone()));
 
         final var notification = useCase.execute(aCommand).getLeft();
 
@@ -109,7 +110,7 @@ public class UpdateCategoryUseCaseTest extends UseCaseTest {
                 expectedIsActive
         );
 
-        when(categoryGateway.findById(eq(expectedId))).thenReturn(Optional.of(aCategory.clone()));
+        when(categoryGateway.findLatestById(eq(expectedId))).thenReturn(Optional.of(aCategory.clone()));
         when(categoryGateway.update(any())).thenAnswer(returnsFirstArg());
 
         Assertions.assertTrue(aCategory.isActive());
@@ -120,7 +121,7 @@ public class UpdateCategoryUseCaseTest extends UseCaseTest {
         Assertions.assertNotNull(actualOutput);
         Assertions.assertNotNull(actualOutput.id());
 
-        Mockito.verify(categoryGateway, times(1)).findById(eq(expectedId));
+        Mockito.verify(categoryGateway, times(1)).findLatestById(eq(expectedId));
         Mockito.verify(categoryGateway, times(1)).update(Mockito.argThat(
                 aUpdatedCategory -> Objects.equals(expectedName, aUpdatedCategory.getName())
                         && Objects.equals(expectedDescription, aUpdatedCategory.getDescription())
@@ -149,7 +150,7 @@ public class UpdateCategoryUseCaseTest extends UseCaseTest {
                 expectedIsActive
         );
 
-        when(categoryGateway.findById(eq(expectedId))).thenReturn(Optional.of(aCategory.clone()));
+        when(categoryGateway.findLatestById(eq(expectedId))).thenReturn(Optional.of(aCategory.clone()));
         when(categoryGateway.update(Mockito.any())).thenThrow(new IllegalStateException(expectedErrorMessage));
 
         final var notification = useCase.execute(aCommand).getLeft();
@@ -157,7 +158,7 @@ public class UpdateCategoryUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedErrorCount, notification.getErrors().size());
         Assertions.assertEquals(expectedErrorMessage, notification.firstError().message());
 
-        Mockito.verify(categoryGateway, times(1)).findById(eq(expectedId));
+        Mockito.verify(categoryGateway, times(1)).findLatestById(eq(expectedId));
         Mockito.verify(categoryGateway, times(1)).update(Mockito.argThat(
                 aUpdatedCategory -> Objects.equals(expectedName, aUpdatedCategory.getName())
                         && Objects.equals(expectedDescription, aUpdatedCategory.getDescription())
@@ -184,14 +185,53 @@ public class UpdateCategoryUseCaseTest extends UseCaseTest {
                 expectedIsActive
         );
 
-        when(categoryGateway.findById(eq(CategoryID.from(expectedId)))).thenReturn(Optional.empty());
+        when(categoryGateway.findLatestById(eq(CategoryID.from(expectedId)))).thenReturn(Optional.empty());
 
         final var actualException = Assertions.assertThrows(NotFoundException.class, () -> useCase.execute(aCommand));
 
         Assertions.assertNotNull(actualException);
         Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
 
-        Mockito.verify(categoryGateway, times(1)).findById(eq(CategoryID.from(expectedId)));
+        Mockito.verify(categoryGateway, times(1)).findLatestById(eq(CategoryID.from(expectedId)));
         Mockito.verify(categoryGateway, times(0)).update(any());
     }
+
+    @Test
+    public void givenAStaleExpectedVersion_whenCallUpdateCategory_shouldThrowVersionConflictException() {
+        final var aCategory = Category.newCategory("Film", null, true);
+        final var storedCategory = Category.with(
+                aCategory.getId(),
+                aCategory.getName(),
+                aCategory.getDescription(),
+                aCategory.isActive(),
+                aCategory.getCreatedAt(),
+                aCategory.getUpdatedAt(),
+                aCategory.getDeletedAt(),
+                3
+        );
+        final var expectedId = aCategory.getId();
+        final var expectedErrorMessage = "Category with ID %s was modified by another request".formatted(expectedId.getValue());
+        final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), "Filmes", null, true, 2L);
+
+        when(categoryGateway.findLatestById(eq(expectedId))).thenReturn(Optional.of(storedCategory));
+
+        final var actualException = Assertions.assertThrows(VersionConflictException.class, () -> useCase.execute(aCommand));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+        Mockito.verify(categoryGateway, times(0)).update(any());
+    }
+
+    @Test
+    public void givenAConcurrentUpdate_whenGatewayRejectsVersion_shouldThrowVersionConflictException() {
+        final var aCategory = Category.newCategory("Film", null, true);
+        final var expectedId = aCategory.getId();
+        final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), "Filmes", null, true, 0L);
+
+        when(categoryGateway.findLatestById(eq(expectedId))).thenReturn(Optional.of(aCategory.clone()));
+        when(categoryGateway.update(any())).thenThrow(VersionConflictException.with(Category.class, expectedId));
+
+        Assertions.assertThrows(VersionConflictException.class, () -> useCase.execute(aCommand));
+
+        Mockito.verify(categoryGateway, times(1)).update(any());
+    }
 }
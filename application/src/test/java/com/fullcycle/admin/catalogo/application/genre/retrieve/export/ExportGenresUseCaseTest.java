@@ -0,0 +1,56 @@
+package com.fullcycle.admin.catalogo.application.genre.retrieve.export;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.list.GenreListOutput;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+public class ExportGenresUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultExportGenresUseCase useCase;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(genreGateway);
+    }
+
+    @Test
+    public void givenPersistedGenres_whenCallsExportGenres_shouldHandEachOneToTheActionInOrder() {
+        // given
+        final var genres = List.of(
+                Genre.newGenre("Ação", true).addCategories(List.of(CategoryID.from("123"), CategoryID.from("456"))),
+                Genre.newGenre("Drama", false)
+        );
+        final var expectedItems = genres.stream().map(GenreListOutput::from).toList();
+
+        doAnswer(invocation -> {
+            final Consumer<Genre> action = invocation.getArgument(0);
+            genres.forEach(action);
+            return null;
+        }).when(genreGateway).forEach(any());
+
+        // when
+        final var actualItems = new ArrayList<GenreListOutput>();
+        useCase.execute(actualItems::add);
+
+        // then
+        Assertions.assertEquals(expectedItems, actualItems);
+        Assertions.assertEquals(List.of("123", "456"), actualItems.get(0).categories());
+    }
+}
@@ -0,0 +1,103 @@
+package com.fullcycle.admin.catalogo.application.genre.retrieve.list;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.when;
+
+public class ListGenresByCategoryUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultListGenresByCategoryUseCase useCase;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(genreGateway, categoryGateway);
+    }
+
+    @Test
+    public void givenACategoryWithGenres_whenCallsListGenresByCategory_shouldSeekFromTheCursorWithoutLookingTheCategoryUp() {
+        // given
+        final var movies = CategoryID.from("123");
+        final var genres = List.of(
+                Genre.newGenre("Ação", true).addCategory(movies),
+                Genre.newGenre("Drama", true).addCategory(movies)
+        );
+        final var expectedQuery = new SearchQuery(0, 2, "", "id", "asc", "cursor", TotalMode.NONE);
+
+        when(genreGateway.findAllByCategory(any(), any()))
+                .thenReturn(new Pagination<>(0, 2, Pagination.UNKNOWN_TOTAL, genres, "next", true));
+
+        // when
+        final var actualOutput = useCase.execute(ListGenresByCategoryCommand.with("123", 2, "cursor", TotalMode.NONE));
+
+        // then
+        Assertions.assertEquals(genres.stream().map(GenreListOutput::from).toList(), actualOutput.items());
+        Assertions.assertEquals("next", actualOutput.nextCursor());
+        Assertions.assertTrue(actualOutput.hasMore());
+
+        Mockito.verify(genreGateway).findAllByCategory(eq(movies), eq(expectedQuery));
+        Mockito.verify(categoryGateway, never()).existsByIds(any());
+    }
+
+    @Test
+    public void givenACategoryWithoutGenres_whenCallsListGenresByCategory_shouldReturnAnEmptyPage() {
+        // given
+        final var movies = CategoryID.from("123");
+
+        when(genreGateway.findAllByCategory(any(), any()))
+                .thenReturn(new Pagination<>(0, 10, 0, List.of()));
+        when(categoryGateway.existsByIds(List.of(movies)))
+                .thenReturn(List.of(movies));
+
+        // when
+        final var actualOutput = useCase.execute(ListGenresByCategoryCommand.with("123", 10, null, TotalMode.EXACT));
+
+        // then
+        Assertions.assertEquals(0, actualOutput.total());
+        Assertions.assertTrue(actualOutput.items().isEmpty());
+    }
+
+    @Test
+    public void givenAnUnknownCategory_whenCallsListGenresByCategory_shouldThrowNotFound() {
+        // given
+        final var expectedErrorMessage = "Category with ID 123 was not found";
+
+        when(genreGateway.findAllByCategory(any(), any()))
+                .thenReturn(new Pagination<>(0, 10, 0, List.of()));
+        when(categoryGateway.existsByIds(any()))
+                .thenReturn(List.of());
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                NotFoundException.class,
+                () -> useCase.execute(ListGenresByCategoryCommand.with("123", 10, null, TotalMode.EXACT))
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
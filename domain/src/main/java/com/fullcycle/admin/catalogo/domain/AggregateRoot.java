@@ -1,7 +1,38 @@
 package com.fullcycle.admin.catalogo.domain;
 
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
 public abstract class AggregateRoot<ID extends Identifier> extends Entity<ID> {
+
+    private List<DomainEvent> domainEvents = new ArrayList<>();
+
     public AggregateRoot(ID id) {
         super(id);
     }
+
+    // Changes raised since the aggregate was loaded; the gateway stores them in the same transaction as its write.
+    public List<DomainEvent> getDomainEvents() {
+        return Collections.unmodifiableList(domainEvents);
+    }
+
+    public void clearDomainEvents() {
+        this.domainEvents.clear();
+    }
+
+    protected void registerEvent(final DomainEvent anEvent) {
+        this.domainEvents.add(Objects.requireNonNull(anEvent, "'event' should not be null"));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected AggregateRoot<ID> clone() throws CloneNotSupportedException {
+        final var aCopy = (AggregateRoot<ID>) super.clone();
+        aCopy.domainEvents = new ArrayList<>(this.domainEvents);
+        return aCopy;
+    }
 }
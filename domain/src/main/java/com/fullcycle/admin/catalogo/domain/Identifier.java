@@ -1,5 +1,98 @@
 package com.fullcycle.admin.catalogo.domain;
 
+import java.util.Objects;
+import java.util.UUID;
+
 public abstract class Identifier extends ValueObject {
-    public abstract String getValue();
+    private static final int UUID_LENGTH = 36;
+
+    // Canonical lowercase UUIDs, which is what unique() produces, are kept as two longs and only rendered
+    // on the first getValue(); any other id keeps its original string in 'raw'.
+    private final long mostSigBits;
+    private final long leastSigBits;
+    private final String raw;
+    private final int hash;
+    // Racy like String.hash: a thread that sees null renders the same immutable string again.
+    private String rendered;
+
+    protected Identifier(final String aValue) {
+        Objects.requireNonNull(aValue, "'id' should not be null");
+        if (isCanonicalUuid(aValue)) {
+            this.mostSigBits = parseHex(aValue, 0, 8) << 32 | parseHex(aValue, 9, 13) << 16 | parseHex(aValue, 14, 18);
+            this.leastSigBits = parseHex(aValue, 19, 23) << 48 | parseHex(aValue, 24, 36);
+            this.raw = null;
+        } else {
+            this.mostSigBits = 0;
+            this.leastSigBits = 0;
+            this.raw = aValue;
+        }
+        this.hash = computeHash();
+    }
+
+    protected Identifier(final UUID aValue) {
+        Objects.requireNonNull(aValue, "'id' should not be null");
+        this.mostSigBits = aValue.getMostSignificantBits();
+        this.leastSigBits = aValue.getLeastSignificantBits();
+        this.raw = null;
+        this.hash = computeHash();
+    }
+
+    public String getValue() {
+        if (raw != null) {
+            return raw;
+        }
+        var aValue = rendered;
+        if (aValue == null) {
+            aValue = new UUID(mostSigBits, leastSigBits).toString();
+            rendered = aValue;
+        }
+        return aValue;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final Identifier that = (Identifier) o;
+        return hash == that.hash
+                && mostSigBits == that.mostSigBits
+                && leastSigBits == that.leastSigBits
+                && Objects.equals(raw, that.raw);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    private int computeHash() {
+        return raw != null ? raw.hashCode() : Long.hashCode(mostSigBits ^ leastSigBits);
+    }
+
+    private static boolean isCanonicalUuid(final String aValue) {
+        if (aValue.length() != UUID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            final var c = aValue.charAt(i);
+            final var valid = (i == 8 || i == 13 || i == 18 || i == 23)
+                    ? c == '-'
+                    : (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f');
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long parseHex(final String aValue, final int begin, final int end) {
+        long result = 0;
+        for (int i = begin; i < end; i++) {
+            final var c = aValue.charAt(i);
+            if (c != '-') {
+                result = result << 4 | Character.digit(c, 16);
+            }
+        }
+        return result;
+    }
 }
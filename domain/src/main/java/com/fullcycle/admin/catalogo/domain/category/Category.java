@@ -14,6 +14,7 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
     private Instant createdAt;
     private Instant updatedAt;
     private Instant deletedAt;
+    private long version;
 
     private Category(
             final CategoryID anId,
@@ -22,7 +23,8 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
             final Boolean isActive,
             final Instant aCreatedDate,
             final Instant aUpdatedDate,
-            final Instant aDeletedDate
+            final Instant aDeletedDate,
+            final long aVersion
     ) {
         super(anId);
         this.name = aName;
@@ -31,13 +33,17 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         this.createdAt = Objects.requireNonNull(aCreatedDate, "'createdAt' should not be null");
         this.updatedAt = Objects.requireNonNull(aUpdatedDate, "'updatedAt' should not be null");
         this.deletedAt = aDeletedDate;
+        this.version = aVersion;
     }
 
     public static Category newCategory(final String aName, final String aDescription, final boolean isActive) {
         final var id = CategoryID.unique();
         final var now = InstantUtils.now();
         final var deletedAt = isActive ? null : now;
-        return new Category(id, aName, aDescription, isActive, now, now, deletedAt);
+        // An inactive category is created that way, not deactivated: its status travels in the one CategoryCreated.
+        final var aCategory = new Category(id, aName, aDescription, isActive, now, now, deletedAt, 0);
+        aCategory.registerEvent(CategoryCreated.from(aCategory));
+        return aCategory;
     }
 
     public static Category with(
@@ -47,7 +53,8 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
             final boolean active,
             final Instant createdAt,
             final Instant updatedAt,
-            final Instant deletedAt
+            final Instant deletedAt,
+            final long version
     ) {
         return new Category(
                 id,
@@ -56,7 +63,8 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
                 active,
                 createdAt,
                 updatedAt,
-                deletedAt
+                deletedAt,
+                version
         );
     }
 
@@ -66,19 +74,14 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
     }
 
     public Category deactivate() {
-        if (getDeletedAt() == null) {
-            this.deletedAt = InstantUtils.now();
-        }
-
-        this.active = false;
-        this.updatedAt = InstantUtils.now();
+        changeStatus(false);
+        registerEvent(CategoryDeactivated.with(getId(), this.updatedAt));
         return this;
     }
 
     public Category activate() {
-        this.active = true;
-        this.deletedAt = null;
-        this.updatedAt = InstantUtils.now();
+        changeStatus(true);
+        registerEvent(CategoryActivated.with(getId(), this.updatedAt));
         return this;
     }
 
@@ -87,15 +90,11 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
             final String aDescription,
             final boolean isActive
     ) {
-
-        if (isActive) {
-            activate();
-        } else {
-            deactivate();
-        }
+        changeStatus(isActive);
         this.name = aName;
         this.description = aDescription;
         this.updatedAt = InstantUtils.now();
+        registerEvent(CategoryUpdated.from(this));
         return this;
     }
 
@@ -123,6 +122,21 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         return deletedAt;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    // Shared by update, which raises a single CategoryUpdated carrying the status instead of a separate (de)activation.
+    private void changeStatus(final boolean isActive) {
+        if (isActive) {
+            this.deletedAt = null;
+        } else if (getDeletedAt() == null) {
+            this.deletedAt = InstantUtils.now();
+        }
+        this.active = isActive;
+        this.updatedAt = InstantUtils.now();
+    }
+
     @Override
     public Category clone() {
         try {
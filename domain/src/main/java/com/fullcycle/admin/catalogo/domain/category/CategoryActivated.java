@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
+
+import java.time.Instant;
+
+public record CategoryActivated(String id, Instant occurredOn) implements DomainEvent {
+
+    public static CategoryActivated with(final CategoryID anId, final Instant occurredOn) {
+        return new CategoryActivated(anId.getValue(), occurredOn);
+    }
+
+    @Override
+    public String aggregateId() {
+        return id;
+    }
+}
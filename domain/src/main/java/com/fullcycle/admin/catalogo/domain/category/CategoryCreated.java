@@ -0,0 +1,29 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
+
+import java.time.Instant;
+
+public record CategoryCreated(
+        String id,
+        String name,
+        String description,
+        boolean active,
+        Instant occurredOn
+) implements DomainEvent {
+
+    public static CategoryCreated from(final Category aCategory) {
+        return new CategoryCreated(
+                aCategory.getId().getValue(),
+                aCategory.getName(),
+                aCategory.getDescription(),
+                aCategory.isActive(),
+                aCategory.getCreatedAt()
+        );
+    }
+
+    @Override
+    public String aggregateId() {
+        return id;
+    }
+}
@@ -3,19 +3,34 @@ package com.fullcycle.admin.catalogo.domain.category;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface CategoryGateway {
     Category create(Category aCategory);
 
+    List<Category> createAll(List<Category> aCategories);
+
     void deleteById(CategoryID anId);
 
+    void deleteAllById(List<CategoryID> ids);
+
     Optional<Category> findById(CategoryID anId);
 
+    // The category as last committed, never from a cache nor a replica, for reads a write is checked against.
+    Optional<Category> findLatestById(CategoryID anId);
+
     Category update(Category aCategory);
 
     Pagination<Category> findAll(SearchQuery aQuery);
 
+    Pagination<CategorySummary> findAllSummaries(SearchQuery aQuery);
+
+    void forEachSummary(Consumer<CategorySummary> anAction);
+
     List<CategoryID> existsByIds(Iterable<CategoryID> ids);
+
+    List<CategoryID> updateStatus(List<CategoryID> ids, boolean isActive, Instant anUpdatedAt);
 }
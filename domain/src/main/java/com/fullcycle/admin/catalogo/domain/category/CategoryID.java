@@ -1,20 +1,22 @@
 package com.fullcycle.admin.catalogo.domain.category;
 
 import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
 
-import java.util.Objects;
 import java.util.UUID;
 
 public class CategoryID extends Identifier {
-    private final String value;
 
-    private CategoryID(String value) {
-        Objects.requireNonNull(value, "'id' should not be null");
-        this.value = value;
+    private CategoryID(final String value) {
+        super(value);
+    }
+
+    private CategoryID(final UUID value) {
+        super(value);
     }
 
     public static CategoryID unique() {
-        return from(UUID.randomUUID());
+        return from(IdUtils.uuid());
     }
 
     public static CategoryID from(final String anId) {
@@ -22,24 +24,6 @@ public class CategoryID extends Identifier {
     }
 
     public static CategoryID from(final UUID anId) {
-        return new CategoryID(anId.toString().toLowerCase());
-    }
-
-    @Override
-    public String getValue() {
-        return value;
-    }
-
-    @Override
-    public boolean equals(Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        CategoryID that = (CategoryID) o;
-        return Objects.equals(getValue(), that.getValue());
-    }
-
-    @Override
-    public int hashCode() {
-        return Objects.hash(getValue());
+        return new CategoryID(anId);
     }
 }
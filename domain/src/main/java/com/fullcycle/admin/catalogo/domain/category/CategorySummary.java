@@ -0,0 +1,13 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+import java.time.Instant;
+
+public record CategorySummary(
+        CategoryID id,
+        String name,
+        String description,
+        boolean isActive,
+        Instant createdAt,
+        Instant deletedAt
+) {
+}
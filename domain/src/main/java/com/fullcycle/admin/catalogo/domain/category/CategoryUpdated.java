@@ -0,0 +1,29 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
+
+import java.time.Instant;
+
+public record CategoryUpdated(
+        String id,
+        String name,
+        String description,
+        boolean active,
+        Instant occurredOn
+) implements DomainEvent {
+
+    public static CategoryUpdated from(final Category aCategory) {
+        return new CategoryUpdated(
+                aCategory.getId().getValue(),
+                aCategory.getName(),
+                aCategory.getDescription(),
+                aCategory.isActive(),
+                aCategory.getUpdatedAt()
+        );
+    }
+
+    @Override
+    public String aggregateId() {
+        return id;
+    }
+}
@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalogo.domain.events;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+public interface DomainEvent extends Serializable {
+
+    String aggregateId();
+
+    Instant occurredOn();
+}
@@ -0,0 +1,25 @@
+package com.fullcycle.admin.catalogo.domain.exceptions;
+
+import com.fullcycle.admin.catalogo.domain.AggregateRoot;
+import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+
+import java.util.Collections;
+import java.util.List;
+
+public class VersionConflictException extends DomainException {
+    protected VersionConflictException(String aMessage, List<Error> anErrors) {
+        super(aMessage, anErrors);
+    }
+
+    public static VersionConflictException with(
+            final Class<? extends AggregateRoot<?>> anAggregate,
+            final Identifier id
+    ) {
+        final var anError = "%s with ID %s was modified by another request".formatted(
+                anAggregate.getSimpleName(),
+                id.getValue()
+        );
+        return new VersionConflictException(anError, Collections.emptyList());
+    }
+}
@@ -10,7 +10,9 @@ import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 public class Genre extends AggregateRoot<GenreID> {
 
@@ -20,6 +22,9 @@ public class Genre extends AggregateRoot<GenreID> {
     private Instant createdAt;
     private Instant updatedAt;
     private Instant deletedAt;
+    private long version;
+    private final Set<CategoryID> addedCategories = new LinkedHashSet<>();
+    private final Set<CategoryID> removedCategories = new LinkedHashSet<>();
 
     private Genre(
             final GenreID anId,
@@ -28,7 +33,8 @@ public class Genre extends AggregateRoot<GenreID> {
             final List<CategoryID> categories,
             final Instant aCreatedAt,
             final Instant aUpdatedAt,
-            final Instant aDeletedAt
+            final Instant aDeletedAt,
+            final long aVersion
     ) {
         super(anId);
         this.name = aName;
@@ -37,21 +43,25 @@ public class Genre extends AggregateRoot<GenreID> {
         this.createdAt = aCreatedAt;
         this.updatedAt = aUpdatedAt;
         this.deletedAt = aDeletedAt;
+        this.version = aVersion;
 
         selfValidate();
     }
 
     public static Genre newGenre(final String aName, final boolean isActive) {
         final var now = InstantUtils.now();
-        return new Genre(
+        final var aGenre = new Genre(
                 GenreID.unique(),
                 aName,
                 isActive,
                 new ArrayList<>(),
                 now,
                 now,
-                isActive ? null : now
+                isActive ? null : now,
+                0
         );
+        aGenre.registerEvent(GenreCreated.from(aGenre));
+        return aGenre;
     }
 
     public static Genre with(
@@ -61,7 +71,8 @@ public class Genre extends AggregateRoot<GenreID> {
             final List<CategoryID> categories,
             final Instant aCreatedAt,
             final Instant aUpdatedAt,
-            final Instant aDeletedAt
+            final Instant aDeletedAt,
+            final long aVersion
     ) {
 
         return new Genre(
@@ -71,7 +82,8 @@ public class Genre extends AggregateRoot<GenreID> {
                 categories,
                 aCreatedAt,
                 aUpdatedAt,
-                aDeletedAt
+                aDeletedAt,
+                aVersion
         );
     }
 
@@ -79,15 +91,20 @@ public class Genre extends AggregateRoot<GenreID> {
             final Genre aGenre
     ) {
 
-        return new Genre(
+        final var aCopy = new Genre(
                 aGenre.id,
                 aGenre.name,
                 aGenre.active,
                 new ArrayList<>(aGenre.categories),
                 aGenre.createdAt,
                 aGenre.updatedAt,
-                aGenre.deletedAt
+                aGenre.deletedAt,
+                aGenre.version
         );
+        aCopy.addedCategories.addAll(aGenre.addedCategories);
+        aCopy.removedCategories.addAll(aGenre.removedCategories);
+        aGenre.getDomainEvents().forEach(aCopy::registerEvent);
+        return aCopy;
     }
 
 
@@ -103,9 +120,14 @@ public class Genre extends AggregateRoot<GenreID> {
         } else {
             deactivate();
         }
+        final var current = new LinkedHashSet<>(this.categories);
+        final var next = new LinkedHashSet<>(categories != null ? categories : Collections.<CategoryID>emptyList());
+        current.stream().filter(id -> !next.contains(id)).forEach(this::trackRemoved);
+        next.stream().filter(id -> !current.contains(id)).forEach(this::trackAdded);
         this.categories = new ArrayList<>(categories != null ? categories : Collections.emptyList());
         this.updatedAt = InstantUtils.now();
         selfValidate();
+        registerEvent(GenreUpdated.from(this));
         return this;
     }
 
@@ -126,11 +148,13 @@ public class Genre extends AggregateRoot<GenreID> {
     }
 
     public Genre addCategory(final CategoryID anCategoryId) {
-        if (anCategoryId == null) {
+        if (anCategoryId == null || this.categories.contains(anCategoryId)) {
             return this;
         }
+        trackAdded(anCategoryId);
         this.categories.add(anCategoryId);
         this.updatedAt = InstantUtils.now();
+        registerEvent(GenreCategoryAdded.with(getId(), anCategoryId, this.updatedAt));
         return this;
     }
 
@@ -138,8 +162,16 @@ public class Genre extends AggregateRoot<GenreID> {
         if (categories == null || categories.isEmpty()) {
             return this;
         }
-        this.categories.addAll(categories);
-        this.updatedAt = InstantUtils.now();
+        final var now = InstantUtils.now();
+        categories.stream()
+                .filter(id -> id != null && !this.categories.contains(id))
+                .distinct()
+                .forEach(id -> {
+                    trackAdded(id);
+                    this.categories.add(id);
+                    registerEvent(GenreCategoryAdded.with(getId(), id, now));
+                });
+        this.updatedAt = now;
         return this;
     }
 
@@ -147,8 +179,11 @@ public class Genre extends AggregateRoot<GenreID> {
         if (anCategoryId == null) {
             return this;
         }
-        this.categories.remove(anCategoryId);
         this.updatedAt = InstantUtils.now();
+        if (this.categories.remove(anCategoryId)) {
+            trackRemoved(anCategoryId);
+            registerEvent(GenreCategoryRemoved.with(getId(), anCategoryId, this.updatedAt));
+        }
         return this;
     }
 
@@ -164,6 +199,15 @@ public class Genre extends AggregateRoot<GenreID> {
         return Collections.unmodifiableList(categories);
     }
 
+    // Category links added or removed since the genre was loaded, so the gateway can write only the delta.
+    public Set<CategoryID> getAddedCategories() {
+        return Collections.unmodifiableSet(addedCategories);
+    }
+
+    public Set<CategoryID> getRemovedCategories() {
+        return Collections.unmodifiableSet(removedCategories);
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
@@ -176,6 +220,22 @@ public class Genre extends AggregateRoot<GenreID> {
         return deletedAt;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    private void trackAdded(final CategoryID anId) {
+        if (!this.removedCategories.remove(anId)) {
+            this.addedCategories.add(anId);
+        }
+    }
+
+    private void trackRemoved(final CategoryID anId) {
+        if (!this.addedCategories.remove(anId)) {
+            this.removedCategories.add(anId);
+        }
+    }
+
     private void selfValidate() {
         final var notification = Notification.create();
         validate(notification);
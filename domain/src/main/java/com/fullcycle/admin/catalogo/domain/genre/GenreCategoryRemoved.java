@@ -0,0 +1,18 @@
+package com.fullcycle.admin.catalogo.domain.genre;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
+
+import java.time.Instant;
+
+public record GenreCategoryRemoved(String id, String categoryId, Instant occurredOn) implements DomainEvent {
+
+    public static GenreCategoryRemoved with(final GenreID anId, final CategoryID aCategoryId, final Instant occurredOn) {
+        return new GenreCategoryRemoved(anId.getValue(), aCategoryId.getValue(), occurredOn);
+    }
+
+    @Override
+    public String aggregateId() {
+        return id;
+    }
+}
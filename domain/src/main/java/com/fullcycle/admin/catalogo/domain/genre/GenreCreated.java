@@ -0,0 +1,18 @@
+package com.fullcycle.admin.catalogo.domain.genre;
+
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
+
+import java.time.Instant;
+
+// Raised with no categories: links added before the genre is first written follow as GenreCategoryAdded.
+public record GenreCreated(String id, String name, boolean active, Instant occurredOn) implements DomainEvent {
+
+    public static GenreCreated from(final Genre aGenre) {
+        return new GenreCreated(aGenre.getId().getValue(), aGenre.getName(), aGenre.isActive(), aGenre.getCreatedAt());
+    }
+
+    @Override
+    public String aggregateId() {
+        return id;
+    }
+}
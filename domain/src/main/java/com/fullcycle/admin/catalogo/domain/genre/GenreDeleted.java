@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalogo.domain.genre;
+
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
+
+import java.time.Instant;
+
+public record GenreDeleted(String id, Instant occurredOn) implements DomainEvent {
+
+    public static GenreDeleted with(final GenreID anId, final Instant occurredOn) {
+        return new GenreDeleted(anId.getValue(), occurredOn);
+    }
+
+    @Override
+    public String aggregateId() {
+        return id;
+    }
+}
@@ -1,9 +1,11 @@
 package com.fullcycle.admin.catalogo.domain.genre;
 
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface GenreGateway {
     Genre create(Genre aGenre);
@@ -15,4 +17,8 @@ public interface GenreGateway {
     Genre update(Genre anGenre);
 
     Pagination<Genre> findAll(SearchQuery aQuery);
+
+    Pagination<Genre> findAllByCategory(CategoryID anId, SearchQuery aQuery);
+
+    void forEach(Consumer<Genre> anAction);
 }
@@ -1,20 +1,22 @@
 package com.fullcycle.admin.catalogo.domain.genre;
 
 import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
 
-import java.util.Objects;
 import java.util.UUID;
 
 public class GenreID extends Identifier {
-    private final String value;
 
-    private GenreID(String value) {
-        Objects.requireNonNull(value, "'id' should not be null");
-        this.value = value;
+    private GenreID(final String value) {
+        super(value);
+    }
+
+    private GenreID(final UUID value) {
+        super(value);
     }
 
     public static GenreID unique() {
-        return from(UUID.randomUUID());
+        return from(IdUtils.uuid());
     }
 
     public static GenreID from(final String anId) {
@@ -22,24 +24,6 @@ public class GenreID extends Identifier {
     }
 
     public static GenreID from(final UUID anId) {
-        return new GenreID(anId.toString().toLowerCase());
-    }
-
-    @Override
-    public String getValue() {
-        return value;
-    }
-
-    @Override
-    public boolean equals(Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        GenreID that = (GenreID) o;
-        return Objects.equals(getValue(), that.getValue());
-    }
-
-    @Override
-    public int hashCode() {
-        return Objects.hash(getValue());
+        return new GenreID(anId);
     }
 }
@@ -0,0 +1,31 @@
+package com.fullcycle.admin.catalogo.domain.genre;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
+
+import java.time.Instant;
+import java.util.List;
+
+public record GenreUpdated(
+        String id,
+        String name,
+        boolean active,
+        List<String> categoriesId,
+        Instant occurredOn
+) implements DomainEvent {
+
+    public static GenreUpdated from(final Genre aGenre) {
+        return new GenreUpdated(
+                aGenre.getId().getValue(),
+                aGenre.getName(),
+                aGenre.isActive(),
+                aGenre.getCategories().stream().map(CategoryID::getValue).toList(),
+                aGenre.getUpdatedAt()
+        );
+    }
+
+    @Override
+    public String aggregateId() {
+        return id;
+    }
+}
@@ -7,11 +7,33 @@ public record Pagination<T>(
         int currentPage,
         int perPage,
         long total,
-        List<T> items
+        List<T> items,
+        String nextCursor,
+        boolean hasMore
 ) {
+    public static final long UNKNOWN_TOTAL = -1;
+
+    public Pagination(
+            final int currentPage,
+            final int perPage,
+            final long total,
+            final List<T> items,
+            final String nextCursor
+    ) {
+        this(currentPage, perPage, total, items, nextCursor, nextCursor != null);
+    }
+
+    public Pagination(
+            final int currentPage,
+            final int perPage,
+            final long total,
+            final List<T> items
+    ) {
+        this(currentPage, perPage, total, items, null, (long) (currentPage + 1) * perPage < total);
+    }
 
     public <R> Pagination<R> map(final Function<T, R> mapper) {
         List<R> newList = this.items().stream().map(mapper).toList();
-        return new Pagination<>(currentPage(), perPage(), total(), newList);
+        return new Pagination<>(currentPage(), perPage(), total(), newList, nextCursor(), hasMore());
     }
 }
@@ -5,6 +5,40 @@ public record SearchQuery(
         int perPage,
         String terms,
         String sort,
-        String direction
+        String direction,
+        String after,
+        TotalMode totalMode
 ) {
+    public SearchQuery {
+        totalMode = totalMode != null ? totalMode : TotalMode.EXACT;
+    }
+
+    public SearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final String after
+    ) {
+        this(page, perPage, terms, sort, direction, after, TotalMode.EXACT);
+    }
+
+    public SearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction
+    ) {
+        this(page, perPage, terms, sort, direction, null);
+    }
+
+    public boolean hasCursor() {
+        return after != null && !after.isBlank();
+    }
+
+    public boolean hasTerms() {
+        return terms != null && !terms.isBlank();
+    }
 }
@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalogo.domain.pagination;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+
+import java.util.Arrays;
+
+public enum TotalMode {
+    EXACT,
+    ESTIMATED,
+    NONE;
+
+    public static TotalMode from(final String aMode) {
+        if (aMode == null || aMode.isBlank()) {
+            return EXACT;
+        }
+        return Arrays.stream(values())
+                .filter(mode -> mode.name().equalsIgnoreCase(aMode.trim()))
+                .findFirst()
+                .orElseThrow(() -> DomainException.with(
+                        new Error("'total' must be one of exact, estimated or none")
+                ));
+    }
+}
@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.domain.utils;
+
+import java.util.UUID;
+
+@FunctionalInterface
+public interface IdGenerator {
+    UUID next();
+}
@@ -0,0 +1,19 @@
+package com.fullcycle.admin.catalogo.domain.utils;
+
+import java.util.Objects;
+import java.util.UUID;
+
+public final class IdUtils {
+    private static volatile IdGenerator generator = new UuidV7Generator();
+
+    private IdUtils() {
+    }
+
+    public static UUID uuid() {
+        return generator.next();
+    }
+
+    public static void use(final IdGenerator aGenerator) {
+        generator = Objects.requireNonNull(aGenerator, "'generator' should not be null");
+    }
+}
@@ -0,0 +1,52 @@
+package com.fullcycle.admin.catalogo.domain.utils;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+public final class UuidV7Generator implements IdGenerator {
+
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RAND_B_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final int MAX_COUNTER = 0xFFF;
+    private static final int COUNTER_SEED_BOUND = 0x800;
+
+    private final LongSupplier clock;
+    private final ThreadLocal<long[]> lastTick = ThreadLocal.withInitial(() -> new long[]{-1L, 0L});
+
+    public UuidV7Generator() {
+        this(System::currentTimeMillis);
+    }
+
+    public UuidV7Generator(final LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    // 48-bit unix millis, then a 12-bit per-thread counter seeded randomly on every new millisecond
+    // (RFC 9562, method 1), so ids created by one thread are strictly increasing.
+    @Override
+    public UUID next() {
+        final var random = ThreadLocalRandom.current();
+        final var last = this.lastTick.get();
+
+        var millis = this.clock.getAsLong();
+        long counter;
+        if (millis > last[0]) {
+            counter = random.nextInt(COUNTER_SEED_BOUND);
+        } else {
+            millis = last[0];
+            counter = last[1] + 1;
+            if (counter > MAX_COUNTER) {
+                millis++;
+                counter = random.nextInt(COUNTER_SEED_BOUND);
+            }
+        }
+        last[0] = millis;
+        last[1] = counter;
+
+        final var mostSigBits = (millis << 16) | VERSION | counter;
+        final var leastSigBits = (random.nextLong() & RAND_B_MASK) | VARIANT;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -0,0 +1,55 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+public class CategoryIDTest {
+
+    @Test
+    public void givenAUuidAndItsString_whenCallsFrom_thenIdsAreEqualAndRenderTheSameValue() {
+        final var uuid = UUID.randomUUID();
+        final var expectedValue = uuid.toString();
+
+        final var fromUuid = CategoryID.from(uuid);
+        final var fromString = CategoryID.from(expectedValue);
+
+        Assertions.assertEquals(fromUuid, fromString);
+        Assertions.assertEquals(fromUuid.hashCode(), fromString.hashCode());
+        Assertions.assertEquals(expectedValue, fromUuid.getValue());
+        Assertions.assertEquals(expectedValue, fromString.getValue());
+    }
+
+    @Test
+    public void givenACanonicalId_whenCallsGetValueTwice_thenRenderItOnce() {
+        final var anId = CategoryID.unique();
+
+        Assertions.assertSame(anId.getValue(), anId.getValue());
+    }
+
+    @Test
+    public void givenNonCanonicalValues_whenCallsFrom_thenKeepTheOriginalString() {
+        final var upperCase = UUID.randomUUID().toString().toUpperCase();
+
+        Assertions.assertEquals("123", CategoryID.from("123").getValue());
+        Assertions.assertEquals(upperCase, CategoryID.from(upperCase).getValue());
+        Assertions.assertNotEquals(CategoryID.from(upperCase), CategoryID.from(upperCase.toLowerCase()));
+        Assertions.assertEquals(CategoryID.from("123"), CategoryID.from("123"));
+    }
+
+    @Test
+    public void givenSameValueOnDifferentIdentifiers_whenCallsEquals_thenReturnFalse() {
+        final var uuid = UUID.randomUUID();
+
+        Assertions.assertNotEquals(CategoryID.from(uuid), GenreID.from(uuid));
+    }
+
+    @Test
+    public void givenANullValue_whenCallsFrom_thenThrowNullPointerException() {
+        final var actualException = Assertions.assertThrows(NullPointerException.class, () -> CategoryID.from((String) null));
+
+        Assertions.assertEquals("'id' should not be null", actualException.getMessage());
+    }
+}
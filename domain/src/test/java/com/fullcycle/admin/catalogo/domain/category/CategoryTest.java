@@ -5,6 +5,8 @@ import com.fullcycle.admin.catalogo.domain.validation.handler.ThrowsValidationHa
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 public class CategoryTest {
 
     @Test
@@ -252,4 +254,39 @@ public class CategoryTest {
         Assertions.assertTrue(actualCategory.getUpdatedAt().isAfter(updatedAt));
         Assertions.assertNull(actualCategory.getDeletedAt());
     }
+
+    @Test
+    public void givenAValidCategory_whenCallUpdateActivateAndDeactivate_thenRaiseOneEventEach() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        aCategory.clearDomainEvents();
+
+        aCategory.update("Séries", null, false);
+        final var aCopy = aCategory.clone().activate();
+        aCategory.deactivate();
+
+        final var expectedUpdate = new CategoryUpdated(aCategory.getId().getValue(), "Séries", null, false, aCategory.getDomainEvents().get(0).occurredOn());
+        Assertions.assertEquals(
+                List.of(expectedUpdate, CategoryDeactivated.with(aCategory.getId(), aCategory.getUpdatedAt())),
+                aCategory.getDomainEvents()
+        );
+        Assertions.assertEquals(
+                List.of(expectedUpdate, CategoryActivated.with(aCategory.getId(), aCopy.getUpdatedAt())),
+                aCopy.getDomainEvents()
+        );
+
+        aCategory.clearDomainEvents();
+
+        Assertions.assertTrue(aCategory.getDomainEvents().isEmpty());
+        Assertions.assertEquals(2, aCopy.getDomainEvents().size());
+    }
+
+    @Test
+    public void givenAnInactiveNewCategory_whenCallNewCategory_thenRaiseOnlyCategoryCreated() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", false);
+
+        Assertions.assertEquals(
+                List.of(new CategoryCreated(aCategory.getId().getValue(), "Filmes", "A categoria mais assistida", false, aCategory.getCreatedAt())),
+                aCategory.getDomainEvents()
+        );
+    }
 }
@@ -2,11 +2,13 @@ package com.fullcycle.admin.catalogo.domain.genre;
 
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 public class GenreTest {
     @Test
@@ -427,4 +429,97 @@ public class GenreTest {
         Assertions.assertEquals(actualUpdatedAt, actualGenre.getUpdatedAt());
         Assertions.assertNull(actualGenre.getDeletedAt());
     }
+
+    @Test
+    public void givenAPersistedGenre_whenAddsAndRemovesCategories_shouldTrackOnlyTheDelta() {
+        final var movies = CategoryID.from("123");
+        final var tvShows = CategoryID.from("456");
+        final var documentaries = CategoryID.from("789");
+
+        final var actualGenre = Genre.with(
+                GenreID.unique(), "Ação", true, new ArrayList<>(List.of(movies, tvShows)),
+                InstantUtils.now(), InstantUtils.now(), null, 0
+        );
+
+        Assertions.assertTrue(actualGenre.getAddedCategories().isEmpty());
+        Assertions.assertTrue(actualGenre.getRemovedCategories().isEmpty());
+
+        actualGenre.removeCategory(tvShows)
+                .addCategory(documentaries)
+                .addCategory(movies);
+
+        Assertions.assertEquals(List.of(movies, documentaries), actualGenre.getCategories());
+        Assertions.assertEquals(Set.of(documentaries), actualGenre.getAddedCategories());
+        Assertions.assertEquals(Set.of(tvShows), actualGenre.getRemovedCategories());
+
+        actualGenre.addCategory(tvShows).removeCategory(documentaries);
+
+        Assertions.assertTrue(actualGenre.getAddedCategories().isEmpty());
+        Assertions.assertTrue(actualGenre.getRemovedCategories().isEmpty());
+    }
+
+    @Test
+    public void givenAPersistedGenre_whenCallUpdateWithCategories_shouldTrackTheDifference() {
+        final var movies = CategoryID.from("123");
+        final var tvShows = CategoryID.from("456");
+        final var documentaries = CategoryID.from("789");
+
+        final var actualGenre = Genre.with(
+                GenreID.unique(), "Ação", true, new ArrayList<>(List.of(movies, tvShows)),
+                InstantUtils.now(), InstantUtils.now(), null, 0
+        );
+
+        actualGenre.update("Ação", true, List.of(tvShows, documentaries));
+
+        Assertions.assertEquals(List.of(tvShows, documentaries), actualGenre.getCategories());
+        Assertions.assertEquals(Set.of(documentaries), actualGenre.getAddedCategories());
+        Assertions.assertEquals(Set.of(movies), actualGenre.getRemovedCategories());
+    }
+
+    @Test
+    public void givenAPersistedGenre_whenChangingIt_shouldRaiseAnEventPerChange() {
+        final var movies = CategoryID.from("123");
+        final var tvShows = CategoryID.from("456");
+        final var documentaries = CategoryID.from("789");
+
+        final var actualGenre = Genre.with(
+                GenreID.unique(), "Ação", true, new ArrayList<>(List.of(movies)),
+                InstantUtils.now(), InstantUtils.now(), null, 0
+        );
+        final var anId = actualGenre.getId();
+
+        actualGenre.addCategory(tvShows)
+                .addCategory(tvShows)
+                .removeCategory(documentaries)
+                .removeCategory(movies);
+        final var addedAt = actualGenre.getDomainEvents().get(0).occurredOn();
+        final var removedAt = actualGenre.getUpdatedAt();
+        actualGenre.update("Terror", false, List.of(documentaries));
+
+        Assertions.assertEquals(
+                List.of(
+                        GenreCategoryAdded.with(anId, tvShows, addedAt),
+                        GenreCategoryRemoved.with(anId, movies, removedAt),
+                        new GenreUpdated(anId.getValue(), "Terror", false, List.of("789"), actualGenre.getUpdatedAt())
+                ),
+                actualGenre.getDomainEvents()
+        );
+        Assertions.assertEquals(actualGenre.getDomainEvents(), Genre.with(actualGenre).getDomainEvents());
+    }
+
+    @Test
+    public void givenANewGenreWithCategories_whenCallNewGenre_shouldRaiseGenreCreatedThenOneEventPerLink() {
+        final var movies = CategoryID.from("123");
+
+        final var actualGenre = Genre.newGenre("Ação", false).addCategory(movies);
+        final var anId = actualGenre.getId();
+
+        Assertions.assertEquals(
+                List.of(
+                        new GenreCreated(anId.getValue(), "Ação", false, actualGenre.getCreatedAt()),
+                        GenreCategoryAdded.with(anId, movies, actualGenre.getUpdatedAt())
+                ),
+                actualGenre.getDomainEvents()
+        );
+    }
 }
@@ -0,0 +1,43 @@
+package com.fullcycle.admin.catalogo.domain.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.UUID;
+
+public class UuidV7GeneratorTest {
+
+    @Test
+    public void givenAFixedClock_whenCallsNext_thenReturnVersion7IdsCarryingTheTimestamp() {
+        final var expectedMillis = 1_700_000_000_000L;
+        final var generator = new UuidV7Generator(() -> expectedMillis);
+
+        final var actualId = generator.next();
+
+        Assertions.assertEquals(7, actualId.version());
+        Assertions.assertEquals(2, actualId.variant());
+        Assertions.assertEquals(expectedMillis, actualId.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    public void givenManyIdsInTheSameMillisecond_whenCallsNext_thenIdsAreUniqueAndStrictlyIncreasing() {
+        final var generator = new UuidV7Generator(() -> 1_700_000_000_000L);
+        final var ids = new ArrayList<UUID>();
+
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.next());
+        }
+
+        Assertions.assertEquals(ids.size(), new HashSet<>(ids).size());
+        for (int i = 1; i < ids.size(); i++) {
+            Assertions.assertTrue(ids.get(i - 1).toString().compareTo(ids.get(i).toString()) < 0);
+        }
+    }
+
+    @Test
+    public void givenADefaultGenerator_whenCallsIdUtils_thenReturnVersion7Id() {
+        Assertions.assertEquals(7, IdUtils.uuid().version());
+    }
+}
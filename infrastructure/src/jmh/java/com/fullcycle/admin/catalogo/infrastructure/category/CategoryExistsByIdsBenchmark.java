@@ -0,0 +1,73 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.WebServerConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CategoryExistsByIdsBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private CategoryMySQLGateway gateway;
+    private List<CategoryID> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = new SpringApplicationBuilder(WebServerConfig.class)
+                .profiles("test-integration")
+                .web(WebApplicationType.NONE)
+                .run();
+        this.gateway = this.context.getBean(CategoryMySQLGateway.class);
+
+        final var repository = this.context.getBean(CategoryRepository.class);
+        final var entities = new ArrayList<CategoryJpaEntity>(size);
+        this.ids = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final var aCategory = Category.newCategory("Categoria " + i, null, true);
+            entities.add(CategoryJpaEntity.from(aCategory));
+            this.ids.add(aCategory.getId());
+        }
+        repository.saveAll(entities);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.getBean(CategoryRepository.class).deleteAllInBatch();
+        this.context.close();
+    }
+
+    @Benchmark
+    public List<CategoryID> existsByIds() {
+        return this.gateway.existsByIds(this.ids);
+    }
+}
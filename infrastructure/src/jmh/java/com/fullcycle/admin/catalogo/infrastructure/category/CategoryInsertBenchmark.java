@@ -0,0 +1,77 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import com.fullcycle.admin.catalogo.domain.utils.UuidV7Generator;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.WebServerConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserts batches of categories keyed by random (v4) or time-ordered (v7) ids into a growing table.
+ * Runs on the H2 test profile by default; pass -Dbenchmark.profile=development to measure InnoDB.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CategoryInsertBenchmark {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Param({"random", "v7"})
+    private String generator;
+
+    private ConfigurableApplicationContext context;
+    private CategoryRepository repository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        IdUtils.use("v7".equals(generator) ? new UuidV7Generator() : UUID::randomUUID);
+        this.context = new SpringApplicationBuilder(WebServerConfig.class)
+                .profiles(System.getProperty("benchmark.profile", "test-integration"))
+                .web(WebApplicationType.NONE)
+                .run();
+        this.repository = this.context.getBean(CategoryRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.repository.deleteAllInBatch();
+        this.context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<CategoryJpaEntity> insert() {
+        final var entities = new ArrayList<CategoryJpaEntity>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            entities.add(CategoryJpaEntity.from(Category.newCategory("Categoria " + i, null, true)));
+        }
+        return this.repository.saveAll(entities);
+    }
+}
@@ -0,0 +1,79 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.WebServerConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 8, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CategoryListBenchmark {
+
+    private static final int ROWS = 5_000;
+
+    @Param({"100", "1000"})
+    private int perPage;
+
+    private ConfigurableApplicationContext context;
+    private CategoryMySQLGateway gateway;
+    private SearchQuery query;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = new SpringApplicationBuilder(WebServerConfig.class)
+                .profiles("test-integration")
+                .web(WebApplicationType.NONE)
+                .run();
+        this.gateway = this.context.getBean(CategoryMySQLGateway.class);
+
+        final var entities = new ArrayList<CategoryJpaEntity>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            entities.add(CategoryJpaEntity.from(Category.newCategory("Categoria " + i, "Descrição da categoria " + i, true)));
+        }
+        this.context.getBean(CategoryRepository.class).saveAll(entities);
+        this.query = new SearchQuery(0, perPage, "", "name", "asc", null, TotalMode.NONE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.getBean(CategoryRepository.class).deleteAllInBatch();
+        this.context.close();
+    }
+
+    @Benchmark
+    public Pagination<CategoryListOutput> entities() {
+        return this.gateway.findAll(this.query).map(CategoryListOutput::from);
+    }
+
+    @Benchmark
+    public Pagination<CategoryListOutput> projection() {
+        return this.gateway.findAllSummaries(this.query).map(CategoryListOutput::from);
+    }
+}
@@ -0,0 +1,108 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.WebServerConfig;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 8, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GenreUpdateBenchmark {
+
+    @Param({"50", "500"})
+    private int categories;
+
+    private ConfigurableApplicationContext context;
+    private GenreMySQLGateway gateway;
+    private EntityManager entityManager;
+    private TransactionTemplate transaction;
+    private Genre current;
+    private CategoryID spare;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = new SpringApplicationBuilder(WebServerConfig.class)
+                .profiles("test-integration")
+                .web(WebApplicationType.NONE)
+                .run();
+        this.gateway = this.context.getBean(GenreMySQLGateway.class);
+        this.entityManager = this.context.getBean(EntityManager.class);
+        this.transaction = new TransactionTemplate(this.context.getBean(PlatformTransactionManager.class));
+
+        final var ids = new ArrayList<CategoryID>(categories + 1);
+        final var entities = new ArrayList<CategoryJpaEntity>(categories + 1);
+        for (int i = 0; i <= categories; i++) {
+            final var aCategory = Category.newCategory("Categoria " + i, null, true);
+            ids.add(aCategory.getId());
+            entities.add(CategoryJpaEntity.from(aCategory));
+        }
+        this.context.getBean(CategoryRepository.class).saveAll(entities);
+
+        this.spare = ids.remove(categories);
+        this.current = this.gateway.create(Genre.newGenre("Ação", true).addCategories(ids));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.getBean(GenreRepository.class).deleteAllInBatch();
+        this.context.getBean(CategoryRepository.class).deleteAllInBatch();
+        this.context.close();
+    }
+
+    @Benchmark
+    public Genre delta() {
+        this.current = this.gateway.update(swapOneCategory());
+        return this.current;
+    }
+
+    // What the gateway did before: merge the whole links collection on every save.
+    @Benchmark
+    public Genre fullRewrite() {
+        final var aGenre = swapOneCategory();
+        this.current = this.transaction.execute(status -> {
+            final var merged = this.entityManager.merge(GenreJpaEntity.from(aGenre));
+            this.entityManager.flush();
+            return merged.toAggregate();
+        });
+        return this.current;
+    }
+
+    private Genre swapOneCategory() {
+        final var removed = this.current.getCategories().get(0);
+        final var aGenre = Genre.with(this.current)
+                .removeCategory(removed)
+                .addCategory(this.spare);
+        this.spare = removed;
+        return aGenre;
+    }
+}
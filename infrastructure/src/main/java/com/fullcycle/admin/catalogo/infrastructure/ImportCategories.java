@@ -0,0 +1,40 @@
+package com.fullcycle.admin.catalogo.infrastructure;
+
+import com.fullcycle.admin.catalogo.application.category.create.ImportCategoriesCommand;
+import com.fullcycle.admin.catalogo.application.category.create.ImportCategoriesUseCase;
+import com.fullcycle.admin.catalogo.infrastructure.category.importer.CategoryImportFormat;
+import com.fullcycle.admin.catalogo.infrastructure.category.presenters.CategoryApiPresenter;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.WebServerConfig;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.core.env.AbstractEnvironment;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Imports a category file straight into the database, e.g. gradle importCategories -Pfile=categories.csv
+public class ImportCategories {
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: ImportCategories <file.ndjson|file.jsonl|file.csv>");
+            System.exit(2);
+        }
+
+        final var file = Path.of(args[0]);
+        final var format = CategoryImportFormat.fromFileName(file.getFileName().toString());
+
+        System.setProperty(AbstractEnvironment.DEFAULT_PROFILES_PROPERTY_NAME, "development");
+        final int status;
+        try (final var context = new SpringApplicationBuilder(WebServerConfig.class).web(WebApplicationType.NONE).run();
+             final var in = new BufferedInputStream(Files.newInputStream(file))) {
+            final var output = context.getBean(ImportCategoriesUseCase.class)
+                    .execute(ImportCategoriesCommand.with(format.rows(in)));
+            System.out.println(Json.writeValueAsString(CategoryApiPresenter.present(output)));
+            status = output.rejected() == 0 ? 0 : 1;
+        }
+        System.exit(status);
+    }
+}
@@ -1,18 +1,30 @@
 package com.fullcycle.admin.catalogo.infrastructure.api;
 
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.category.importer.CategoryImportFormat;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryListResponse;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryResponse;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategoryBatchResponse;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.ImportCategoriesResponse;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.UpdateCategoriesStatusRequest;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.UpdateCategoriesStatusResponse;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
+import com.fullcycle.admin.catalogo.infrastructure.genre.models.GenreListResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.List;
 
 @RequestMapping(value = "categories")
 @Tag(name = "Categories")
@@ -29,8 +41,54 @@ public interface CategoryApi {
     })
     ResponseEntity<?> createCategory(@RequestBody CreateCategoryRequest input);
 
+    @PostMapping(
+            value = "batch",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(
+            summary = "Create many categories at once",
+            description = "Valid items are persisted in a single transaction; the response has one result per item, in order. "
+                    + "The list must not be empty nor exceed the configured maximum, 1000 by default"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "All categories were created"),
+            @ApiResponse(responseCode = "207", description = "Some items were rejected, see the per-item errors"),
+            @ApiResponse(responseCode = "422", description = "No category was created, or the list was empty or too large"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<List<CreateCategoryBatchResponse>> createCategories(@RequestBody List<CreateCategoryRequest> input);
+
+    @PostMapping(
+            value = "import",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, CategoryImportFormat.TEXT_CSV_VALUE},
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(
+            summary = "Import categories from an NDJSON or CSV body",
+            description = "The body is read row by row and written in batches, so files of any size can be sent in one request. "
+                    + "CSV needs a header with a 'name' column and optional 'description' and 'is_active' columns"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Every row was imported"),
+            @ApiResponse(responseCode = "207", description = "Some rows were rejected, see 'rejections'"),
+            @ApiResponse(responseCode = "415", description = "The body is neither NDJSON nor CSV"),
+            @ApiResponse(responseCode = "422", description = "No row was imported, or the body is malformed"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<ImportCategoriesResponse> importCategories(
+            @RequestHeader(name = HttpHeaders.CONTENT_TYPE) String contentType,
+            @Parameter(hidden = true) InputStream body
+    );
+
     @GetMapping
-    @Operation(summary = "List all categories paginated")
+    @Operation(
+            summary = "List all categories paginated",
+            description = "Pass the returned 'next_cursor' as 'after' to seek the next page instead of using an offset. "
+                    + "Searches ranked by relevance return no 'next_cursor' and are paged with 'page' only. "
+                    + "Use 'total' as estimated or none to skip the exact count, relying on 'has_more' instead. "
+                    + "'sort' accepts name, createdAt or deletedAt"
+    )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Listed successfully"),
             @ApiResponse(responseCode = "422", description = "A invalid parameter was received"),
@@ -41,9 +99,25 @@ public interface CategoryApi {
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "after", required = false) final String after,
+            @RequestParam(name = "total", required = false, defaultValue = "exact") final String total
     );
 
+    @GetMapping(
+            value = "export",
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    @Operation(
+            summary = "Export every category",
+            description = "Streams all categories as newline-delimited JSON, one list item per line, ordered by identifier"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exported successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<StreamingResponseBody> exportCategories();
+
     @GetMapping(
             value = "{id}",
             produces = MediaType.APPLICATION_JSON_VALUE
@@ -54,7 +128,29 @@ public interface CategoryApi {
             @ApiResponse(responseCode = "404", description = "Category not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    CategoryResponse getById(@PathVariable(name = "id") String id);
+    ResponseEntity<CategoryResponse> getById(@PathVariable(name = "id") String id);
+
+    @GetMapping(
+            value = "{id}/genres",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(
+            summary = "List the genres that use a category",
+            description = "Genres come in identifier order; pass the returned 'next_cursor' as 'after' to get the next page. "
+                    + "Use 'total' as estimated or none to skip the count, relying on 'has_more' instead"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "404", description = "Category not found"),
+            @ApiResponse(responseCode = "422", description = "A invalid parameter was received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    Pagination<GenreListResponse> listGenres(
+            @PathVariable(name = "id") String id,
+            @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
+            @RequestParam(name = "after", required = false) final String after,
+            @RequestParam(name = "total", required = false, defaultValue = "exact") final String total
+    );
 
     @PutMapping(
             value = "{id}",
@@ -65,9 +161,28 @@ public interface CategoryApi {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Category updated successfully"),
             @ApiResponse(responseCode = "404", description = "Category not found"),
+            @ApiResponse(responseCode = "412", description = "Category was modified since the given If-Match version"),
+            @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<?> updateById(
+            @PathVariable(name = "id") String id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody UpdateCategoryRequest input
+    );
+
+    @PatchMapping(
+            value = "status",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Activate or deactivate many categories at once")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Status updated; unknown ids are listed in 'not_found'"),
+            @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    ResponseEntity<?> updateById(@PathVariable(name = "id") String id, @RequestBody UpdateCategoryRequest input);
+    UpdateCategoriesStatusResponse updateStatus(@RequestBody UpdateCategoriesStatusRequest input);
 
     @DeleteMapping(
             value = "{id}",
@@ -81,4 +196,16 @@ public interface CategoryApi {
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
     void deleteById(@PathVariable(name = "id") String id);
+
+    @DeleteMapping
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(
+            summary = "Delete many categories by their identifiers",
+            description = "Pass the identifiers as 'ids=a,b,c'; unknown identifiers are ignored"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Categories deleted successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    void deleteByIds(@RequestParam(name = "ids") List<String> ids);
 }
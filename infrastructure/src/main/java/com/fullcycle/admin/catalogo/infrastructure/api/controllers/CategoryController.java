@@ -1,45 +1,89 @@
 package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
 
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryOutput;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.ImportCategoriesCommand;
+import com.fullcycle.admin.catalogo.application.category.create.ImportCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoriesStatusCommand;
+import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoriesStatusUseCase;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryCommand;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryOutput;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.list.ListGenresByCategoryCommand;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.list.ListGenresByCategoryUseCase;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
 import com.fullcycle.admin.catalogo.infrastructure.api.CategoryApi;
+import com.fullcycle.admin.catalogo.infrastructure.category.importer.CategoryImportFormat;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryListResponse;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryResponse;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategoryBatchResponse;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.ImportCategoriesResponse;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.UpdateCategoriesStatusRequest;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.UpdateCategoriesStatusResponse;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategorySort;
 import com.fullcycle.admin.catalogo.infrastructure.category.presenters.CategoryApiPresenter;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.JsonLines;
+import com.fullcycle.admin.catalogo.infrastructure.genre.models.GenreListResponse;
+import com.fullcycle.admin.catalogo.infrastructure.genre.presenters.GenreApiPresenter;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SliceQueries;
+import io.vavr.control.Either;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 
 @RestController
 public class CategoryController implements CategoryApi {
 
+    private static final Pattern VERSION_TAG = Pattern.compile("\"(\\d{1,18})\"");
+
     private final CreateCategoryUseCase createCategoryUseCase;
+    private final CreateCategoriesUseCase createCategoriesUseCase;
     private final GetCategoryByIdUseCase getCategoryByIdUseCase;
     private final UpdateCategoryUseCase updateCategoryUseCase;
+    private final UpdateCategoriesStatusUseCase updateCategoriesStatusUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
+    private final DeleteCategoriesUseCase deleteCategoriesUseCase;
     private final ListCategoriesUseCase listCategoriesUseCase;
+    private final ExportCategoriesUseCase exportCategoriesUseCase;
+    private final ImportCategoriesUseCase importCategoriesUseCase;
+    private final ListGenresByCategoryUseCase listGenresByCategoryUseCase;
 
-    public CategoryController(CreateCategoryUseCase createCategoryUseCase, GetCategoryByIdUseCase getCategoryByIdUseCase, UpdateCategoryUseCase updateCategoryUseCase, DeleteCategoryUseCase deleteCategoryUseCase, ListCategoriesUseCase listCategoriesUseCase) {
+    public CategoryController(CreateCategoryUseCase createCategoryUseCase, CreateCategoriesUseCase createCategoriesUseCase, GetCategoryByIdUseCase getCategoryByIdUseCase, UpdateCategoryUseCase updateCategoryUseCase, UpdateCategoriesStatusUseCase updateCategoriesStatusUseCase, DeleteCategoryUseCase deleteCategoryUseCase, DeleteCategoriesUseCase deleteCategoriesUseCase, ListCategoriesUseCase listCategoriesUseCase, ExportCategoriesUseCase exportCategoriesUseCase, ImportCategoriesUseCase importCategoriesUseCase, ListGenresByCategoryUseCase listGenresByCategoryUseCase) {
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
+        this.createCategoriesUseCase = Objects.requireNonNull(createCategoriesUseCase);
         this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
+        this.updateCategoriesStatusUseCase = Objects.requireNonNull(updateCategoriesStatusUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
+        this.deleteCategoriesUseCase = Objects.requireNonNull(deleteCategoriesUseCase);
         this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.exportCategoriesUseCase = Objects.requireNonNull(exportCategoriesUseCase);
+        this.importCategoriesUseCase = Objects.requireNonNull(importCategoriesUseCase);
+        this.listGenresByCategoryUseCase = Objects.requireNonNull(listGenresByCategoryUseCase);
     }
 
     @Override
@@ -59,42 +103,156 @@ public class CategoryController implements CategoryApi {
                 .fold(onError, onSuccess);
     }
 
+    @Override
+    public ResponseEntity<List<CreateCategoryBatchResponse>> createCategories(final List<CreateCategoryRequest> input) {
+        final var aCommands = input.stream()
+                .map(item -> CreateCategoryCommand.with(
+                        item.name(),
+                        item.description(),
+                        item.active() != null ? item.active() : true
+                ))
+                .toList();
+
+        final var results = this.createCategoriesUseCase.execute(aCommands);
+        final var output = IntStream.range(0, results.size())
+                .mapToObj(index -> CategoryApiPresenter.present(index, results.get(index)))
+                .toList();
+
+        final var created = results.stream().filter(Either::isRight).count();
+        if (created == results.size()) {
+            return ResponseEntity.status(HttpStatus.CREATED).body(output);
+        }
+        if (created == 0) {
+            return ResponseEntity.unprocessableEntity().body(output);
+        }
+        return ResponseEntity.status(HttpStatus.MULTI_STATUS).body(output);
+    }
+
+    @Override
+    public ResponseEntity<ImportCategoriesResponse> importCategories(final String contentType, final InputStream body) {
+        final var rows = CategoryImportFormat.fromContentType(contentType).rows(body);
+        final var output = CategoryApiPresenter.present(
+                this.importCategoriesUseCase.execute(ImportCategoriesCommand.with(rows))
+        );
+
+        if (output.rejected() == 0) {
+            return ResponseEntity.status(HttpStatus.CREATED).body(output);
+        }
+        if (output.imported() == 0) {
+            return ResponseEntity.unprocessableEntity().body(output);
+        }
+        return ResponseEntity.status(HttpStatus.MULTI_STATUS).body(output);
+    }
+
     @Override
     public Pagination<CategoryListResponse> listCategories(
             String search,
             int page,
             int perPage,
             String sort,
-            String direction
+            String direction,
+            String after,
+            String total
     ) {
-        return listCategoriesUseCase.execute(new SearchQuery(page, perPage, search, sort, direction))
+        // Unknown sorts are rejected here, before the use case opens a transaction.
+        final var aSort = CategorySort.from(sort);
+        final var aDirection = SliceQueries.direction(direction);
+        final var aQuery = new SearchQuery(
+                page,
+                perPage,
+                search,
+                aSort.field(),
+                aDirection.name().toLowerCase(),
+                after,
+                TotalMode.from(total)
+        );
+        return listCategoriesUseCase.execute(aQuery)
                 .map(CategoryApiPresenter::present);
     }
 
     @Override
-    public CategoryResponse getById(final String id) {
-        return CategoryApiPresenter.present(this.getCategoryByIdUseCase.execute(id));
+    public ResponseEntity<StreamingResponseBody> exportCategories() {
+        // Runs on the export executor after the headers are sent; the use case's transaction spans the whole stream.
+        final StreamingResponseBody body = out -> {
+            try (final var lines = JsonLines.to(out)) {
+                this.exportCategoriesUseCase.execute(output -> lines.accept(CategoryApiPresenter.present(output)));
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @Override
+    public ResponseEntity<CategoryResponse> getById(final String id) {
+        final var output = this.getCategoryByIdUseCase.execute(id);
+        return ResponseEntity.ok()
+                .eTag(eTag(output.version()))
+                .body(CategoryApiPresenter.present(output));
+    }
+
+    @Override
+    public Pagination<GenreListResponse> listGenres(final String id, final int perPage, final String after, final String total) {
+        final var aCommand = ListGenresByCategoryCommand.with(id, perPage, after, TotalMode.from(total));
+        return this.listGenresByCategoryUseCase.execute(aCommand)
+                .map(GenreApiPresenter::present);
     }
 
     @Override
-    public ResponseEntity<?> updateById(final String id, final UpdateCategoryRequest input) {
+    public ResponseEntity<?> updateById(final String id, final String ifMatch, final UpdateCategoryRequest input) {
         final var aCommand = UpdateCategoryCommand.with(
                 id,
                 input.name(),
                 input.description(),
-                input.active() != null ? input.active() : true
+                input.active() != null ? input.active() : true,
+                expectedVersion(ifMatch)
         );
 
         final Function<Notification, ResponseEntity<?>> onError = ResponseEntity.unprocessableEntity()::body;
 
-        final Function<UpdateCategoryOutput, ResponseEntity<?>> onSuccess = ResponseEntity::ok;
+        final Function<UpdateCategoryOutput, ResponseEntity<?>> onSuccess = output -> ResponseEntity.ok()
+                .eTag(eTag(output.version()))
+                .body(output);
 
         return this.updateCategoryUseCase.execute(aCommand)
                 .fold(onError, onSuccess);
     }
 
+    @Override
+    public UpdateCategoriesStatusResponse updateStatus(final UpdateCategoriesStatusRequest input) {
+        if (input.active() == null) {
+            throw DomainException.with(new Error("'is_active' should not be null"));
+        }
+
+        final var aCommand = UpdateCategoriesStatusCommand.with(
+                input.ids() != null ? input.ids() : List.of(),
+                input.active()
+        );
+
+        final var output = this.updateCategoriesStatusUseCase.execute(aCommand);
+        return new UpdateCategoriesStatusResponse(output.updated(), output.notFound());
+    }
+
     @Override
     public void deleteById(final String id) {
         deleteCategoryUseCase.execute(id);
     }
+
+    @Override
+    public void deleteByIds(final List<String> ids) {
+        deleteCategoriesUseCase.execute(ids);
+    }
+
+    private static String eTag(final long aVersion) {
+        return "\"" + aVersion + "\"";
+    }
+
+    private static Long expectedVersion(final String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        final var matcher = VERSION_TAG.matcher(ifMatch.trim());
+        // An entity tag we never issued can not match the current version.
+        return matcher.matches() ? Long.parseLong(matcher.group(1)) : -1L;
+    }
 }
@@ -0,0 +1,34 @@
+package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
+
+import com.fullcycle.admin.catalogo.application.genre.retrieve.export.ExportGenresUseCase;
+import com.fullcycle.admin.catalogo.infrastructure.api.GenreApi;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.JsonLines;
+import com.fullcycle.admin.catalogo.infrastructure.genre.presenters.GenreApiPresenter;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Objects;
+
+@RestController
+public class GenreController implements GenreApi {
+
+    private final ExportGenresUseCase exportGenresUseCase;
+
+    public GenreController(final ExportGenresUseCase exportGenresUseCase) {
+        this.exportGenresUseCase = Objects.requireNonNull(exportGenresUseCase);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportGenres() {
+        final StreamingResponseBody body = out -> {
+            try (final var lines = JsonLines.to(out)) {
+                this.exportGenresUseCase.execute(output -> lines.accept(GenreApiPresenter.present(output)));
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+}
@@ -1,7 +1,9 @@
 package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
 
+import com.fullcycle.admin.catalogo.application.category.create.ImportCategoriesException;
 import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.exceptions.VersionConflictException;
 import com.fullcycle.admin.catalogo.domain.validation.Error;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -27,9 +29,35 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiError.from(ex));
     }
 
+    @ExceptionHandler(value = VersionConflictException.class)
+    public ResponseEntity<?> handleVersionConflictException(
+            final DomainException ex
+    ) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(ApiError.from(ex));
+    }
+
+    // The batches committed before the import stopped stay in, so the client is told how many; a malformed file is
+    // the client's to fix, anything else is not.
+    @ExceptionHandler(value = ImportCategoriesException.class)
+    public ResponseEntity<?> handleImportCategoriesException(
+            final ImportCategoriesException ex
+    ) {
+        if (ex.getCause() instanceof DomainException cause) {
+            return ResponseEntity.unprocessableEntity().body(ImportError.from(cause, ex.imported()));
+        }
+        return ResponseEntity.internalServerError()
+                .body(new ImportError("Category import failed", List.of(), ex.imported()));
+    }
+
     record ApiError(String message, List<Error> errors) {
         static ApiError from(DomainException ex) {
             return new ApiError(ex.getMessage(), ex.getErrors());
         }
     }
+
+    record ImportError(String message, List<Error> errors, long imported) {
+        static ImportError from(DomainException ex, long imported) {
+            return new ImportError(ex.getMessage(), ex.getErrors(), imported);
+        }
+    }
 }
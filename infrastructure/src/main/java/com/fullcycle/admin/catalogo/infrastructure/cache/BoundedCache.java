@@ -0,0 +1,137 @@
+package com.fullcycle.admin.catalogo.infrastructure.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+// A least-recently-used map bounded by the summed weight of its values rather than by their count, whose entries
+// also expire after a fixed time to live. Lookups are read-through: a miss runs the loader outside the lock.
+public class BoundedCache<K, V> {
+
+    private final long maxWeight;
+    private final long ttlNanos;
+    private final ToLongFunction<V> weigher;
+    private final LongSupplier ticker;
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long weight;
+    // Bumped by every invalidation, so a load that raced with a write is not stored.
+    private long generation;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+
+    public BoundedCache(final long aMaxWeight, final Duration aTtl, final ToLongFunction<V> aWeigher) {
+        this(aMaxWeight, aTtl, aWeigher, System::nanoTime);
+    }
+
+    BoundedCache(final long aMaxWeight, final Duration aTtl, final ToLongFunction<V> aWeigher, final LongSupplier aTicker) {
+        if (aMaxWeight <= 0) {
+            throw new IllegalArgumentException("'maxWeight' must be greater than 0");
+        }
+        if (aTtl.isNegative() || aTtl.isZero()) {
+            throw new IllegalArgumentException("'ttl' must be greater than 0");
+        }
+        this.maxWeight = aMaxWeight;
+        this.ttlNanos = aTtl.toNanos();
+        this.weigher = Objects.requireNonNull(aWeigher);
+        this.ticker = Objects.requireNonNull(aTicker);
+    }
+
+    public Optional<V> get(final K aKey, final Function<K, Optional<V>> aLoader) {
+        final long loadedAt;
+        synchronized (this) {
+            final var now = this.ticker.getAsLong();
+            final var anEntry = this.entries.get(aKey);
+            if (anEntry != null) {
+                if (now - anEntry.storedAt() < this.ttlNanos) {
+                    this.hits++;
+                    return Optional.of(anEntry.value());
+                }
+                remove(aKey);
+                this.expirations++;
+            }
+            this.misses++;
+            loadedAt = this.generation;
+        }
+
+        final var loaded = aLoader.apply(aKey);
+        loaded.ifPresent(aValue -> put(aKey, aValue, loadedAt));
+        return loaded;
+    }
+
+    public synchronized void invalidate(final K aKey) {
+        this.generation++;
+        remove(aKey);
+    }
+
+    public synchronized void invalidateAll() {
+        this.generation++;
+        this.entries.clear();
+        this.weight = 0;
+    }
+
+    // Drops the keys now and again once the surrounding transaction ends, since until it commits a read on another
+    // connection still sees the previous row and could store it again.
+    public void invalidateOnCompletion(final Collection<K> keys) {
+        keys.forEach(this::invalidate);
+        afterCompletion(() -> keys.forEach(this::invalidate));
+    }
+
+    public void invalidateAllOnCompletion() {
+        invalidateAll();
+        afterCompletion(this::invalidateAll);
+    }
+
+    public synchronized CacheStats stats() {
+        return new CacheStats(this.hits, this.misses, this.evictions, this.expirations, this.entries.size(), this.weight);
+    }
+
+    private synchronized void put(final K aKey, final V aValue, final long loadedAt) {
+        final var aWeight = this.weigher.applyAsLong(aValue);
+        if (loadedAt != this.generation || aWeight > this.maxWeight) {
+            return;
+        }
+        remove(aKey);
+        this.entries.put(aKey, new Entry<>(aValue, aWeight, this.ticker.getAsLong()));
+        this.weight += aWeight;
+
+        final Iterator<Entry<V>> eldest = this.entries.values().iterator();
+        while (this.weight > this.maxWeight) {
+            this.weight -= eldest.next().weight();
+            eldest.remove();
+            this.evictions++;
+        }
+    }
+
+    private void remove(final K aKey) {
+        final var removed = this.entries.remove(aKey);
+        if (removed != null) {
+            this.weight -= removed.weight();
+        }
+    }
+
+    private static void afterCompletion(final Runnable anAction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    anAction.run();
+                }
+            });
+        }
+    }
+
+    private record Entry<V>(V value, long weight, long storedAt) {
+    }
+}
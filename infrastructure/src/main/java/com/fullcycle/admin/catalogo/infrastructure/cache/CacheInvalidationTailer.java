@@ -0,0 +1,201 @@
+package com.fullcycle.admin.catalogo.infrastructure.cache;
+
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalogo.infrastructure.cache.persistence.CacheInvalidationJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.cache.persistence.CacheInvalidationRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+// Follows cache_invalidations by seq and applies each row to the local target it names. Sequence values are taken at
+// insert but become visible at commit, so a seq skipped over may still show up: it is kept as a gap and read again
+// until it does or until it is older than any transaction could be, at which point it was rolled back.
+public class CacheInvalidationTailer {
+
+    // Beyond this many open gaps the tailer stops tracking them and drops every cache instead.
+    private static final int MAX_GAPS = 1000;
+
+    private final CacheInvalidationRepository repository;
+    private final TransactionTemplate transaction;
+    private final Map<String, Target> targets;
+    private final int batchSize;
+    private final long maxGapAgeNanos;
+    private final Duration retention;
+    private final LongSupplier ticker;
+    private final TreeMap<Long, Long> gaps = new TreeMap<>();
+
+    private long position = -1;
+
+    public CacheInvalidationTailer(
+            final CacheInvalidationRepository repository,
+            final TransactionTemplate transaction,
+            final Collection<Target> targets,
+            final int batchSize,
+            final Duration maxGapAge,
+            final Duration retention
+    ) {
+        this(repository, transaction, targets, batchSize, maxGapAge, retention, System::nanoTime);
+    }
+
+    CacheInvalidationTailer(
+            final CacheInvalidationRepository repository,
+            final TransactionTemplate transaction,
+            final Collection<Target> targets,
+            final int batchSize,
+            final Duration maxGapAge,
+            final Duration retention,
+            final LongSupplier ticker
+    ) {
+        this.repository = Objects.requireNonNull(repository);
+        this.transaction = Objects.requireNonNull(transaction);
+        this.targets = targets.stream().collect(Collectors.toUnmodifiableMap(Target::name, Function.identity()));
+        this.batchSize = batchSize;
+        this.maxGapAgeNanos = maxGapAge.toNanos();
+        this.retention = Objects.requireNonNull(retention);
+        this.ticker = Objects.requireNonNull(ticker);
+    }
+
+    // Reads until a batch comes back short, so a node that fell behind catches up in one run.
+    @Scheduled(fixedDelayString = "${cache.invalidation.interval:500}")
+    public synchronized long poll() {
+        if (this.position < 0) {
+            start();
+            return 0;
+        }
+
+        var applied = 0L;
+        Batch aBatch;
+        do {
+            aBatch = read();
+            apply(aBatch.rows());
+            applied += aBatch.rows().size();
+        } while (aBatch.full());
+        return applied;
+    }
+
+    // Rows older than the retention have been read by every node that is up; a node started later has empty caches.
+    @Scheduled(fixedDelayString = "${cache.invalidation.prune-interval:60000}")
+    public int prune() {
+        return this.repository.deleteCreatedBefore(InstantUtils.now().minus(this.retention));
+    }
+
+    // Whatever was cached before the tailer knew where to start may already be stale. A transaction open at startup
+    // holds a seq below the last one and commits later, so the first read starts a gap window back: rows already
+    // committed there are applied again, harmlessly, and the missing seqs are watched as gaps.
+    private void start() {
+        final long last = Objects.requireNonNull(this.transaction.execute(status -> this.repository.findLastSeq()));
+        this.position = Math.max(0, last - MAX_GAPS);
+        this.targets.values().forEach(Target::invalidateAll);
+    }
+
+    private Batch read() {
+        final var now = this.ticker.getAsLong();
+        this.gaps.values().removeIf(seenAt -> now - seenAt > this.maxGapAgeNanos);
+
+        final var aBatch = Objects.requireNonNull(this.transaction.execute(status -> {
+            final var found = new ArrayList<CacheInvalidationJpaEntity>();
+            if (!this.gaps.isEmpty()) {
+                found.addAll(this.repository.findAllById(List.copyOf(this.gaps.keySet())));
+            }
+            final var next = this.repository.findAfter(this.position, PageRequest.ofSize(this.batchSize));
+            found.addAll(next);
+            return new Batch(found, next.size() == this.batchSize);
+        }));
+
+        for (final var row : aBatch.rows()) {
+            final long seq = row.getSeq();
+            if (seq > this.position) {
+                for (long skipped = this.position + 1; skipped < seq && this.gaps.size() <= MAX_GAPS; skipped++) {
+                    this.gaps.put(skipped, now);
+                }
+                this.position = seq;
+            } else {
+                this.gaps.remove(seq);
+            }
+        }
+        if (this.gaps.size() > MAX_GAPS) {
+            this.gaps.clear();
+            this.targets.values().forEach(Target::invalidateAll);
+        }
+        return aBatch;
+    }
+
+    // Rows are grouped per target so that one batch costs each target a single call, and a row dropping everything
+    // makes the keys beside it moot.
+    private void apply(final List<CacheInvalidationJpaEntity> rows) {
+        final var keys = new LinkedHashMap<Target, Set<String>>();
+        final var all = new LinkedHashSet<Target>();
+        for (final var aRow : rows) {
+            final var aTarget = this.targets.get(aRow.getCacheName());
+            if (aTarget == null) {
+                continue;
+            }
+            if (aRow.getEntryKey() == null) {
+                all.add(aTarget);
+            } else {
+                keys.computeIfAbsent(aTarget, target -> new LinkedHashSet<>()).add(aRow.getEntryKey());
+            }
+        }
+        all.forEach(Target::invalidateAll);
+        keys.forEach((aTarget, someKeys) -> {
+            if (!all.contains(aTarget)) {
+                aTarget.invalidate(someKeys);
+            }
+        });
+    }
+
+    private record Batch(List<CacheInvalidationJpaEntity> rows, boolean full) {
+    }
+
+    // Local state addressed by the name its rows carry: a cache, with the parser that turns a stored key back into
+    // its own, or anything else derived from the database that knows how to refresh some keys or all of them.
+    public static final class Target {
+
+        private final String name;
+        private final Consumer<Collection<String>> invalidate;
+        private final Runnable invalidateAll;
+
+        private Target(final String name, final Consumer<Collection<String>> invalidate, final Runnable invalidateAll) {
+            this.name = Objects.requireNonNull(name);
+            this.invalidate = Objects.requireNonNull(invalidate);
+            this.invalidateAll = Objects.requireNonNull(invalidateAll);
+        }
+
+        public static <K> Target of(final String aName, final BoundedCache<K, ?> aCache, final Function<String, K> aKeyParser) {
+            Objects.requireNonNull(aCache);
+            Objects.requireNonNull(aKeyParser);
+            return new Target(aName, keys -> keys.forEach(aKey -> aCache.invalidate(aKeyParser.apply(aKey))), aCache::invalidateAll);
+        }
+
+        public static Target of(final String aName, final Consumer<Collection<String>> anInvalidate, final Runnable anInvalidateAll) {
+            return new Target(aName, anInvalidate, anInvalidateAll);
+        }
+
+        String name() {
+            return this.name;
+        }
+
+        void invalidate(final Collection<String> keys) {
+            this.invalidate.accept(keys);
+        }
+
+        void invalidateAll() {
+            this.invalidateAll.run();
+        }
+    }
+}
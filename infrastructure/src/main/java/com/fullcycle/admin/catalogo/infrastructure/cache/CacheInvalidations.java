@@ -0,0 +1,48 @@
+package com.fullcycle.admin.catalogo.infrastructure.cache;
+
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalogo.infrastructure.cache.persistence.CacheInvalidationJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.cache.persistence.CacheInvalidationRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Objects;
+
+// Records which cache entries a write made stale, in the writer's transaction, so the other nodes can drop them once
+// it commits. Each node drops its own entries directly; these rows only matter to the rest.
+public class CacheInvalidations {
+
+    // Past this many keys a single row dropping the whole cache is cheaper to write and to apply.
+    private static final int MAX_KEYS = 100;
+
+    private final CacheInvalidationRepository repository;
+    private final boolean enabled;
+
+    public CacheInvalidations(final CacheInvalidationRepository repository, final boolean enabled) {
+        this.repository = Objects.requireNonNull(repository);
+        this.enabled = enabled;
+    }
+
+    @Transactional
+    public void publish(final String aCacheName, final Collection<String> keys) {
+        if (!enabled || keys.isEmpty()) {
+            return;
+        }
+        if (keys.size() > MAX_KEYS) {
+            publishAll(aCacheName);
+            return;
+        }
+        final var now = InstantUtils.now();
+        this.repository.saveAll(keys.stream()
+                .distinct()
+                .map(aKey -> CacheInvalidationJpaEntity.with(aCacheName, aKey, now))
+                .toList());
+    }
+
+    @Transactional
+    public void publishAll(final String aCacheName) {
+        if (enabled) {
+            this.repository.save(CacheInvalidationJpaEntity.all(aCacheName, InstantUtils.now()));
+        }
+    }
+}
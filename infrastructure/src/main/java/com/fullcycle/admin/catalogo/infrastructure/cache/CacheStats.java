@@ -0,0 +1,16 @@
+package com.fullcycle.admin.catalogo.infrastructure.cache;
+
+public record CacheStats(
+        long hits,
+        long misses,
+        long evictions,
+        long expirations,
+        long size,
+        long weight
+) {
+
+    public double hitRatio() {
+        final var requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+}
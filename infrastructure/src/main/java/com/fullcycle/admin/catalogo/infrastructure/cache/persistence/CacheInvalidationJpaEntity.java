@@ -0,0 +1,58 @@
+package com.fullcycle.admin.catalogo.infrastructure.cache.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+@Table(name = "cache_invalidations")
+@Entity
+public class CacheInvalidationJpaEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "seq", nullable = false)
+    private Long seq;
+    @Column(name = "cache_name", nullable = false, length = 32)
+    private String cacheName;
+    @Column(name = "entry_key", length = 36)
+    private String entryKey;
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    public CacheInvalidationJpaEntity() {
+    }
+
+    private CacheInvalidationJpaEntity(final String cacheName, final String entryKey, final Instant createdAt) {
+        this.cacheName = cacheName;
+        this.entryKey = entryKey;
+        this.createdAt = createdAt;
+    }
+
+    public static CacheInvalidationJpaEntity with(final String aCacheName, final String aKey, final Instant aCreatedAt) {
+        return new CacheInvalidationJpaEntity(aCacheName, aKey, aCreatedAt);
+    }
+
+    public static CacheInvalidationJpaEntity all(final String aCacheName, final Instant aCreatedAt) {
+        return new CacheInvalidationJpaEntity(aCacheName, null, aCreatedAt);
+    }
+
+    public Long getSeq() {
+        return seq;
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public String getEntryKey() {
+        return entryKey;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
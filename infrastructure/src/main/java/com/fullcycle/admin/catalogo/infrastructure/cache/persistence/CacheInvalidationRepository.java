@@ -0,0 +1,25 @@
+package com.fullcycle.admin.catalogo.infrastructure.cache.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface CacheInvalidationRepository extends JpaRepository<CacheInvalidationJpaEntity, Long> {
+
+    @Query("select coalesce(max(i.seq), 0) from CacheInvalidationJpaEntity i")
+    long findLastSeq();
+
+    @Query("select i from CacheInvalidationJpaEntity i where i.seq > :seq order by i.seq")
+    List<CacheInvalidationJpaEntity> findAfter(@Param("seq") long seq, Pageable page);
+
+    @Transactional
+    @Modifying
+    @Query("delete from CacheInvalidationJpaEntity i where i.createdAt < :createdAt")
+    int deleteCreatedBefore(@Param("createdAt") Instant createdAt);
+}
@@ -0,0 +1,145 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySummary;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.cache.BoundedCache;
+import com.fullcycle.admin.catalogo.infrastructure.cache.CacheInvalidations;
+import com.fullcycle.admin.catalogo.infrastructure.genre.CachedGenreGateway;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+// Serves findById from memory and drops the entries every write touches, here and, through the invalidations
+// written in the same transaction, on the other nodes. Categories are mutable, so callers always get their own copy
+// and never the cached instance. Misses are loaded from the primary: a row read off a lagging replica would otherwise be
+// served for the whole time to live.
+public class CachedCategoryGateway implements CategoryGateway {
+
+    public static final String CACHE = "categories";
+
+    private final CategoryGateway delegate;
+    private final BoundedCache<CategoryID, Category> cache;
+    private final BoundedCache<GenreID, Genre> genreCache;
+    private final CacheInvalidations invalidations;
+
+    public CachedCategoryGateway(
+            final CategoryGateway delegate,
+            final BoundedCache<CategoryID, Category> cache,
+            final BoundedCache<GenreID, Genre> genreCache,
+            final CacheInvalidations invalidations
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.cache = Objects.requireNonNull(cache);
+        this.genreCache = Objects.requireNonNull(genreCache);
+        this.invalidations = Objects.requireNonNull(invalidations);
+    }
+
+    // Roughly the bytes a cached category holds: its strings plus a fixed cost for the ids, instants and headers.
+    public static long weigh(final Category aCategory) {
+        return 128 + 2L * (aCategory.getName().length() + Objects.requireNonNullElse(aCategory.getDescription(), "").length());
+    }
+
+    // Misses are never cached, so a new id cannot be stale on another node and only this one is cleared.
+    @Override
+    public Category create(final Category aCategory) {
+        final var created = this.delegate.create(aCategory);
+        this.cache.invalidateOnCompletion(List.of(aCategory.getId()));
+        return created;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        final var created = this.delegate.createAll(aCategories);
+        this.cache.invalidateOnCompletion(aCategories.stream().map(Category::getId).toList());
+        return created;
+    }
+
+    @Override
+    @Transactional
+    public void deleteById(final CategoryID anId) {
+        this.delegate.deleteById(anId);
+        deleted(List.of(anId));
+    }
+
+    @Override
+    @Transactional
+    public void deleteAllById(final List<CategoryID> ids) {
+        this.delegate.deleteAllById(ids);
+        deleted(List.copyOf(ids));
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return this.cache.get(anId, this.delegate::findLatestById).map(Category::clone);
+    }
+
+    @Override
+    public Optional<Category> findLatestById(final CategoryID anId) {
+        return this.delegate.findLatestById(anId);
+    }
+
+    // A version conflict means the cached copy is already stale, so it is dropped either way; the other nodes only
+    // hear about writes that went through.
+    @Override
+    @Transactional
+    public Category update(final Category aCategory) {
+        final Category updated;
+        try {
+            updated = this.delegate.update(aCategory);
+        } finally {
+            this.cache.invalidateOnCompletion(List.of(aCategory.getId()));
+        }
+        this.invalidations.publish(CACHE, List.of(aCategory.getId().getValue()));
+        return updated;
+    }
+
+    @Override
+    public Pagination<Category> findAll(final SearchQuery aQuery) {
+        return this.delegate.findAll(aQuery);
+    }
+
+    @Override
+    public Pagination<CategorySummary> findAllSummaries(final SearchQuery aQuery) {
+        return this.delegate.findAllSummaries(aQuery);
+    }
+
+    @Override
+    public void forEachSummary(final Consumer<CategorySummary> anAction) {
+        this.delegate.forEachSummary(anAction);
+    }
+
+    @Override
+    public List<CategoryID> existsByIds(final Iterable<CategoryID> ids) {
+        return this.delegate.existsByIds(ids);
+    }
+
+    @Override
+    @Transactional
+    public List<CategoryID> updateStatus(final List<CategoryID> ids, final boolean isActive, final Instant anUpdatedAt) {
+        final var updated = this.delegate.updateStatus(ids, isActive, anUpdatedAt);
+        invalidate(updated);
+        return updated;
+    }
+
+    private void invalidate(final List<CategoryID> ids) {
+        this.cache.invalidateOnCompletion(ids);
+        this.invalidations.publish(CACHE, ids.stream().map(CategoryID::getValue).toList());
+    }
+
+    // Deleting a category cascades to the genre links, so cached genres may list it.
+    private void deleted(final List<CategoryID> ids) {
+        invalidate(ids);
+        this.genreCache.invalidateAllOnCompletion();
+        this.invalidations.publishAll(CachedGenreGateway.CACHE);
+    }
+}
@@ -1,45 +1,168 @@
 package com.fullcycle.admin.catalogo.infrastructure.category;
 
 import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryActivated;
+import com.fullcycle.admin.catalogo.domain.category.CategoryDeactivated;
+import com.fullcycle.admin.catalogo.domain.category.CategoryDeleted;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySummary;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.exceptions.VersionConflictException;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
-import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategorySort;
+import com.fullcycle.admin.catalogo.infrastructure.category.search.CategorySearchIndex;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.Outbox;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.PrimaryReads;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.TableStatistics;
+import com.fullcycle.admin.catalogo.infrastructure.utils.CursorUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SliceQueries;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.Tuple;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Sort.Direction;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.Collections;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
-import static com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils.like;
+import static com.fullcycle.admin.catalogo.infrastructure.persistence.FullTextFunctionContributor.MATCH_AGAINST;
 
 @Service
 public class CategoryMySQLGateway implements CategoryGateway {
 
+    private static final String TABLE = "category";
+    private static final String ID = "id";
+    private static final String NAME = "name";
+    private static final String DESCRIPTION = "description";
+    private static final String ACTIVE = "active";
+    private static final String CREATED_AT = "createdAt";
+    private static final String DELETED_AT = "deletedAt";
+    private static final String ENTITY_SELECT = "select c";
+    private static final String SUMMARY_SELECT =
+            "select c.id as id, c.name as name, c.description as description, c.active as active, c.createdAt as createdAt, c.deletedAt as deletedAt";
+    private static final String EXPORT = SUMMARY_SELECT + " from CategoryJpaEntity c order by c.id";
+    private static final String BY_IDS = "c.id in :terms";
+    private static final String BY_LIKE = "(upper(c.name) like :terms or upper(c.description) like :terms)";
+    private static final String BY_MATCH = MATCH_AGAINST + "(c.name, c.description, :terms) > 0";
+    private static final String BY_RELEVANCE = MATCH_AGAINST + "(c.name, c.description, :terms) desc";
+    private static final int IDS_CHUNK_SIZE = 1000;
+    private static final int INSERT_BATCH_SIZE = 50;
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
     private final CategoryRepository repository;
+    private final GenreRepository genreRepository;
+    private final EntityManager entityManager;
+    private final TableStatistics tableStatistics;
+    private final CategorySearchIndex searchIndex;
+    private final Outbox outbox;
+    private final PrimaryReads primaryReads;
+    private final Executor queryExecutor;
+    private final boolean fullTextSearch;
+    private final SliceQueries queries = new SliceQueries("CategoryJpaEntity", "c");
 
-    public CategoryMySQLGateway(final CategoryRepository repository) {
+    public CategoryMySQLGateway(
+            final CategoryRepository repository,
+            final GenreRepository genreRepository,
+            final EntityManager entityManager,
+            final TableStatistics tableStatistics,
+            final CategorySearchIndex searchIndex,
+            final Outbox outbox,
+            final PrimaryReads primaryReads,
+            @Qualifier("queryExecutor") final Executor queryExecutor,
+            @Value("${search.full-text:false}") final boolean fullTextSearch
+    ) {
         this.repository = repository;
+        this.genreRepository = genreRepository;
+        this.entityManager = entityManager;
+        this.tableStatistics = tableStatistics;
+        this.searchIndex = searchIndex;
+        this.outbox = outbox;
+        this.primaryReads = primaryReads;
+        this.queryExecutor = queryExecutor;
+        this.fullTextSearch = fullTextSearch;
     }
 
     @Override
+    @Transactional
     public Category create(final Category aCategory) {
-        return save(aCategory);
+        final var created = repository.save(CategoryJpaEntity.from(aCategory)).toAggregate();
+        outbox.append(aCategory);
+        searchIndex.index(created);
+        return created;
+    }
+
+    @Override
+    @Transactional
+    public List<Category> createAll(final List<Category> aCategories) {
+        for (int i = 0; i < aCategories.size(); i++) {
+            this.entityManager.persist(CategoryJpaEntity.from(aCategories.get(i)));
+            this.outbox.append(aCategories.get(i));
+            if ((i + 1) % INSERT_BATCH_SIZE == 0) {
+                this.entityManager.flush();
+                this.entityManager.clear();
+            }
+        }
+        this.entityManager.flush();
+        this.entityManager.clear();
+        searchIndex.indexAll(aCategories);
+        return aCategories;
     }
 
     @Override
+    @Transactional
     public void deleteById(final CategoryID anId) {
-        final var anIdValue = anId.getValue();
-        if (repository.existsById(anIdValue)) {
-            repository.deleteById(anIdValue);
+        if (repository.deleteOne(anId.getValue()) > 0) {
+            outbox.append(Category.class, List.of(CategoryDeleted.with(anId, InstantUtils.now())));
+            searchIndex.remove(anId);
+        }
+    }
+
+    // The bulk DELETE does not say which ids it matched, so each chunk is read first and only those get a
+    // CategoryDeleted; the genre links they lose go with them and raise nothing of their own.
+    @Override
+    @Transactional
+    public void deleteAllById(final List<CategoryID> categoryIDs) {
+        final var ids = categoryIDs.stream().map(CategoryID::getValue).distinct().toList();
+        final var deleted = new ArrayList<String>(ids.size());
+        for (final var chunk : chunks(ids)) {
+            final var found = this.repository.existsByIds(chunk);
+            if (found.isEmpty()) {
+                continue;
+            }
+            this.genreRepository.deleteCategoryLinks(found);
+            this.repository.deleteMany(found);
+            deleted.addAll(found);
         }
+        final var now = InstantUtils.now();
+        this.outbox.append(Category.class, deleted.stream()
+                .map(anId -> CategoryDeleted.with(CategoryID.from(anId), now))
+                .toList());
+        searchIndex.removeAll(categoryIDs);
     }
 
     @Override
@@ -48,41 +171,263 @@ public class CategoryMySQLGateway implements CategoryGateway {
     }
 
     @Override
+    public Optional<Category> findLatestById(final CategoryID anId) {
+        return primaryReads.read(() -> findById(anId));
+    }
+
+    @Override
+    @Transactional
     public Category update(final Category aCategory) {
-        return save(aCategory);
+        final Category updated;
+        try {
+            // The version read with the aggregate guards the UPDATE, so a concurrent write makes it match no row.
+            final var merged = entityManager.merge(CategoryJpaEntity.from(aCategory));
+            outbox.append(aCategory);
+            entityManager.flush();
+            updated = merged.toAggregate();
+        } catch (final OptimisticLockException ex) {
+            throw VersionConflictException.with(Category.class, aCategory.getId());
+        }
+        searchIndex.index(updated);
+        return updated;
     }
 
     @Override
     public Pagination<Category> findAll(final SearchQuery aQuery) {
-        final var page = PageRequest.of(
+        return slice(aQuery, ENTITY_SELECT, CategoryJpaEntity.class, CategoryJpaEntity::getId, CursorUtils::encode)
+                .map(CategoryJpaEntity::toAggregate);
+    }
+
+    @Override
+    public Pagination<CategorySummary> findAllSummaries(final SearchQuery aQuery) {
+        return slice(aQuery, SUMMARY_SELECT, Tuple.class, aRow -> aRow.get(ID, String.class), CursorUtils::encode)
+                .map(CategoryMySQLGateway::toSummary);
+    }
+
+    // Rows are read off a forward-only cursor one fetch at a time and never enter the persistence context,
+    // so memory stays flat however many categories there are.
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachSummary(final Consumer<CategorySummary> anAction) {
+        try (final var rows = this.entityManager.createQuery(EXPORT, Tuple.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, EXPORT_FETCH_SIZE)
+                .getResultStream()) {
+            rows.map(CategoryMySQLGateway::toSummary).forEach(anAction);
+        }
+    }
+
+    @Override
+    public List<CategoryID> existsByIds(final Iterable<CategoryID> categoryIDs) {
+        final var ids = StreamSupport.stream(categoryIDs.spliterator(), false)
+                .map(CategoryID::getValue)
+                .distinct()
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        final var found = existingIds(ids);
+        return StreamSupport.stream(categoryIDs.spliterator(), false)
+                .filter(anId -> found.contains(anId.getValue()))
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public List<CategoryID> updateStatus(
+            final List<CategoryID> categoryIDs,
+            final boolean isActive,
+            final Instant anUpdatedAt
+    ) {
+        final var found = existsByIds(categoryIDs);
+        final var ids = found.stream().map(CategoryID::getValue).distinct().toList();
+
+        for (final var chunk : chunks(ids)) {
+            if (isActive) {
+                this.repository.activateAll(chunk, anUpdatedAt);
+            } else {
+                this.repository.deactivateAll(chunk, anUpdatedAt);
+            }
+        }
+        // The bulk UPDATE bypasses the aggregates, so the events they would have raised are written here.
+        this.outbox.append(Category.class, found.stream()
+                .distinct()
+                .map(anId -> isActive ? CategoryActivated.with(anId, anUpdatedAt) : CategoryDeactivated.with(anId, anUpdatedAt))
+                .toList());
+        this.searchIndex.refreshAll(found);
+        return found;
+    }
+
+    private <T> Pagination<T> slice(
+            final SearchQuery aQuery,
+            final String aSelect,
+            final Class<T> aType,
+            final Function<T, String> anId,
+            final CursorEncoder<T> aCursor
+    ) {
+        final var sort = CategorySort.from(aQuery.sort());
+        final var direction = SliceQueries.direction(aQuery.direction());
+        final var cursor = aQuery.hasCursor() ? CursorUtils.decode(aQuery.after(), sort.field(), direction) : null;
+        final var offset = cursor != null ? 0L : (long) aQuery.page() * aQuery.perPage();
+
+        final List<T> result;
+        final LongSupplier count;
+        final boolean byRelevance;
+        if (aQuery.hasTerms() && this.searchIndex.isEnabled()) {
+            // The index orders and pages the matches itself, so only the ids of this page are bound and the
+            // number of matches stands in for a COUNT over them.
+            final var matches = this.searchIndex.page(aQuery.terms(), sort, direction, cursor, offset, aQuery.perPage() + 1);
+            result = findAllByIds(aSelect, aType, anId, sort, direction, matches.ids());
+            count = matches::total;
+            byRelevance = false;
+        } else {
+            final var filter = searchTerms(aQuery);
+            if (filter.matchesNothing()) {
+                return new Pagination<>(aQuery.page(), aQuery.perPage(), 0, List.of(), null, false);
+            }
+
+            // A relevance score can't be sought past, so relevance-ordered searches are paged by number only.
+            byRelevance = filter.order() != null;
+            if (byRelevance && cursor != null) {
+                throw DomainException.with(new Error("'after' can't be used when searching by relevance, use 'page' instead"));
+            }
+
+            final var jpql = this.queries.select(
+                    aSelect,
+                    filter.where(),
+                    filter.order(),
+                    sort.field(),
+                    direction,
+                    cursor
+            );
+            final var query = this.entityManager.createQuery(jpql, aType)
+                    .setFirstResult(Math.toIntExact(offset))
+                    .setMaxResults(aQuery.perPage() + 1);
+            filter.bind(query);
+            SliceQueries.bindCursor(query, cursor, sort.type());
+
+            result = query.getResultList();
+            count = () -> count(filter);
+        }
+
+        final var hasMore = result.size() > aQuery.perPage();
+        final var items = hasMore ? result.subList(0, aQuery.perPage()) : result;
+
+        return new Pagination<>(
                 aQuery.page(),
                 aQuery.perPage(),
-                Sort.by(Direction.fromString(aQuery.direction()), aQuery.sort())
+                total(aQuery, offset, items.size(), hasMore, count),
+                items,
+                hasMore && !byRelevance ? aCursor.encode(items.get(items.size() - 1), sort.field(), direction) : null,
+                hasMore
         );
-        final var specifications = Optional.ofNullable(aQuery.terms())
-                .filter(str -> !str.isBlank())
-                .map(str ->
-                        SpecificationUtils
-                                .<CategoryJpaEntity>like("name", str)
-                                .or(like("description", str))
-                ).orElse(null);
-        final var pageResult = this.repository.findAll(Specification.where(specifications), page);
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(CategoryJpaEntity::toAggregate).toList()
+    }
+
+    // Rows come back in the order of the ids; one deleted since it was indexed is left out.
+    private <T> List<T> findAllByIds(
+            final String aSelect,
+            final Class<T> aType,
+            final Function<T, String> anId,
+            final CategorySort aSort,
+            final Direction aDirection,
+            final List<String> ids
+    ) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        final var query = this.entityManager.createQuery(
+                this.queries.select(aSelect, BY_IDS, null, aSort.field(), aDirection, null),
+                aType
         );
+        SliceQueries.Filter.with(BY_IDS, ids).bind(query);
+        final var rows = query.getResultList().stream().collect(Collectors.toMap(anId, Function.identity()));
+        return ids.stream().map(rows::get).filter(Objects::nonNull).toList();
     }
 
-    @Override
-    public List<CategoryID> existsByIds(Iterable<CategoryID> ids) {
-        //TODO: implement this method
-        return Collections.emptyList();
+    private static CategorySummary toSummary(final Tuple aRow) {
+        return new CategorySummary(
+                CategoryID.from(aRow.get(ID, String.class)),
+                aRow.get(NAME, String.class),
+                aRow.get(DESCRIPTION, String.class),
+                aRow.get(ACTIVE, Boolean.class),
+                aRow.get(CREATED_AT, Instant.class),
+                aRow.get(DELETED_AT, Instant.class)
+        );
+    }
+
+    private Set<String> existingIds(final List<String> ids) {
+        final var chunks = chunks(ids);
+
+        // Inside a transaction the chunks stay on the caller's connection so they see its uncommitted writes.
+        if (chunks.size() == 1 || TransactionSynchronizationManager.isActualTransactionActive()) {
+            final var found = new HashSet<String>(ids.size());
+            chunks.forEach(chunk -> found.addAll(this.repository.existsByIds(chunk)));
+            return found;
+        }
+
+        final var futures = chunks.stream()
+                .map(chunk -> CompletableFuture.supplyAsync(() -> this.repository.existsByIds(chunk), this.queryExecutor))
+                .toList();
+        final var found = new HashSet<String>(ids.size());
+        futures.forEach(future -> found.addAll(future.join()));
+        return found;
+    }
+
+    private static <T> List<List<T>> chunks(final List<T> values) {
+        final var chunks = new ArrayList<List<T>>();
+        for (int i = 0; i < values.size(); i += IDS_CHUNK_SIZE) {
+            chunks.add(values.subList(i, Math.min(i + IDS_CHUNK_SIZE, values.size())));
+        }
+        return chunks;
+    }
+
+    private SliceQueries.Filter searchTerms(final SearchQuery aQuery) {
+        if (!aQuery.hasTerms()) {
+            return SliceQueries.Filter.NONE;
+        }
+        if (this.fullTextSearch) {
+            return SliceQueries.Filter.with(BY_MATCH, BY_RELEVANCE, against(aQuery.terms()));
+        }
+        return SliceQueries.Filter.with(BY_LIKE, "%" + aQuery.terms().toUpperCase() + "%");
+    }
+
+    // Every word is required and matched as a prefix, so partially typed terms still match.
+    private static String against(final String terms) {
+        return Arrays.stream(terms.split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isBlank())
+                .map(word -> "+" + word + "*")
+                .collect(Collectors.joining(" "));
+    }
+
+    private long total(
+            final SearchQuery aQuery,
+            final long offset,
+            final int size,
+            final boolean hasMore,
+            final LongSupplier aCount
+    ) {
+        final var seen = offset + size;
+        if (!hasMore && !aQuery.hasCursor() && (size > 0 || offset == 0)) {
+            return seen;
+        }
+
+        return switch (aQuery.totalMode()) {
+            case NONE -> Pagination.UNKNOWN_TOTAL;
+            case ESTIMATED -> aQuery.hasTerms()
+                    ? aCount.getAsLong()
+                    : Math.max(this.tableStatistics.estimateRows(TABLE), hasMore ? seen + 1 : seen);
+            case EXACT -> aCount.getAsLong();
+        };
     }
 
-    private Category save(Category aCategory) {
-        return repository.save(CategoryJpaEntity.from(aCategory)).toAggregate();
+    private long count(final SliceQueries.Filter aFilter) {
+        final var query = this.entityManager.createQuery(this.queries.count(aFilter.where()), Long.class);
+        aFilter.bind(query);
+        return query.getSingleResult();
     }
 
+    @FunctionalInterface
+    private interface CursorEncoder<T> {
+        String encode(T aRow, String aSort, Direction aDirection);
+    }
 }
@@ -0,0 +1,63 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.importer;
+
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.function.Function;
+
+// Both readers parse lazily: a row is read from the stream only when the importer asks for it.
+public enum CategoryImportFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON_VALUE, NdjsonCategoryRows::new, ".ndjson", ".jsonl"),
+    CSV(CategoryImportFormat.TEXT_CSV_VALUE, CsvCategoryRows::new, ".csv");
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final String mediaType;
+    private final Function<InputStream, Iterator<CreateCategoryCommand>> reader;
+    private final String[] extensions;
+
+    CategoryImportFormat(
+            final String aMediaType,
+            final Function<InputStream, Iterator<CreateCategoryCommand>> aReader,
+            final String... extensions
+    ) {
+        this.mediaType = aMediaType;
+        this.reader = aReader;
+        this.extensions = extensions;
+    }
+
+    public static CategoryImportFormat fromContentType(final String aContentType) {
+        try {
+            final var aMediaType = MediaType.parseMediaType(aContentType);
+            return Arrays.stream(values())
+                    .filter(format -> MediaType.parseMediaType(format.mediaType).equalsTypeAndSubtype(aMediaType))
+                    .findFirst()
+                    .orElseThrow(CategoryImportFormat::unsupported);
+        } catch (final InvalidMediaTypeException ex) {
+            throw unsupported();
+        }
+    }
+
+    public static CategoryImportFormat fromFileName(final String aFileName) {
+        final var name = aFileName.toLowerCase(Locale.ROOT);
+        return Arrays.stream(values())
+                .filter(format -> Arrays.stream(format.extensions).anyMatch(name::endsWith))
+                .findFirst()
+                .orElseThrow(() -> DomainException.with(new Error("File must end with .ndjson, .jsonl or .csv")));
+    }
+
+    public Iterator<CreateCategoryCommand> rows(final InputStream in) {
+        return this.reader.apply(in);
+    }
+
+    private static DomainException unsupported() {
+        return DomainException.with(new Error("'Content-Type' must be one of application/x-ndjson or text/csv"));
+    }
+}
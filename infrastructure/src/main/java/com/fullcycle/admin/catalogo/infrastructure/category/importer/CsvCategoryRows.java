@@ -0,0 +1,174 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.importer;
+
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+// RFC 4180 records read one at a time: a header naming the columns (name, description, is_active in any order),
+// quoted fields with "" escapes and line breaks inside quotes. Empty cells are read as missing.
+final class CsvCategoryRows implements Iterator<CreateCategoryCommand> {
+
+    private static final String NAME = "name";
+    private static final String DESCRIPTION = "description";
+    private static final String IS_ACTIVE = "is_active";
+    private static final char BOM = '\uFEFF';
+
+    private final Reader reader;
+    private final int nameColumn;
+    private final int descriptionColumn;
+    private final int activeColumn;
+    private List<String> nextRecord;
+    private long line = 1;
+    private long startLine;
+    private long nextRecordLine;
+    private long recordLine;
+    private boolean started;
+
+    CsvCategoryRows(final InputStream in) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+
+        final var header = read();
+        final var columns = header == null ? List.<String>of() : header.stream()
+                .map(column -> column == null ? "" : column.trim().toLowerCase(Locale.ROOT))
+                .toList();
+        this.nameColumn = columns.indexOf(NAME);
+        this.descriptionColumn = columns.indexOf(DESCRIPTION);
+        this.activeColumn = columns.indexOf(IS_ACTIVE);
+        if (header != null && this.nameColumn < 0) {
+            throw DomainException.with(new Error("CSV header must have a 'name' column"));
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (this.nextRecord == null) {
+            final var aRecord = read();
+            if (aRecord == null) {
+                return false;
+            }
+            if (aRecord.size() > 1 || aRecord.get(0) != null) {
+                this.nextRecord = aRecord;
+                this.nextRecordLine = this.startLine;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public CreateCategoryCommand next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final var aRecord = this.nextRecord;
+        this.nextRecord = null;
+        this.recordLine = this.nextRecordLine;
+        return CreateCategoryCommand.with(
+                cell(aRecord, this.nameColumn),
+                cell(aRecord, this.descriptionColumn),
+                active(cell(aRecord, this.activeColumn))
+        );
+    }
+
+    private boolean active(final String aValue) {
+        if (aValue == null) {
+            return true;
+        }
+        return switch (aValue.trim().toLowerCase(Locale.ROOT)) {
+            case "true" -> true;
+            case "false" -> false;
+            default -> throw DomainException.with(
+                    new Error("Malformed CSV at line %d: 'is_active' must be true or false".formatted(this.recordLine))
+            );
+        };
+    }
+
+    private static String cell(final List<String> aRecord, final int aColumn) {
+        return aColumn >= 0 && aColumn < aRecord.size() ? aRecord.get(aColumn) : null;
+    }
+
+    // Returns null at the end of input; a blank line comes back as a single missing cell.
+    private List<String> read() {
+        this.startLine = this.line;
+        try {
+            var c = this.reader.read();
+            if (!this.started) {
+                this.started = true;
+                if (c == BOM) {
+                    c = this.reader.read();
+                }
+            }
+            if (c == -1) {
+                return null;
+            }
+
+            final var cells = new ArrayList<String>();
+            final var cell = new StringBuilder();
+            var quoted = false;
+            var inQuotes = false;
+            while (true) {
+                if (inQuotes) {
+                    if (c == -1) {
+                        throw DomainException.with(
+                                new Error("Malformed CSV at line %d: unterminated quoted field".formatted(this.line))
+                        );
+                    }
+                    if (c == '"') {
+                        c = this.reader.read();
+                        if (c == '"') {
+                            cell.append('"');
+                        } else {
+                            inQuotes = false;
+                            continue;
+                        }
+                    } else {
+                        if (c == '\n') {
+                            this.line++;
+                        }
+                        cell.append((char) c);
+                    }
+                } else if (c == '"' && cell.isEmpty() && !quoted) {
+                    quoted = true;
+                    inQuotes = true;
+                } else if (c == ',') {
+                    cells.add(value(cell, quoted));
+                    cell.setLength(0);
+                    quoted = false;
+                } else if (c == '\r' || c == '\n' || c == -1) {
+                    if (c == '\r') {
+                        this.reader.mark(1);
+                        if (this.reader.read() != '\n') {
+                            this.reader.reset();
+                        }
+                    }
+                    if (c != -1) {
+                        this.line++;
+                    }
+                    cells.add(value(cell, quoted));
+                    return cells;
+                } else {
+                    cell.append((char) c);
+                }
+                c = this.reader.read();
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String value(final StringBuilder aCell, final boolean quoted) {
+        return aCell.isEmpty() && !quoted ? null : aCell.toString();
+    }
+}
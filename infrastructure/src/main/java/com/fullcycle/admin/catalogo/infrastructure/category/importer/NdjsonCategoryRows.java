@@ -0,0 +1,54 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.importer;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// Pulls one JSON object at a time off the parser; a top level array is read element by element too.
+final class NdjsonCategoryRows implements Iterator<CreateCategoryCommand> {
+
+    private final MappingIterator<CreateCategoryRequest> values;
+
+    NdjsonCategoryRows(final InputStream in) {
+        this.values = Json.readValues(in, CreateCategoryRequest.class);
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            return this.values.hasNextValue();
+        } catch (final IOException ex) {
+            throw malformed();
+        }
+    }
+
+    @Override
+    public CreateCategoryCommand next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            final var aRequest = this.values.nextValue();
+            return CreateCategoryCommand.with(
+                    aRequest.name(),
+                    aRequest.description(),
+                    aRequest.active() != null ? aRequest.active() : true
+            );
+        } catch (final IOException ex) {
+            throw malformed();
+        }
+    }
+
+    private DomainException malformed() {
+        final var line = this.values.getCurrentLocation().getLineNr();
+        return DomainException.with(new Error("Malformed JSON at line %d".formatted(line)));
+    }
+}
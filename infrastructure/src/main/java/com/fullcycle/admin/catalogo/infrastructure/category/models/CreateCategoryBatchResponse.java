@@ -0,0 +1,13 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+
+import java.util.List;
+
+public record CreateCategoryBatchResponse(
+        @JsonProperty("index") int index,
+        @JsonProperty("id") String id,
+        @JsonProperty("errors") List<Error> errors
+) {
+}
@@ -0,0 +1,18 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+
+import java.util.List;
+
+public record ImportCategoriesResponse(
+        @JsonProperty("imported") long imported,
+        @JsonProperty("rejected") long rejected,
+        @JsonProperty("rejections") List<Rejection> rejections
+) {
+    public record Rejection(
+            @JsonProperty("row") long row,
+            @JsonProperty("errors") List<Error> errors
+    ) {
+    }
+}
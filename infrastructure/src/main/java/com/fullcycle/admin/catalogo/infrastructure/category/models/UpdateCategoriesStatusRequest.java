@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record UpdateCategoriesStatusRequest(
+        @JsonProperty("ids") List<String> ids,
+        @JsonProperty("is_active") Boolean active
+) {
+}
@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record UpdateCategoriesStatusResponse(
+        @JsonProperty("updated") List<String> updated,
+        @JsonProperty("not_found") List<String> notFound
+) {
+}
@@ -2,17 +2,28 @@ package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
 
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.BinaryIdType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Type;
+import org.springframework.data.domain.Persistable;
 
 import java.time.Instant;
 
 @Table(name = "category")
 @Entity
-public class CategoryJpaEntity {
+@DynamicUpdate
+public class CategoryJpaEntity implements Persistable<String> {
     @Id
+    @Column(name = "id", columnDefinition = "BINARY(16)")
+    @Type(BinaryIdType.class)
     private String id;
     @Column(name = "name", nullable = false)
     private String name;
@@ -26,6 +37,13 @@ public class CategoryJpaEntity {
     private Instant updatedAt;
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    // The id is assigned by the domain, so save() could not tell a new row apart and would SELECT before the INSERT.
+    @Transient
+    private boolean isNew = true;
 
     public CategoryJpaEntity() {
     }
@@ -37,7 +55,8 @@ public class CategoryJpaEntity {
             final boolean active,
             final Instant createdAt,
             final Instant updatedAt,
-            final Instant deletedAt
+            final Instant deletedAt,
+            final long version
     ) {
         this.id = id;
         this.name = name;
@@ -46,6 +65,7 @@ public class CategoryJpaEntity {
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.deletedAt = deletedAt;
+        this.version = version;
     }
 
     public static CategoryJpaEntity from(final Category aCategory) {
@@ -56,7 +76,8 @@ public class CategoryJpaEntity {
                 aCategory.isActive(),
                 aCategory.getCreatedAt(),
                 aCategory.getUpdatedAt(),
-                aCategory.getDeletedAt()
+                aCategory.getDeletedAt(),
+                aCategory.getVersion()
         );
     }
 
@@ -68,10 +89,23 @@ public class CategoryJpaEntity {
                 isActive(),
                 getCreatedAt(),
                 getUpdatedAt(),
-                getDeletedAt()
+                getDeletedAt(),
+                getVersion()
         );
     }
 
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
     public String getId() {
         return id;
     }
@@ -127,4 +161,12 @@ public class CategoryJpaEntity {
     public void setDeletedAt(Instant deletedAt) {
         this.deletedAt = deletedAt;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
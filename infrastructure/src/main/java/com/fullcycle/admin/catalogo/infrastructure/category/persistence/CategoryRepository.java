@@ -4,8 +4,38 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String> {
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String>, JpaSpecificationExecutor<CategoryJpaEntity> {
 
     Page<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> whereClause, Pageable page);
+
+    @Query("select c.id from CategoryJpaEntity c where c.id in :ids")
+    List<String> existsByIds(@Param("ids") Collection<String> ids);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from CategoryJpaEntity c where c.id = :id")
+    int deleteOne(@Param("id") String id);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from CategoryJpaEntity c where c.id in :ids")
+    int deleteMany(@Param("ids") Collection<String> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update CategoryJpaEntity c set c.active = true, c.deletedAt = null, c.updatedAt = :updatedAt, c.version = c.version + 1 where c.id in :ids")
+    int activateAll(@Param("ids") Collection<String> ids, @Param("updatedAt") Instant updatedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update CategoryJpaEntity c set c.active = false, c.deletedAt = coalesce(c.deletedAt, :updatedAt), c.updatedAt = :updatedAt, c.version = c.version + 1 where c.id in :ids")
+    int deactivateAll(@Param("ids") Collection<String> ids, @Param("updatedAt") Instant updatedAt);
 }
@@ -0,0 +1,39 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+
+import java.time.Instant;
+import java.util.Arrays;
+
+// Public sort keys, each backed by a (column, id) index from V6.
+public enum CategorySort {
+    NAME("name", String.class),
+    CREATED_AT("createdAt", Instant.class),
+    DELETED_AT("deletedAt", Instant.class);
+
+    private final String field;
+    private final Class<?> type;
+
+    CategorySort(final String aField, final Class<?> aType) {
+        this.field = aField;
+        this.type = aType;
+    }
+
+    public static CategorySort from(final String aField) {
+        return Arrays.stream(values())
+                .filter(sort -> sort.field.equals(aField))
+                .findFirst()
+                .orElseThrow(() -> DomainException.with(
+                        new Error("'sort' must be one of name, createdAt or deletedAt")
+                ));
+    }
+
+    public String field() {
+        return field;
+    }
+
+    public Class<?> type() {
+        return type;
+    }
+}
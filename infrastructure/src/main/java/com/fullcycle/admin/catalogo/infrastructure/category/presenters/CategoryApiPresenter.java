@@ -1,9 +1,15 @@
 package com.fullcycle.admin.catalogo.infrastructure.category.presenters;
 
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryOutput;
+import com.fullcycle.admin.catalogo.application.category.create.ImportCategoriesOutput;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.CategoryOutput;
 import com.fullcycle.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryListResponse;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryResponse;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategoryBatchResponse;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.ImportCategoriesResponse;
+import io.vavr.control.Either;
 
 public interface CategoryApiPresenter {
     static CategoryResponse present(final CategoryOutput categoryOutput) {
@@ -28,4 +34,21 @@ public interface CategoryApiPresenter {
                 categoryListOutput.deletedAt()
         );
     }
-}
+
+    static ImportCategoriesResponse present(final ImportCategoriesOutput importOutput) {
+        return new ImportCategoriesResponse(
+                importOutput.imported(),
+                importOutput.rejected(),
+                importOutput.rejections().stream()
+                        .map(rejection -> new ImportCategoriesResponse.Rejection(rejection.row(), rejection.errors()))
+                        .toList()
+        );
+    }
+
+    static CreateCategoryBatchResponse present(final int index, final Either<Notification, CreateCategoryOutput> result) {
+        return result.fold(
+                notification -> new CreateCategoryBatchResponse(index, null, notification.getErrors()),
+                output -> new CreateCategoryBatchResponse(index, output.id(), null)
+        );
+    }
+}
\ No newline at end of file
@@ -0,0 +1,179 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.search;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.infrastructure.cache.CacheInvalidations;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategorySort;
+import com.fullcycle.admin.catalogo.infrastructure.search.InvertedIndex;
+import com.fullcycle.admin.catalogo.infrastructure.search.InvertedIndex.Document;
+import com.fullcycle.admin.catalogo.infrastructure.utils.CursorUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.CursorUtils.Cursor;
+import com.fullcycle.admin.catalogo.infrastructure.utils.TransactionUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Local writes reach the index once their transaction commits, so a search never sees a row that was rolled back;
+// writes on other nodes arrive through cache_invalidations and are read back from the database. Each document keeps
+// the values categories are listed by, so a search is paged here and only the ids of one page reach the database.
+@Component
+public class CategorySearchIndex {
+
+    public static final String NAME = "category-search";
+
+    private final CategoryRepository repository;
+    private final CacheInvalidations invalidations;
+    private final TransactionTemplate primary;
+    private final InvertedIndex index;
+    private final boolean enabled;
+
+    public CategorySearchIndex(
+            final CategoryRepository repository,
+            final CacheInvalidations invalidations,
+            final PlatformTransactionManager transactionManager,
+            @Value("${search.index.enabled:false}") final boolean enabled
+    ) {
+        this.repository = Objects.requireNonNull(repository);
+        this.invalidations = Objects.requireNonNull(invalidations);
+        this.primary = new TransactionTemplate(transactionManager);
+        // Reads run from afterCommit too, where joining the finished transaction would not reach the database. They
+        // stay read-write so a replica, which may not have the write yet, never fills the index with a stale row.
+        this.primary.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.index = new InvertedIndex(ForkJoinPool.commonPool());
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void index(final Category aCategory) {
+        indexAll(List.of(aCategory));
+    }
+
+    public void indexAll(final List<Category> aCategories) {
+        if (!enabled || aCategories.isEmpty()) {
+            return;
+        }
+        final var documents = aCategories.stream().collect(Collectors.toMap(
+                aCategory -> aCategory.getId().getValue(),
+                CategorySearchIndex::document,
+                (first, last) -> last
+        ));
+        TransactionUtils.afterCommit(() -> documents.forEach((anId, aDocument) -> this.index.index(anId, aDocument.keys(), aDocument.fields())));
+        this.invalidations.publish(NAME, documents.keySet());
+    }
+
+    // Bulk writes change keys without handing over the categories, so those are read back once they commit.
+    public void refreshAll(final Collection<CategoryID> ids) {
+        if (!enabled || ids.isEmpty()) {
+            return;
+        }
+        final var values = ids.stream().map(CategoryID::getValue).collect(Collectors.toSet());
+        TransactionUtils.afterCommit(() -> reindex(values));
+        this.invalidations.publish(NAME, values);
+    }
+
+    public void remove(final CategoryID anId) {
+        removeAll(List.of(anId));
+    }
+
+    public void removeAll(final Collection<CategoryID> ids) {
+        if (!enabled || ids.isEmpty()) {
+            return;
+        }
+        final var values = ids.stream().map(CategoryID::getValue).collect(Collectors.toSet());
+        TransactionUtils.afterCommit(() -> values.forEach(this.index::remove));
+        this.invalidations.publish(NAME, values);
+    }
+
+    public Set<String> search(final String terms) {
+        return this.index.search(terms);
+    }
+
+    public InvertedIndex.Page page(
+            final String terms,
+            final CategorySort aSort,
+            final Direction aDirection,
+            final Cursor aCursor,
+            final long offset,
+            final int limit
+    ) {
+        final var after = aCursor != null
+                ? new InvertedIndex.Position(aCursor.value() != null ? CursorUtils.value(aCursor, aSort.type()) : null, aCursor.id())
+                : null;
+        return this.index.page(terms, aSort.field(), aDirection, after, offset, limit);
+    }
+
+    // Applies writes made elsewhere: whatever is still in the table is indexed again, the rest was deleted.
+    public void reindex(final Collection<String> ids) {
+        if (!enabled) {
+            return;
+        }
+        final var found = Objects.requireNonNull(this.primary.execute(status -> this.repository.findAllById(ids).stream()
+                .collect(Collectors.toMap(CategoryJpaEntity::getId, Function.identity()))));
+        ids.forEach(anId -> {
+            final var entity = found.get(anId);
+            if (entity == null) {
+                this.index.remove(anId);
+            } else {
+                final var aDocument = document(entity);
+                this.index.index(anId, aDocument.keys(), aDocument.fields());
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    // Called from onApplicationReady as well, where a @Transactional on this method would be bypassed.
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        this.index.rebuild(() -> this.primary.execute(status -> this.repository.findAll().stream().collect(Collectors.toMap(
+                CategoryJpaEntity::getId,
+                CategorySearchIndex::document
+        ))));
+    }
+
+    private static Document document(final Category aCategory) {
+        return document(aCategory.getName(), aCategory.getDescription(), aCategory.getCreatedAt(), aCategory.getDeletedAt());
+    }
+
+    private static Document document(final CategoryJpaEntity anEntity) {
+        return document(anEntity.getName(), anEntity.getDescription(), anEntity.getCreatedAt(), anEntity.getDeletedAt());
+    }
+
+    private static Document document(
+            final String aName,
+            final String aDescription,
+            final Instant aCreatedAt,
+            final Instant aDeletedAt
+    ) {
+        final var keys = new HashMap<String, Comparable<?>>();
+        keys.put(CategorySort.NAME.field(), aName);
+        keys.put(CategorySort.CREATED_AT.field(), aCreatedAt);
+        keys.put(CategorySort.DELETED_AT.field(), aDeletedAt);
+        return new Document(keys, aName, aDescription);
+    }
+}
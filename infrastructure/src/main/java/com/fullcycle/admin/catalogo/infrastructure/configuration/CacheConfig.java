@@ -0,0 +1,79 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.infrastructure.cache.BoundedCache;
+import com.fullcycle.admin.catalogo.infrastructure.cache.CacheInvalidationTailer.Target;
+import com.fullcycle.admin.catalogo.infrastructure.cache.CacheInvalidations;
+import com.fullcycle.admin.catalogo.infrastructure.category.CachedCategoryGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
+import com.fullcycle.admin.catalogo.infrastructure.genre.CachedGenreGateway;
+import com.fullcycle.admin.catalogo.infrastructure.genre.GenreMySQLGateway;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.PrimaryReads;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+// The use cases inject the gateway interfaces, so the cached decorators take their place when enabled; code that
+// needs the database itself keeps injecting the MySQL gateways.
+@Configuration
+@ConditionalOnProperty(name = "cache.enabled", havingValue = "true")
+public class CacheConfig {
+
+    @Bean
+    public BoundedCache<CategoryID, Category> categoryCache(
+            @Value("${cache.categories.max-size:16MB}") final DataSize maxSize,
+            @Value("${cache.categories.ttl:10m}") final Duration ttl
+    ) {
+        return new BoundedCache<>(maxSize.toBytes(), ttl, CachedCategoryGateway::weigh);
+    }
+
+    @Bean
+    public BoundedCache<GenreID, Genre> genreCache(
+            @Value("${cache.genres.max-size:16MB}") final DataSize maxSize,
+            @Value("${cache.genres.ttl:10m}") final Duration ttl
+    ) {
+        return new BoundedCache<>(maxSize.toBytes(), ttl, CachedGenreGateway::weigh);
+    }
+
+    @Bean
+    public Target categoryCacheTarget(final BoundedCache<CategoryID, Category> categoryCache) {
+        return Target.of(CachedCategoryGateway.CACHE, categoryCache, CategoryID::from);
+    }
+
+    @Bean
+    public Target genreCacheTarget(final BoundedCache<GenreID, Genre> genreCache) {
+        return Target.of(CachedGenreGateway.CACHE, genreCache, GenreID::from);
+    }
+
+    @Bean
+    @Primary
+    public CategoryGateway cachedCategoryGateway(
+            final CategoryMySQLGateway categoryGateway,
+            final BoundedCache<CategoryID, Category> categoryCache,
+            final BoundedCache<GenreID, Genre> genreCache,
+            final CacheInvalidations invalidations
+    ) {
+        return new CachedCategoryGateway(categoryGateway, categoryCache, genreCache, invalidations);
+    }
+
+    @Bean
+    @Primary
+    public GenreGateway cachedGenreGateway(
+            final GenreMySQLGateway genreGateway,
+            final BoundedCache<GenreID, Genre> genreCache,
+            final CacheInvalidations invalidations,
+            final PrimaryReads primaryReads
+    ) {
+        return new CachedGenreGateway(genreGateway, genreCache, invalidations, primaryReads);
+    }
+}
@@ -0,0 +1,61 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.cache.CacheInvalidationTailer;
+import com.fullcycle.admin.catalogo.infrastructure.cache.CacheInvalidationTailer.Target;
+import com.fullcycle.admin.catalogo.infrastructure.cache.CacheInvalidations;
+import com.fullcycle.admin.catalogo.infrastructure.cache.persistence.CacheInvalidationRepository;
+import com.fullcycle.admin.catalogo.infrastructure.category.search.CategorySearchIndex;
+import com.fullcycle.admin.catalogo.infrastructure.genre.search.GenreSearchIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+// The caches and the search indexes both keep state derived from the database on every node, so both learn about
+// the other nodes' writes from cache_invalidations; each one registers a target under the name its rows carry.
+@Configuration
+public class CacheInvalidationConfig {
+
+    @Bean
+    public CacheInvalidations cacheInvalidations(
+            final CacheInvalidationRepository repository,
+            @Value("${cache.invalidation.enabled:false}") final boolean enabled
+    ) {
+        return new CacheInvalidations(repository, enabled);
+    }
+
+    @Bean
+    public Target categorySearchTarget(final CategorySearchIndex searchIndex) {
+        return Target.of(CategorySearchIndex.NAME, searchIndex::reindex, searchIndex::rebuild);
+    }
+
+    @Bean
+    public Target genreSearchTarget(final GenreSearchIndex searchIndex) {
+        return Target.of(GenreSearchIndex.NAME, searchIndex::reindex, searchIndex::rebuild);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.invalidation.enabled", havingValue = "true")
+    public CacheInvalidationTailer cacheInvalidationTailer(
+            final CacheInvalidationRepository repository,
+            final PlatformTransactionManager transactionManager,
+            final List<Target> targets,
+            @Value("${cache.invalidation.batch-size:500}") final int batchSize,
+            @Value("${cache.invalidation.max-gap-age:1m}") final Duration maxGapAge,
+            @Value("${cache.invalidation.retention:1h}") final Duration retention
+    ) {
+        return new CacheInvalidationTailer(
+                repository,
+                new TransactionTemplate(transactionManager),
+                targets,
+                batchSize,
+                maxGapAge,
+                retention
+        );
+    }
+}
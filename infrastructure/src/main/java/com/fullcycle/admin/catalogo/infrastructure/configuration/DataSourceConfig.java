@@ -0,0 +1,57 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.persistence.ReplicaHealth;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "replica.enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("replica.datasource")
+    public HikariDataSource replicaDataSource() {
+        final var dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaHealth replicaHealth(
+            @Qualifier("replicaDataSource") final DataSource replica,
+            @Value("${replica.lag-query:}") final String lagQuery,
+            @Value("${replica.max-lag:5s}") final Duration maxLag,
+            @Value("${replica.check-interval:1s}") final Duration checkInterval
+    ) {
+        return new ReplicaHealth(replica, lagQuery, maxLag, checkInterval, System::currentTimeMillis);
+    }
+
+    // The lazy proxy defers the pool choice to the first statement, when the transaction's read-only flag is already set.
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") final DataSource primary,
+            @Qualifier("replicaDataSource") final DataSource replica,
+            final ReplicaHealth replicaHealth
+    ) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica, replicaHealth));
+    }
+}
@@ -0,0 +1,31 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor queryExecutor(@Value("${query-executor.pool-size:4}") final int poolSize) {
+        final var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix("query-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    // One thread per running import writes its batches; imports beyond the pool size queue up here.
+    @Bean
+    public ThreadPoolTaskExecutor importExecutor(@Value("${category-import.writers:2}") final int poolSize) {
+        final var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix("import-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
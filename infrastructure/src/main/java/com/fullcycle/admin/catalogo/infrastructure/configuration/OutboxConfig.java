@@ -0,0 +1,36 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.outbox.FileOutboxPublisher;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.OutboxPublisher;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.OutboxRelay;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "outbox.publisher", havingValue = "file", matchIfMissing = true)
+    public OutboxPublisher fileOutboxPublisher(@Value("${outbox.file:build/outbox/events.ndjson}") final String aFile) {
+        return new FileOutboxPublisher(Path.of(aFile));
+    }
+
+    // Its @Scheduled drain runs wherever the bean exists, so the bean itself is what the switch turns off.
+    @Bean
+    @ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+    public OutboxRelay outboxRelay(
+            final OutboxEventRepository repository,
+            final OutboxPublisher publisher,
+            final PlatformTransactionManager transactionManager,
+            @Value("${outbox.relay.batch-size:100}") final int batchSize
+    ) {
+        return new OutboxRelay(repository, publisher, new TransactionTemplate(transactionManager), batchSize);
+    }
+}
@@ -0,0 +1,35 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final int exportPoolSize;
+
+    public WebMvcConfig(@Value("${export-executor.pool-size:4}") final int exportPoolSize) {
+        this.exportPoolSize = exportPoolSize;
+    }
+
+    @Override
+    public void configureAsyncSupport(final AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(exportExecutor());
+    }
+
+    // Streaming responses run here; each one holds a database connection until its last row is written,
+    // so exports beyond the pool size wait in the queue instead of draining the connection pool.
+    @Bean
+    public ThreadPoolTaskExecutor exportExecutor() {
+        final var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(this.exportPoolSize);
+        executor.setMaxPoolSize(this.exportPoolSize);
+        executor.setThreadNamePrefix("export-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
@@ -2,8 +2,11 @@ package com.fullcycle.admin.catalogo.infrastructure.configuration;
 
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+// Scheduling is on for the whole application; each @Scheduled bean is only created when its own switch is on.
 @Configuration
 @ComponentScan("com.fullcycle.admin.catalogo")
+@EnableScheduling
 public class WebServerConfig {
 }
@@ -1,6 +1,8 @@
 package com.fullcycle.admin.catalogo.infrastructure.configuration.json;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -10,6 +12,8 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.concurrent.Callable;
 
 public enum Json {
@@ -23,6 +27,14 @@ public enum Json {
         return invoke(() -> INSTANCE.mapper.writeValueAsString(obj));
     }
 
+    public static JsonGenerator createGenerator(final OutputStream out) {
+        return invoke(() -> INSTANCE.mapper.createGenerator(out).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET));
+    }
+
+    public static <T> MappingIterator<T> readValues(final InputStream in, final Class<T> clazz) {
+        return invoke(() -> INSTANCE.mapper.readerFor(clazz).readValues(in));
+    }
+
     public static <T> T readValueAsString(final String json, final Class<T> clazz) {
         return invoke(() -> INSTANCE.mapper.readValue(json, clazz));
     }
@@ -0,0 +1,39 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+// Writes one JSON document per line (NDJSON) through a single generator, so each row is serialized straight into
+// the response buffer and nothing accumulates between rows.
+public final class JsonLines implements Consumer<Object>, Closeable {
+
+    private final JsonGenerator generator;
+
+    private JsonLines(final JsonGenerator aGenerator) {
+        this.generator = aGenerator;
+    }
+
+    public static JsonLines to(final OutputStream out) {
+        return new JsonLines(Json.createGenerator(out));
+    }
+
+    @Override
+    public void accept(final Object aValue) {
+        try {
+            this.generator.writeObject(aValue);
+            this.generator.writeRaw('\n');
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.generator.close();
+    }
+}
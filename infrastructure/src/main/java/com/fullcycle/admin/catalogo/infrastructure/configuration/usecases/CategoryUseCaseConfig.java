@@ -1,25 +1,42 @@
 package com.fullcycle.admin.catalogo.infrastructure.configuration.usecases;
 
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.DefaultCreateCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.create.DefaultCreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.DefaultImportCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.ImportCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.delete.DefaultDeleteCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.delete.DefaultDeleteCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.export.DefaultExportCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.list.DefaultListCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.update.DefaultUpdateCategoriesStatusUseCase;
 import com.fullcycle.admin.catalogo.application.category.update.DefaultUpdateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoriesStatusUseCase;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryUseCase;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.Executor;
 
 @Configuration
 public class CategoryUseCaseConfig {
     private final CategoryGateway categoryGateway;
+    private final PlatformTransactionManager transactionManager;
 
-    public CategoryUseCaseConfig(CategoryGateway categoryGateway) {
+    public CategoryUseCaseConfig(CategoryGateway categoryGateway, PlatformTransactionManager transactionManager) {
         this.categoryGateway = categoryGateway;
+        this.transactionManager = transactionManager;
     }
 
     @Bean
@@ -27,14 +44,36 @@ public class CategoryUseCaseConfig {
         return new DefaultCreateCategoryUseCase(categoryGateway);
     }
 
+    @Bean
+    public CreateCategoriesUseCase createCategoriesUseCase(
+            @Value("${category-create.max-batch-size:1000}") final int maxBatchSize
+    ) {
+        return new DefaultCreateCategoriesUseCase(categoryGateway, maxBatchSize);
+    }
+
+    // Each batch commits through its own createAll transaction, so the use case itself is not wrapped in one.
+    @Bean
+    public ImportCategoriesUseCase importCategoriesUseCase(
+            @Qualifier("importExecutor") final Executor importExecutor,
+            @Value("${category-import.batch-size:500}") final int batchSize,
+            @Value("${category-import.queued-batches:4}") final int queuedBatches
+    ) {
+        return new DefaultImportCategoriesUseCase(categoryGateway, importExecutor, batchSize, queuedBatches);
+    }
+
     @Bean
     public UpdateCategoryUseCase updatecategoryUseCase() {
         return new DefaultUpdateCategoryUseCase(categoryGateway);
     }
 
+    @Bean
+    public UpdateCategoriesStatusUseCase updateCategoriesStatusUseCase() {
+        return new DefaultUpdateCategoriesStatusUseCase(categoryGateway);
+    }
+
     @Bean
     public GetCategoryByIdUseCase getCategoryByIdUseCase() {
-        return new DefaultGetCategoryByIdUseCase(categoryGateway);
+        return ReadOnlyTransactions.wrap(new DefaultGetCategoryByIdUseCase(categoryGateway), transactionManager);
     }
 
     @Bean
@@ -42,8 +81,18 @@ public class CategoryUseCaseConfig {
         return new DefaultDeleteCategoryUseCase(categoryGateway);
     }
 
+    @Bean
+    public DeleteCategoriesUseCase deleteCategoriesUseCase() {
+        return new DefaultDeleteCategoriesUseCase(categoryGateway);
+    }
+
     @Bean
     public ListCategoriesUseCase listCategoriesUseCase() {
-        return new DefaultListCategoriesUseCase(categoryGateway);
+        return ReadOnlyTransactions.wrap(new DefaultListCategoriesUseCase(categoryGateway), transactionManager);
+    }
+
+    @Bean
+    public ExportCategoriesUseCase exportCategoriesUseCase() {
+        return ReadOnlyTransactions.wrap(new DefaultExportCategoriesUseCase(categoryGateway), transactionManager);
     }
 }
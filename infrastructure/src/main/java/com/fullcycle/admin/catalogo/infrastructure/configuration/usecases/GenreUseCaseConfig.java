@@ -0,0 +1,73 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.usecases;
+
+import com.fullcycle.admin.catalogo.application.genre.create.CreateGenreUseCase;
+import com.fullcycle.admin.catalogo.application.genre.create.DefaultCreateGenreUseCase;
+import com.fullcycle.admin.catalogo.application.genre.delete.DefaultDeleteGenreUseCase;
+import com.fullcycle.admin.catalogo.application.genre.delete.DeleteGenreUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.export.DefaultExportGenresUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.export.ExportGenresUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.get.DefaultGetGenreByIdUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.get.GetGenreByIdUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.list.DefaultListGenreUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.list.DefaultListGenresByCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.list.ListGenreUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.list.ListGenresByCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.genre.update.DefaultUpdateGenreUseCase;
+import com.fullcycle.admin.catalogo.application.genre.update.UpdateGenreUseCase;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+public class GenreUseCaseConfig {
+    private final GenreGateway genreGateway;
+    private final CategoryGateway categoryGateway;
+    private final PlatformTransactionManager transactionManager;
+
+    public GenreUseCaseConfig(
+            GenreGateway genreGateway,
+            CategoryGateway categoryGateway,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.genreGateway = genreGateway;
+        this.categoryGateway = categoryGateway;
+        this.transactionManager = transactionManager;
+    }
+
+    @Bean
+    public CreateGenreUseCase createGenreUseCase() {
+        return new DefaultCreateGenreUseCase(categoryGateway, genreGateway);
+    }
+
+    @Bean
+    public UpdateGenreUseCase updateGenreUseCase() {
+        return new DefaultUpdateGenreUseCase(genreGateway, categoryGateway);
+    }
+
+    @Bean
+    public DeleteGenreUseCase deleteGenreUseCase() {
+        return new DefaultDeleteGenreUseCase(genreGateway);
+    }
+
+    @Bean
+    public GetGenreByIdUseCase getGenreByIdUseCase() {
+        return ReadOnlyTransactions.wrap(new DefaultGetGenreByIdUseCase(genreGateway), transactionManager);
+    }
+
+    @Bean
+    public ListGenreUseCase listGenreUseCase() {
+        return ReadOnlyTransactions.wrap(new DefaultListGenreUseCase(genreGateway), transactionManager);
+    }
+
+    @Bean
+    public ListGenresByCategoryUseCase listGenresByCategoryUseCase() {
+        return ReadOnlyTransactions.wrap(new DefaultListGenresByCategoryUseCase(genreGateway, categoryGateway), transactionManager);
+    }
+
+    @Bean
+    public ExportGenresUseCase exportGenresUseCase() {
+        return ReadOnlyTransactions.wrap(new DefaultExportGenresUseCase(genreGateway), transactionManager);
+    }
+}
@@ -0,0 +1,28 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.usecases;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.transaction.TransactionManager;
+import org.springframework.transaction.interceptor.DefaultTransactionAttribute;
+import org.springframework.transaction.interceptor.MatchAlwaysTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+
+final class ReadOnlyTransactions {
+
+    private ReadOnlyTransactions() {
+    }
+
+    // Use cases live outside Spring, so their read-only boundary is added here; with a replica configured it routes them there.
+    @SuppressWarnings("unchecked")
+    static <T> T wrap(final T aUseCase, final TransactionManager aTransactionManager) {
+        final var attribute = new DefaultTransactionAttribute();
+        attribute.setReadOnly(true);
+
+        final var source = new MatchAlwaysTransactionAttributeSource();
+        source.setTransactionAttribute(attribute);
+
+        final var factory = new ProxyFactory(aUseCase);
+        factory.setProxyTargetClass(true);
+        factory.addAdvice(new TransactionInterceptor(aTransactionManager, source));
+        return (T) factory.getProxy();
+    }
+}
@@ -0,0 +1,116 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.cache.BoundedCache;
+import com.fullcycle.admin.catalogo.infrastructure.cache.CacheInvalidations;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.PrimaryReads;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+// Serves findById from memory and drops the entry every write touches, here and on the other nodes. Each caller
+// gets a fresh genre, shaped like one read from the database, so tracked link changes never leak between requests.
+// Misses are loaded from the primary, since a row read off a lagging replica would be served for the whole time to live.
+public class CachedGenreGateway implements GenreGateway {
+
+    public static final String CACHE = "genres";
+
+    private final GenreGateway delegate;
+    private final BoundedCache<GenreID, Genre> cache;
+    private final CacheInvalidations invalidations;
+    private final PrimaryReads primaryReads;
+
+    public CachedGenreGateway(
+            final GenreGateway delegate,
+            final BoundedCache<GenreID, Genre> cache,
+            final CacheInvalidations invalidations,
+            final PrimaryReads primaryReads
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.cache = Objects.requireNonNull(cache);
+        this.invalidations = Objects.requireNonNull(invalidations);
+        this.primaryReads = Objects.requireNonNull(primaryReads);
+    }
+
+    // Roughly the bytes a cached genre holds: its name, one id per linked category and a fixed cost for the rest.
+    public static long weigh(final Genre aGenre) {
+        return 128 + 2L * aGenre.getName().length() + 64L * aGenre.getCategories().size();
+    }
+
+    // Misses are never cached, so a new id cannot be stale on another node and only this one is cleared.
+    @Override
+    public Genre create(final Genre aGenre) {
+        final var created = this.delegate.create(aGenre);
+        this.cache.invalidateOnCompletion(List.of(aGenre.getId()));
+        return created;
+    }
+
+    @Override
+    @Transactional
+    public void deleteById(final GenreID anId) {
+        this.delegate.deleteById(anId);
+        invalidate(anId);
+    }
+
+    @Override
+    public Optional<Genre> findById(final GenreID anId) {
+        return this.cache.get(anId, key -> this.primaryReads.read(() -> this.delegate.findById(key)))
+                .map(CachedGenreGateway::copy);
+    }
+
+    // A version conflict means the cached copy is already stale, so it is dropped either way; the other nodes only
+    // hear about writes that went through.
+    @Override
+    @Transactional
+    public Genre update(final Genre aGenre) {
+        final Genre updated;
+        try {
+            updated = this.delegate.update(aGenre);
+        } finally {
+            this.cache.invalidateOnCompletion(List.of(aGenre.getId()));
+        }
+        this.invalidations.publish(CACHE, List.of(aGenre.getId().getValue()));
+        return updated;
+    }
+
+    @Override
+    public Pagination<Genre> findAll(final SearchQuery aQuery) {
+        return this.delegate.findAll(aQuery);
+    }
+
+    @Override
+    public Pagination<Genre> findAllByCategory(final CategoryID anId, final SearchQuery aQuery) {
+        return this.delegate.findAllByCategory(anId, aQuery);
+    }
+
+    @Override
+    public void forEach(final Consumer<Genre> anAction) {
+        this.delegate.forEach(anAction);
+    }
+
+    private void invalidate(final GenreID anId) {
+        this.cache.invalidateOnCompletion(List.of(anId));
+        this.invalidations.publish(CACHE, List.of(anId.getValue()));
+    }
+
+    private static Genre copy(final Genre aGenre) {
+        return Genre.with(
+                aGenre.getId(),
+                aGenre.getName(),
+                aGenre.isActive(),
+                List.copyOf(aGenre.getCategories()),
+                aGenre.getCreatedAt(),
+                aGenre.getUpdatedAt(),
+                aGenre.getDeletedAt(),
+                aGenre.getVersion()
+        );
+    }
+}
@@ -1,4 +1,358 @@
 package com.fullcycle.admin.catalogo.infrastructure.genre;
 
-public class GenreMySQLGateway {
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.exceptions.VersionConflictException;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreDeleted;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreCategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreSort;
+import com.fullcycle.admin.catalogo.infrastructure.genre.search.GenreSearchIndex;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.Outbox;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.TableStatistics;
+import com.fullcycle.admin.catalogo.infrastructure.utils.CursorUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SliceQueries;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.Tuple;
+import org.hibernate.Hibernate;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+@Service
+public class GenreMySQLGateway implements GenreGateway {
+
+    private static final String TABLE = "genres";
+    private static final String ID = "id";
+    private static final String NAME = "name";
+    private static final String ACTIVE = "active";
+    private static final String CREATED_AT = "createdAt";
+    private static final String UPDATED_AT = "updatedAt";
+    private static final String DELETED_AT = "deletedAt";
+    private static final String VERSION = "version";
+    private static final String CATEGORY_ID = "categoryId";
+    private static final int EXPORT_FETCH_SIZE = 1000;
+    private static final String SELECT =
+            "select g.id as id, g.name as name, g.active as active, g.createdAt as createdAt, g.updatedAt as updatedAt, g.deletedAt as deletedAt, g.version as version";
+    private static final String EXPORT = SELECT + ", gc.id.categoryId as categoryId"
+            + " from GenreJpaEntity g left join g.categories gc order by g.id";
+    private static final String BY_CATEGORY = SELECT
+            + " from GenreCategoryJpaEntity gc join gc.genre g where gc.id.categoryId = :categoryId";
+    private static final String BY_CATEGORY_FIRST = BY_CATEGORY + " order by gc.id.genreId";
+    private static final String BY_CATEGORY_AFTER = BY_CATEGORY + " and gc.id.genreId > :cursorId order by gc.id.genreId";
+    private static final String COUNT_BY_CATEGORY =
+            "select count(gc) from GenreCategoryJpaEntity gc where gc.id.categoryId = :categoryId";
+    private static final String CURSOR_ID = "cursorId";
+    private static final String BY_IDS = "g.id in :terms";
+    private static final String BY_LIKE = "upper(g.name) like :terms";
+
+    private final GenreRepository repository;
+    private final EntityManager entityManager;
+    private final TableStatistics tableStatistics;
+    private final GenreSearchIndex searchIndex;
+    private final Outbox outbox;
+    private final SliceQueries queries = new SliceQueries("GenreJpaEntity", "g");
+
+    public GenreMySQLGateway(
+            final GenreRepository repository,
+            final EntityManager entityManager,
+            final TableStatistics tableStatistics,
+            final GenreSearchIndex searchIndex,
+            final Outbox outbox
+    ) {
+        this.repository = Objects.requireNonNull(repository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.tableStatistics = Objects.requireNonNull(tableStatistics);
+        this.searchIndex = Objects.requireNonNull(searchIndex);
+        this.outbox = Objects.requireNonNull(outbox);
+    }
+
+    @Override
+    @Transactional
+    public Genre create(final Genre aGenre) {
+        final var created = this.repository.save(GenreJpaEntity.from(aGenre)).toAggregate();
+        this.outbox.append(aGenre);
+        this.searchIndex.index(created);
+        return created;
+    }
+
+    @Override
+    @Transactional
+    public void deleteById(final GenreID anId) {
+        // genres_categories rows go with the genre through the ON DELETE CASCADE foreign key.
+        if (this.repository.deleteOne(anId.getValue()) > 0) {
+            this.outbox.append(Genre.class, List.of(GenreDeleted.with(anId, InstantUtils.now())));
+            this.searchIndex.remove(anId);
+        }
+    }
+
+    @Override
+    public Optional<Genre> findById(final GenreID anId) {
+        return this.repository.findWithCategoriesById(anId.getValue())
+                .map(GenreJpaEntity::toAggregate);
+    }
+
+    @Override
+    @Transactional
+    public Genre update(final Genre aGenre) {
+        final Genre updated;
+        try {
+            updated = applyChanges(aGenre);
+        } catch (final OptimisticLockException ex) {
+            throw VersionConflictException.with(Genre.class, aGenre.getId());
+        }
+        this.searchIndex.index(updated);
+        return updated;
+    }
+
+    // Only the genre row and the category links that changed are written; untouched links are never loaded.
+    private Genre applyChanges(final Genre aGenre) {
+        final var anId = aGenre.getId().getValue();
+        final var entity = load(anId).orElseThrow(() -> NotFoundException.with(Genre.class, aGenre.getId()));
+        if (entity.getVersion() != aGenre.getVersion()) {
+            throw VersionConflictException.with(Genre.class, aGenre.getId());
+        }
+
+        entity.setName(aGenre.getName());
+        entity.setActive(aGenre.isActive());
+        entity.setUpdatedAt(aGenre.getUpdatedAt());
+        entity.setDeletedAt(aGenre.getDeletedAt());
+
+        if (!aGenre.getRemovedCategories().isEmpty()) {
+            this.repository.deleteCategoryLinks(
+                    anId,
+                    aGenre.getRemovedCategories().stream().map(CategoryID::getValue).toList()
+            );
+        }
+        aGenre.getAddedCategories()
+                .forEach(aCategoryId -> this.entityManager.persist(GenreCategoryJpaEntity.from(entity, aCategoryId)));
+        this.outbox.append(aGenre);
+        this.entityManager.flush();
+
+        return Genre.with(
+                aGenre.getId(),
+                entity.getName(),
+                entity.isActive(),
+                new ArrayList<>(aGenre.getCategories()),
+                entity.getCreatedAt(),
+                entity.getUpdatedAt(),
+                entity.getDeletedAt(),
+                entity.getVersion()
+        );
+    }
+
+    private Optional<GenreJpaEntity> load(final String anId) {
+        final var entity = this.entityManager.find(GenreJpaEntity.class, anId);
+        if (entity == null || !Hibernate.isInitialized(entity.getCategories())) {
+            return Optional.ofNullable(entity);
+        }
+        // A links collection already loaded in this session would go stale under the bulk writes, so start clean.
+        this.entityManager.flush();
+        this.entityManager.detach(entity);
+        return Optional.ofNullable(this.entityManager.find(GenreJpaEntity.class, anId));
+    }
+
+    @Override
+    public Pagination<Genre> findAll(final SearchQuery aQuery) {
+        final var sort = GenreSort.from(aQuery.sort());
+        final var direction = SliceQueries.direction(aQuery.direction());
+        final var cursor = aQuery.hasCursor() ? CursorUtils.decode(aQuery.after(), sort.field(), direction) : null;
+        final var offset = cursor != null ? 0L : (long) aQuery.page() * aQuery.perPage();
+
+        final List<Tuple> result;
+        final LongSupplier count;
+        if (aQuery.hasTerms() && this.searchIndex.isEnabled()) {
+            // The index orders and pages the matches itself, so only the ids of this page are bound and the
+            // number of matches stands in for a COUNT over them.
+            final var matches = this.searchIndex.page(aQuery.terms(), sort, direction, cursor, offset, aQuery.perPage() + 1);
+            result = findAllByIds(sort, direction, matches.ids());
+            count = matches::total;
+        } else {
+            final var filter = searchTerms(aQuery);
+            final var query = this.entityManager
+                    .createQuery(this.queries.select(SELECT, filter.where(), null, sort.field(), direction, cursor), Tuple.class)
+                    .setFirstResult(Math.toIntExact(offset))
+                    .setMaxResults(aQuery.perPage() + 1);
+            filter.bind(query);
+            SliceQueries.bindCursor(query, cursor, sort.type());
+
+            result = query.getResultList();
+            count = () -> count(filter);
+        }
+
+        final var hasMore = result.size() > aQuery.perPage();
+        final var rows = hasMore ? result.subList(0, aQuery.perPage()) : result;
+
+        return new Pagination<>(
+                aQuery.page(),
+                aQuery.perPage(),
+                total(aQuery, offset, rows.size(), hasMore, count),
+                toAggregates(rows),
+                hasMore ? CursorUtils.encode(rows.get(rows.size() - 1), sort.field(), direction) : null,
+                hasMore
+        );
+    }
+
+    // Rows come back in the order of the ids; one deleted since it was indexed is left out.
+    private List<Tuple> findAllByIds(final GenreSort aSort, final Direction aDirection, final List<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        final var query = this.entityManager
+                .createQuery(this.queries.select(SELECT, BY_IDS, null, aSort.field(), aDirection, null), Tuple.class);
+        SliceQueries.Filter.with(BY_IDS, ids).bind(query);
+        final var rows = query.getResultList().stream()
+                .collect(Collectors.toMap(aRow -> aRow.get(ID, String.class), Function.identity()));
+        return ids.stream().map(rows::get).filter(Objects::nonNull).toList();
+    }
+
+    // Seeks the (category_id, genre_id) index from the last genre id seen, so every page is a range read of the
+    // index joined to genres by primary key, however deep the client pages.
+    @Override
+    public Pagination<Genre> findAllByCategory(final CategoryID anId, final SearchQuery aQuery) {
+        final var cursor = aQuery.hasCursor() ? CursorUtils.decode(aQuery.after(), ID, Direction.ASC) : null;
+        final var query = this.entityManager
+                .createQuery(cursor != null ? BY_CATEGORY_AFTER : BY_CATEGORY_FIRST, Tuple.class)
+                .setParameter(CATEGORY_ID, anId.getValue())
+                .setMaxResults(aQuery.perPage() + 1);
+        if (cursor != null) {
+            query.setParameter(CURSOR_ID, cursor.id());
+        }
+
+        final var result = query.getResultList();
+        final var hasMore = result.size() > aQuery.perPage();
+        final var rows = hasMore ? result.subList(0, aQuery.perPage()) : result;
+
+        final long total;
+        if (!hasMore && cursor == null) {
+            total = rows.size();
+        } else if (aQuery.totalMode() == TotalMode.NONE) {
+            total = Pagination.UNKNOWN_TOTAL;
+        } else {
+            total = this.entityManager.createQuery(COUNT_BY_CATEGORY, Long.class)
+                    .setParameter(CATEGORY_ID, anId.getValue())
+                    .getSingleResult();
+        }
+
+        return new Pagination<>(
+                0,
+                aQuery.perPage(),
+                total,
+                toAggregates(rows),
+                hasMore ? CursorUtils.encode(rows.get(rows.size() - 1).get(ID), Direction.ASC) : null,
+                hasMore
+        );
+    }
+
+    // One forward-only pass over genres joined to their links, in genre key order, so each genre is complete once the
+    // next one starts; only the genre being assembled is held in memory. Ordering by the link too would sort the join.
+    @Override
+    @Transactional(readOnly = true)
+    public void forEach(final Consumer<Genre> anAction) {
+        try (final var rows = this.entityManager.createQuery(EXPORT, Tuple.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, EXPORT_FETCH_SIZE)
+                .getResultStream()) {
+            Tuple current = null;
+            final var categories = new ArrayList<CategoryID>();
+            for (final var row : (Iterable<Tuple>) rows::iterator) {
+                if (current != null && !current.get(ID, String.class).equals(row.get(ID, String.class))) {
+                    anAction.accept(toAggregate(current, new ArrayList<>(categories)));
+                    categories.clear();
+                }
+                current = row;
+                final var aCategoryId = row.get(CATEGORY_ID, String.class);
+                if (aCategoryId != null) {
+                    categories.add(CategoryID.from(aCategoryId));
+                }
+            }
+            if (current != null) {
+                anAction.accept(toAggregate(current, categories));
+            }
+        }
+    }
+
+    // The whole page's category links come back in one query instead of one lazy load per genre.
+    private List<Genre> toAggregates(final List<Tuple> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        final var ids = rows.stream().map(row -> row.get(ID, String.class)).toList();
+        final var categories = new HashMap<String, List<CategoryID>>(ids.size());
+        this.repository.findCategoryLinks(ids).forEach(link -> categories
+                .computeIfAbsent(link.getGenreId(), key -> new ArrayList<>())
+                .add(CategoryID.from(link.getCategoryId())));
+
+        return rows.stream()
+                .map(row -> toAggregate(row, categories.getOrDefault(row.get(ID, String.class), new ArrayList<>())))
+                .toList();
+    }
+
+    private static Genre toAggregate(final Tuple aRow, final List<CategoryID> categories) {
+        return Genre.with(
+                GenreID.from(aRow.get(ID, String.class)),
+                aRow.get(NAME, String.class),
+                aRow.get(ACTIVE, Boolean.class),
+                categories,
+                aRow.get(CREATED_AT, Instant.class),
+                aRow.get(UPDATED_AT, Instant.class),
+                aRow.get(DELETED_AT, Instant.class),
+                aRow.get(VERSION, Long.class)
+        );
+    }
+
+    private SliceQueries.Filter searchTerms(final SearchQuery aQuery) {
+        if (!aQuery.hasTerms()) {
+            return SliceQueries.Filter.NONE;
+        }
+        return SliceQueries.Filter.with(BY_LIKE, "%" + aQuery.terms().toUpperCase() + "%");
+    }
+
+    private long total(
+            final SearchQuery aQuery,
+            final long offset,
+            final int size,
+            final boolean hasMore,
+            final LongSupplier aCount
+    ) {
+        final var seen = offset + size;
+        if (!hasMore && !aQuery.hasCursor() && (size > 0 || offset == 0)) {
+            return seen;
+        }
+
+        return switch (aQuery.totalMode()) {
+            case NONE -> Pagination.UNKNOWN_TOTAL;
+            case ESTIMATED -> aQuery.hasTerms()
+                    ? aCount.getAsLong()
+                    : Math.max(this.tableStatistics.estimateRows(TABLE), hasMore ? seen + 1 : seen);
+            case EXACT -> aCount.getAsLong();
+        };
+    }
+
+    private long count(final SliceQueries.Filter aFilter) {
+        final var query = this.entityManager.createQuery(this.queries.count(aFilter.where()), Long.class);
+        aFilter.bind(query);
+        return query.getSingleResult();
+    }
 }
@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+import java.util.List;
+
+public record GenreListResponse(
+        @JsonProperty("id") String id,
+        @JsonProperty("name") String name,
+        @JsonProperty("is_active") Boolean active,
+        @JsonProperty("categories_id") List<String> categories,
+        @JsonProperty("created_at") Instant createdAt,
+        @JsonProperty("deleted_at") Instant deletedAt
+) {
+
+}
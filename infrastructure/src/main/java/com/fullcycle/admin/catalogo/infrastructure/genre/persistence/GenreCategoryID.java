@@ -1,16 +1,20 @@
 package com.fullcycle.admin.catalogo.infrastructure.genre.persistence;
 
+import com.fullcycle.admin.catalogo.infrastructure.persistence.BinaryIdType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
+import org.hibernate.annotations.Type;
 
 import java.io.Serializable;
 import java.util.Objects;
 
 @Embeddable
 public class GenreCategoryID implements Serializable {
-    @Column(name = "genre_id", nullable = false)
+    @Column(name = "genre_id", nullable = false, columnDefinition = "BINARY(16)")
+    @Type(BinaryIdType.class)
     private String genreId;
-    @Column(name = "category_id", nullable = false)
+    @Column(name = "category_id", nullable = false, columnDefinition = "BINARY(16)")
+    @Type(BinaryIdType.class)
     private String categoryId;
 
     public GenreCategoryID() {
@@ -3,7 +3,11 @@ package com.fullcycle.admin.catalogo.infrastructure.genre.persistence;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.BinaryIdType;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Type;
+import org.springframework.data.domain.Persistable;
 
 import java.time.Instant;
 import java.util.HashSet;
@@ -11,10 +15,12 @@ import java.util.Set;
 
 @Entity
 @Table(name = "genres")
-public class GenreJpaEntity {
+@DynamicUpdate
+public class GenreJpaEntity implements Persistable<String> {
 
     @Id
-    @Column(name = "id", nullable = false)
+    @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
+    @Type(BinaryIdType.class)
     private String id;
 
     @Column(name = "name", nullable = false)
@@ -23,7 +29,7 @@ public class GenreJpaEntity {
     @Column(name = "active", nullable = false)
     private boolean active;
 
-    @OneToMany(mappedBy = "genre", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToMany(mappedBy = "genre", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private Set<GenreCategoryJpaEntity> categories;
 
 
@@ -36,6 +42,13 @@ public class GenreJpaEntity {
     @Column(name = "deleted_at", nullable = true, columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Transient
+    private boolean isNew = true;
+
     public GenreJpaEntity() {
     }
 
@@ -45,7 +58,8 @@ public class GenreJpaEntity {
             final boolean active,
             final Instant aCreatedAt,
             final Instant aUpdatedAt,
-            final Instant aDeletedAt
+            final Instant aDeletedAt,
+            final long aVersion
     ) {
         this.id = anId;
         this.name = aName;
@@ -54,6 +68,7 @@ public class GenreJpaEntity {
         this.createdAt = aCreatedAt;
         this.updatedAt = aUpdatedAt;
         this.deletedAt = aDeletedAt;
+        this.version = aVersion;
     }
 
     public static GenreJpaEntity from(final Genre aGenre) {
@@ -63,7 +78,8 @@ public class GenreJpaEntity {
                 aGenre.isActive(),
                 aGenre.getCreatedAt(),
                 aGenre.getUpdatedAt(),
-                aGenre.getDeletedAt()
+                aGenre.getDeletedAt(),
+                aGenre.getVersion()
         );
 
         aGenre.getCategories().forEach(aEntity::addCategory);
@@ -82,8 +98,8 @@ public class GenreJpaEntity {
                         .toList(),
                 this.getCreatedAt(),
                 this.getUpdatedAt(),
-                this.getDeletedAt()
-
+                this.getDeletedAt(),
+                this.getVersion()
         );
     }
 
@@ -95,6 +111,18 @@ public class GenreJpaEntity {
         this.categories.remove(GenreCategoryJpaEntity.from(this, anId));
     }
 
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
     public String getId() {
         return id;
     }
@@ -150,4 +178,12 @@ public class GenreJpaEntity {
     public void setDeletedAt(Instant deletedAt) {
         this.deletedAt = deletedAt;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
@@ -1,6 +1,57 @@
 package com.fullcycle.admin.catalogo.infrastructure.genre.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface GenreRepository extends JpaRepository<GenreJpaEntity, String> {
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface GenreRepository extends JpaRepository<GenreJpaEntity, String>, JpaSpecificationExecutor<GenreJpaEntity> {
+
+    @Query("select g.id as id, g.name as name, g.createdAt as createdAt from GenreJpaEntity g")
+    List<GenreSearchRow> findAllSearchRows();
+
+    @Query("select g.id as id, g.name as name, g.createdAt as createdAt from GenreJpaEntity g where g.id in :ids")
+    List<GenreSearchRow> findSearchRowsByIds(@Param("ids") Collection<String> ids);
+
+    @Query("select g from GenreJpaEntity g left join fetch g.categories where g.id = :id")
+    Optional<GenreJpaEntity> findWithCategoriesById(@Param("id") String id);
+
+    @Query("select gc.id.genreId as genreId, gc.id.categoryId as categoryId from GenreCategoryJpaEntity gc where gc.id.genreId in :genreIds")
+    List<GenreCategoryLink> findCategoryLinks(@Param("genreIds") Collection<String> genreIds);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from GenreJpaEntity g where g.id = :id")
+    int deleteOne(@Param("id") String id);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from GenreCategoryJpaEntity gc where gc.id.categoryId in :categoryIds")
+    int deleteCategoryLinks(@Param("categoryIds") Collection<String> categoryIds);
+
+    @Transactional
+    @Modifying
+    @Query("delete from GenreCategoryJpaEntity gc where gc.id.genreId = :genreId and gc.id.categoryId in :categoryIds")
+    int deleteCategoryLinks(@Param("genreId") String genreId, @Param("categoryIds") Collection<String> categoryIds);
+
+    interface GenreSearchRow {
+        String getId();
+
+        String getName();
+
+        Instant getCreatedAt();
+    }
+
+    interface GenreCategoryLink {
+        String getGenreId();
+
+        String getCategoryId();
+    }
 }
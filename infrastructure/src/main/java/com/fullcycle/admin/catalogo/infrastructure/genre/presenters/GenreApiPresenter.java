@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre.presenters;
+
+import com.fullcycle.admin.catalogo.application.genre.retrieve.list.GenreListOutput;
+import com.fullcycle.admin.catalogo.infrastructure.genre.models.GenreListResponse;
+
+public interface GenreApiPresenter {
+    static GenreListResponse present(final GenreListOutput genreListOutput) {
+        return new GenreListResponse(
+                genreListOutput.id(),
+                genreListOutput.name(),
+                genreListOutput.isActive(),
+                genreListOutput.categories(),
+                genreListOutput.createdAt(),
+                genreListOutput.deletedAt()
+        );
+    }
+}
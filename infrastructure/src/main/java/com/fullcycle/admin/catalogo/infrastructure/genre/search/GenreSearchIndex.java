@@ -0,0 +1,141 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre.search;
+
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.infrastructure.cache.CacheInvalidations;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository.GenreSearchRow;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreSort;
+import com.fullcycle.admin.catalogo.infrastructure.search.InvertedIndex;
+import com.fullcycle.admin.catalogo.infrastructure.search.InvertedIndex.Document;
+import com.fullcycle.admin.catalogo.infrastructure.utils.CursorUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.CursorUtils.Cursor;
+import com.fullcycle.admin.catalogo.infrastructure.utils.TransactionUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+// Local writes reach the index once their transaction commits; writes on other nodes arrive through
+// cache_invalidations and are read back from the database. Searches are paged here, by the keys each document keeps.
+@Component
+public class GenreSearchIndex {
+
+    public static final String NAME = "genre-search";
+
+    private final GenreRepository repository;
+    private final CacheInvalidations invalidations;
+    private final TransactionTemplate primary;
+    private final InvertedIndex index;
+    private final boolean enabled;
+
+    public GenreSearchIndex(
+            final GenreRepository repository,
+            final CacheInvalidations invalidations,
+            final PlatformTransactionManager transactionManager,
+            @Value("${search.index.enabled:false}") final boolean enabled
+    ) {
+        this.repository = Objects.requireNonNull(repository);
+        this.invalidations = Objects.requireNonNull(invalidations);
+        // Read-write, so reloads are never routed to a replica that is behind.
+        this.primary = new TransactionTemplate(transactionManager);
+        this.primary.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.index = new InvertedIndex(ForkJoinPool.commonPool());
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void index(final Genre aGenre) {
+        if (!enabled) {
+            return;
+        }
+        final var anId = aGenre.getId().getValue();
+        final var aDocument = document(aGenre.getName(), aGenre.getCreatedAt());
+        TransactionUtils.afterCommit(() -> this.index.index(anId, aDocument.keys(), aDocument.fields()));
+        this.invalidations.publish(NAME, List.of(anId));
+    }
+
+    public void remove(final GenreID anId) {
+        if (!enabled) {
+            return;
+        }
+        final var aValue = anId.getValue();
+        TransactionUtils.afterCommit(() -> this.index.remove(aValue));
+        this.invalidations.publish(NAME, List.of(aValue));
+    }
+
+    public Set<String> search(final String terms) {
+        return this.index.search(terms);
+    }
+
+    public InvertedIndex.Page page(
+            final String terms,
+            final GenreSort aSort,
+            final Direction aDirection,
+            final Cursor aCursor,
+            final long offset,
+            final int limit
+    ) {
+        final var after = aCursor != null
+                ? new InvertedIndex.Position(aCursor.value() != null ? CursorUtils.value(aCursor, aSort.type()) : null, aCursor.id())
+                : null;
+        return this.index.page(terms, aSort.field(), aDirection, after, offset, limit);
+    }
+
+    // Applies writes made elsewhere: whatever is still in the table is indexed again, the rest was deleted.
+    public void reindex(final Collection<String> ids) {
+        if (!enabled) {
+            return;
+        }
+        final var found = Objects.requireNonNull(this.primary.execute(status -> this.repository.findSearchRowsByIds(ids).stream()
+                .collect(Collectors.toMap(GenreSearchRow::getId, GenreSearchIndex::document))));
+        ids.forEach(anId -> {
+            final var aDocument = found.get(anId);
+            if (aDocument == null) {
+                this.index.remove(anId);
+            } else {
+                this.index.index(anId, aDocument.keys(), aDocument.fields());
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    // Called from onApplicationReady as well, where a @Transactional on this method would be bypassed.
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        this.index.rebuild(() -> this.primary.execute(status -> this.repository.findAllSearchRows().stream().collect(Collectors.toMap(
+                GenreSearchRow::getId,
+                GenreSearchIndex::document
+        ))));
+    }
+
+    private static Document document(final GenreSearchRow aRow) {
+        return document(aRow.getName(), aRow.getCreatedAt());
+    }
+
+    private static Document document(final String aName, final Instant aCreatedAt) {
+        return new Document(Map.of(GenreSort.NAME.field(), aName, GenreSort.CREATED_AT.field(), aCreatedAt), aName);
+    }
+}
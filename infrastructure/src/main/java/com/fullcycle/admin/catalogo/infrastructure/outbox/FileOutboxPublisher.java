@@ -0,0 +1,38 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.JsonLines;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Objects;
+
+// Stand-in for a broker: appends each message as one NDJSON line, so consumers and tests can tail the file.
+public class FileOutboxPublisher implements OutboxPublisher {
+
+    private final Path file;
+
+    public FileOutboxPublisher(final Path aFile) {
+        this.file = Objects.requireNonNull(aFile);
+    }
+
+    @Override
+    public synchronized void publish(final List<OutboxMessage> messages) {
+        try {
+            final var parent = this.file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (final var out = new BufferedOutputStream(Files.newOutputStream(this.file, StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+                 final var lines = JsonLines.to(out)) {
+                messages.forEach(lines);
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
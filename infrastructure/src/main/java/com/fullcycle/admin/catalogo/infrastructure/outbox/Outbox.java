@@ -0,0 +1,34 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox;
+
+import com.fullcycle.admin.catalogo.domain.AggregateRoot;
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+
+// Events are only ever written inside the gateway's own transaction, so they commit or roll back with the change.
+@Component
+public class Outbox {
+
+    private final EntityManager entityManager;
+
+    public Outbox(final EntityManager entityManager) {
+        this.entityManager = Objects.requireNonNull(entityManager);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(final AggregateRoot<?> anAggregate) {
+        append(anAggregate.getClass(), anAggregate.getDomainEvents());
+        anAggregate.clearDomainEvents();
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(final Class<?> anAggregateType, final List<? extends DomainEvent> events) {
+        events.forEach(anEvent -> this.entityManager.persist(OutboxEventJpaEntity.from(anAggregateType.getSimpleName(), anEvent)));
+    }
+}
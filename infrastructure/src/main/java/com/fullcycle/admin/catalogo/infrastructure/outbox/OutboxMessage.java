@@ -0,0 +1,16 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.Instant;
+
+// Delivery is at least once, so consumers skip ids they have already applied.
+public record OutboxMessage(
+        String id,
+        String aggregateType,
+        String aggregateId,
+        String eventType,
+        @JsonRawValue String payload,
+        Instant occurredOn
+) {
+}
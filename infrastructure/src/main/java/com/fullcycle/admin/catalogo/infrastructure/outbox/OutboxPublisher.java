@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox;
+
+import java.util.List;
+
+public interface OutboxPublisher {
+
+    // Returns once the whole batch is handed over; throwing leaves every message of it in the outbox for the next run.
+    void publish(List<OutboxMessage> messages);
+}
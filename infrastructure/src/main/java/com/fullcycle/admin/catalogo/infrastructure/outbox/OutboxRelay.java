@@ -0,0 +1,55 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox;
+
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
+
+public class OutboxRelay {
+
+    private final OutboxEventRepository repository;
+    private final OutboxPublisher publisher;
+    private final TransactionTemplate transaction;
+    private final int batchSize;
+
+    public OutboxRelay(
+            final OutboxEventRepository repository,
+            final OutboxPublisher publisher,
+            final TransactionTemplate transaction,
+            final int batchSize
+    ) {
+        this.repository = Objects.requireNonNull(repository);
+        this.publisher = Objects.requireNonNull(publisher);
+        this.transaction = Objects.requireNonNull(transaction);
+        this.batchSize = batchSize;
+    }
+
+    // Drains the outbox until a batch comes back short, oldest events first.
+    @Scheduled(fixedDelayString = "${outbox.relay.interval:1000}")
+    public long relay() {
+        var relayed = 0L;
+        int count;
+        do {
+            count = relayBatch();
+            relayed += count;
+        } while (count == this.batchSize);
+        return relayed;
+    }
+
+    // The batch stays locked from read to delete, so a publisher failure rolls it back for the next run and a relay
+    // on another node skips it instead of sending it twice.
+    public int relayBatch() {
+        return Objects.requireNonNull(this.transaction.execute(status -> {
+            final var events = this.repository.findNext(PageRequest.ofSize(this.batchSize));
+            if (events.isEmpty()) {
+                return 0;
+            }
+            this.publisher.publish(events.stream().map(OutboxEventJpaEntity::toMessage).toList());
+            this.repository.deleteAllByIdInBatch(events.stream().map(OutboxEventJpaEntity::getId).toList());
+            return events.size();
+        }));
+    }
+}
@@ -0,0 +1,98 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox.persistence;
+
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.OutboxMessage;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.BinaryIdType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Type;
+
+import java.time.Instant;
+
+@Table(name = "outbox_events")
+@Entity
+public class OutboxEventJpaEntity {
+    @Id
+    @Column(name = "id", columnDefinition = "BINARY(16)")
+    @Type(BinaryIdType.class)
+    private String id;
+    @Column(name = "aggregate_type", nullable = false, length = 32)
+    private String aggregateType;
+    @Column(name = "aggregate_id", nullable = false, length = 36)
+    private String aggregateId;
+    @Column(name = "event_type", nullable = false, length = 64)
+    private String eventType;
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+    @Column(name = "occurred_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant occurredAt;
+
+    public OutboxEventJpaEntity() {
+    }
+
+    private OutboxEventJpaEntity(
+            final String id,
+            final String aggregateType,
+            final String aggregateId,
+            final String eventType,
+            final String payload,
+            final Instant occurredAt
+    ) {
+        this.id = id;
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.occurredAt = occurredAt;
+    }
+
+    public static OutboxEventJpaEntity from(final String anAggregateType, final DomainEvent anEvent) {
+        return new OutboxEventJpaEntity(
+                IdUtils.uuid().toString(),
+                anAggregateType,
+                anEvent.aggregateId(),
+                anEvent.getClass().getSimpleName(),
+                Json.writeValueAsString(anEvent),
+                anEvent.occurredOn()
+        );
+    }
+
+    public OutboxMessage toMessage() {
+        return new OutboxMessage(
+                getId(),
+                getAggregateType(),
+                getAggregateId(),
+                getEventType(),
+                getPayload(),
+                getOccurredAt()
+        );
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getAggregateType() {
+        return aggregateType;
+    }
+
+    public String getAggregateId() {
+        return aggregateId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+}
@@ -0,0 +1,20 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox.persistence;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEventJpaEntity, String> {
+
+    // A lock timeout of -2 is Hibernate's SKIP LOCKED: rows another relay is publishing are passed over, not waited on.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select e from OutboxEventJpaEntity e order by e.id")
+    List<OutboxEventJpaEntity> findNext(Pageable page);
+}
@@ -0,0 +1,121 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.usertype.UserType;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Objects;
+import java.util.UUID;
+
+public class BinaryIdType implements UserType<String> {
+
+    private static final int UUID_LENGTH = 36;
+    private static final int BINARY_LENGTH = 16;
+
+    public static byte[] toBytes(final String anId) {
+        if (anId == null) {
+            return null;
+        }
+        final var uuid = parse(anId);
+        if (uuid == null) {
+            // Ids that are not UUIDs were never stored as BINARY(16), so they just have to miss on lookups.
+            return anId.getBytes(StandardCharsets.UTF_8);
+        }
+        return ByteBuffer.allocate(BINARY_LENGTH)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    public static String fromBytes(final byte[] aValue) {
+        if (aValue == null) {
+            return null;
+        }
+        if (aValue.length != BINARY_LENGTH) {
+            return new String(aValue, StandardCharsets.UTF_8);
+        }
+        final var buffer = ByteBuffer.wrap(aValue);
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+
+    @Override
+    public int getSqlType() {
+        return Types.BINARY;
+    }
+
+    @Override
+    public Class<String> returnedClass() {
+        return String.class;
+    }
+
+    @Override
+    public boolean equals(final String x, final String y) {
+        return Objects.equals(x, y);
+    }
+
+    @Override
+    public int hashCode(final String x) {
+        return Objects.hashCode(x);
+    }
+
+    @Override
+    public String nullSafeGet(
+            final ResultSet rs,
+            final int position,
+            final SharedSessionContractImplementor session,
+            final Object owner
+    ) throws SQLException {
+        return fromBytes(rs.getBytes(position));
+    }
+
+    @Override
+    public void nullSafeSet(
+            final PreparedStatement st,
+            final String value,
+            final int index,
+            final SharedSessionContractImplementor session
+    ) throws SQLException {
+        if (value == null) {
+            st.setNull(index, Types.BINARY);
+        } else {
+            st.setBytes(index, toBytes(value));
+        }
+    }
+
+    @Override
+    public String deepCopy(final String value) {
+        return value;
+    }
+
+    @Override
+    public boolean isMutable() {
+        return false;
+    }
+
+    @Override
+    public Serializable disassemble(final String value) {
+        return value;
+    }
+
+    @Override
+    public String assemble(final Serializable cached, final Object owner) {
+        return (String) cached;
+    }
+
+    private static UUID parse(final String anId) {
+        if (anId.length() != UUID_LENGTH) {
+            return null;
+        }
+        try {
+            return UUID.fromString(anId);
+        } catch (final IllegalArgumentException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+// With a replica configured, read-only transactions, repository reads included, go to it and may see rows the primary
+// has already changed. Reads that must not, because they are cached or a write is checked against them, run in a
+// read-write transaction of their own, which is routed to the primary.
+@Component
+public class PrimaryReads {
+
+    private final TransactionTemplate transaction;
+    private final boolean replicated;
+
+    public PrimaryReads(
+            final PlatformTransactionManager transactionManager,
+            @Value("${replica.enabled:false}") final boolean replicated
+    ) {
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.replicated = replicated;
+    }
+
+    public <T> T read(final Supplier<T> aRead) {
+        final var onPrimary = TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        if (!this.replicated || onPrimary) {
+            return aRead.get();
+        }
+        return this.transaction.execute(status -> aRead.get());
+    }
+}
@@ -0,0 +1,71 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+public class ReplicaHealth {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final Duration maxLag;
+    private final long checkIntervalMillis;
+    private final LongSupplier clock;
+
+    private volatile boolean available = true;
+    private volatile long nextCheckAt;
+
+    public ReplicaHealth(
+            final DataSource aReplica,
+            final String aLagQuery,
+            final Duration aMaxLag,
+            final Duration aCheckInterval,
+            final LongSupplier aClock
+    ) {
+        this.replica = Objects.requireNonNull(aReplica);
+        this.lagQuery = aLagQuery == null || aLagQuery.isBlank() ? null : aLagQuery;
+        this.maxLag = Objects.requireNonNull(aMaxLag);
+        this.checkIntervalMillis = Objects.requireNonNull(aCheckInterval).toMillis();
+        this.clock = Objects.requireNonNull(aClock);
+    }
+
+    public boolean isAvailable() {
+        final var now = clock.getAsLong();
+        if (now >= this.nextCheckAt) {
+            synchronized (this) {
+                if (now >= this.nextCheckAt) {
+                    this.available = check();
+                    this.nextCheckAt = now + this.checkIntervalMillis;
+                }
+            }
+        }
+        return this.available;
+    }
+
+    public void markUnavailable() {
+        this.available = false;
+        this.nextCheckAt = clock.getAsLong() + this.checkIntervalMillis;
+    }
+
+    private boolean check() {
+        try (final var conn = this.replica.getConnection()) {
+            if (!conn.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                return false;
+            }
+            if (this.lagQuery == null) {
+                return true;
+            }
+            try (final var statement = conn.createStatement();
+                 final var rs = statement.executeQuery(this.lagQuery)) {
+                // A replica that can not report its lag (e.g. replication stopped) is treated as too far behind.
+                return rs.next() && rs.getObject(1) != null && rs.getLong(1) <= this.maxLag.toSeconds();
+            }
+        } catch (final SQLException ex) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Objects;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaHealth health;
+
+    public ReplicaRoutingDataSource(final DataSource aPrimary, final DataSource aReplica, final ReplicaHealth aHealth) {
+        this.primary = Objects.requireNonNull(aPrimary);
+        this.replica = Objects.requireNonNull(aReplica);
+        this.health = Objects.requireNonNull(aHealth);
+        setTargetDataSources(Map.of(Route.PRIMARY, aPrimary, Route.REPLICA, aReplica));
+        setDefaultTargetDataSource(aPrimary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && this.health.isAvailable()
+                ? Route.REPLICA
+                : Route.PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (determineCurrentLookupKey() != Route.REPLICA) {
+            return this.primary.getConnection();
+        }
+        try {
+            return this.replica.getConnection();
+        } catch (final SQLException ex) {
+            this.health.markUnavailable();
+            return this.primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        return this.primary.getConnection(username, password);
+    }
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+}
@@ -0,0 +1,43 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+@Component
+public class TableStatistics {
+
+    private static final String MYSQL_ESTIMATE =
+            "SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?";
+
+    private static final String H2_ESTIMATE =
+            "SELECT ROW_COUNT_ESTIMATE FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = SCHEMA() AND UPPER(TABLE_NAME) = UPPER(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile String estimateQuery;
+
+    public TableStatistics(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+    }
+
+    public long estimateRows(final String aTable) {
+        final var rows = this.jdbcTemplate.query(
+                estimateQuery(),
+                (rs, rowNum) -> rs.getLong(1),
+                aTable
+        );
+        return rows.isEmpty() ? 0 : rows.get(0);
+    }
+
+    private String estimateQuery() {
+        if (this.estimateQuery == null) {
+            final var product = this.jdbcTemplate.execute(
+                    (ConnectionCallback<String>) conn -> conn.getMetaData().getDatabaseProductName()
+            );
+            this.estimateQuery = "H2".equalsIgnoreCase(product) ? H2_ESTIMATE : MYSQL_ESTIMATE;
+        }
+        return this.estimateQuery;
+    }
+}
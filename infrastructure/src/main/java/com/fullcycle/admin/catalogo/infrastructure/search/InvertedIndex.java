@@ -0,0 +1,330 @@
+package com.fullcycle.admin.catalogo.infrastructure.search;
+
+import org.springframework.data.domain.Sort.Direction;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+public class InvertedIndex {
+
+    private static final int GRAM_SIZE = 3;
+    private static final int SPLIT_THRESHOLD = 512;
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final ForkJoinPool pool;
+    private final Object rebuilding = new Object();
+    private volatile Snapshot snapshot = new Snapshot(new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+    private List<Write> pendingWrites;
+
+    public InvertedIndex(final ForkJoinPool pool) {
+        this.pool = Objects.requireNonNull(pool);
+    }
+
+    // The keys are the values the documents can be listed by; strings among them are compared normalized.
+    public synchronized void index(final String anId, final Map<String, ? extends Comparable<?>> keys, final String... fields) {
+        final var anEntry = Entry.of(new Document(keys, fields));
+        this.snapshot.put(anId, anEntry);
+        if (this.pendingWrites != null) {
+            this.pendingWrites.add(new Write(anId, anEntry));
+        }
+    }
+
+    public synchronized void remove(final String anId) {
+        this.snapshot.remove(anId);
+        if (this.pendingWrites != null) {
+            this.pendingWrites.add(new Write(anId, null));
+        }
+    }
+
+    public Set<String> search(final String terms) {
+        return search(this.snapshot, terms);
+    }
+
+    // Orders the matches by a key the way the database orders rows, NULLs first ascending and last descending and ties
+    // broken by id, and keeps only the page asked for, so a caller binds no more ids than the rows it returns. The
+    // total is every match, whatever the cursor skipped.
+    public Page page(
+            final String terms,
+            final String aKey,
+            final Direction aDirection,
+            final Position anAfter,
+            final long offset,
+            final int limit
+    ) {
+        final var current = this.snapshot;
+        final var matches = search(current, terms);
+        final var order = order(aDirection);
+        final var after = anAfter != null ? new Position(sortable(anAfter.value()), anAfter.id()) : null;
+        final var wanted = offset + limit;
+
+        // The first offset + limit positions are kept in a heap whose head is the last of them.
+        final var top = new PriorityQueue<Position>(order.reversed());
+        for (final var anId : matches) {
+            final var anEntry = current.documents().get(anId);
+            if (anEntry == null) {
+                continue;
+            }
+            final var aPosition = new Position(anEntry.keys().get(aKey), anId);
+            if (after != null && order.compare(aPosition, after) <= 0) {
+                continue;
+            }
+            if (top.size() < wanted) {
+                top.add(aPosition);
+            } else if (order.compare(aPosition, top.peek()) < 0) {
+                top.poll();
+                top.add(aPosition);
+            }
+        }
+
+        final var ids = top.stream()
+                .sorted(order)
+                .skip(offset)
+                .map(Position::id)
+                .toList();
+        return new Page(ids, matches.size());
+    }
+
+    private static Set<String> search(final Snapshot current, final String terms) {
+        final var words = tokenize(normalize(terms)).stream()
+                .sorted((a, b) -> Integer.compare(b.length(), a.length()))
+                .toList();
+
+        if (words.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Set<String> result = null;
+        for (final var word : words) {
+            final var matches = current.matches(word);
+            if (result == null) {
+                result = new HashSet<>(matches);
+            } else {
+                result.retainAll(matches);
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return this.snapshot.documents().size();
+    }
+
+    // Writes are collected from before the documents are loaded, so one that commits while they are read is replayed
+    // rather than lost. Rebuilds are taken one at a time: a second one would replace the writes the first collects.
+    public void rebuild(final Supplier<Map<String, Document>> aLoader) {
+        synchronized (this.rebuilding) {
+            synchronized (this) {
+                this.pendingWrites = new ArrayList<>();
+            }
+
+            final Map<String, Document> documents;
+            try {
+                documents = aLoader.get();
+            } catch (final RuntimeException ex) {
+                synchronized (this) {
+                    this.pendingWrites = null;
+                }
+                throw ex;
+            }
+            final var entries = documents.entrySet().stream()
+                    .map(entry -> Map.entry(entry.getKey(), Entry.of(entry.getValue())))
+                    .toList();
+            final var postings = this.pool.invoke(new PostingsTask(entries));
+
+            final var next = new Snapshot(
+                    new ConcurrentHashMap<>(entries.size()),
+                    new ConcurrentHashMap<>(postings.size())
+            );
+            entries.forEach(entry -> next.documents().put(entry.getKey(), entry.getValue()));
+            postings.forEach((gram, ids) -> {
+                final Set<String> concurrentIds = ConcurrentHashMap.newKeySet(ids.size());
+                concurrentIds.addAll(ids);
+                next.postings().put(gram, concurrentIds);
+            });
+
+            synchronized (this) {
+                // Writes that raced with the rebuild are replayed so they are not lost by the swap.
+                this.pendingWrites.forEach(write -> {
+                    if (write.entry() == null) {
+                        next.remove(write.id());
+                    } else {
+                        next.put(write.id(), write.entry());
+                    }
+                });
+                this.pendingWrites = null;
+                this.snapshot = next;
+            }
+        }
+    }
+
+    private static Comparator<Position> order(final Direction aDirection) {
+        final Comparator<Position> ascending = (first, second) -> {
+            final var byValue = compare(first.value(), second.value());
+            return byValue != 0 ? byValue : first.id().compareTo(second.id());
+        };
+        return aDirection.isAscending() ? ascending : ascending.reversed();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(final Comparable first, final Comparable second) {
+        if (first == null || second == null) {
+            return first == null ? (second == null ? 0 : -1) : 1;
+        }
+        return first.compareTo(second);
+    }
+
+    // Strings are keyed the way the case and accent insensitive collation of the columns compares them.
+    private static Comparable<?> sortable(final Comparable<?> aValue) {
+        return aValue instanceof String text ? normalize(text) : aValue;
+    }
+
+    static String normalize(final String... fields) {
+        return Arrays.stream(fields)
+                .filter(Objects::nonNull)
+                .map(field -> DIACRITICS.matcher(Normalizer.normalize(field, Normalizer.Form.NFD)).replaceAll(""))
+                .map(String::toLowerCase)
+                .collect(Collectors.joining(" "));
+    }
+
+    static Set<String> tokenize(final String aText) {
+        return Arrays.stream(SEPARATORS.split(aText))
+                .filter(word -> !word.isBlank())
+                .collect(Collectors.toSet());
+    }
+
+    // Every gram up to GRAM_SIZE is indexed, so short words are answered straight from the postings
+    // and longer ones by intersecting their trigrams.
+    static Set<String> grams(final String aText) {
+        final var grams = new HashSet<String>();
+        for (final var word : tokenize(aText)) {
+            for (int size = 1; size <= GRAM_SIZE; size++) {
+                for (int i = 0; i + size <= word.length(); i++) {
+                    grams.add(word.substring(i, i + size));
+                }
+            }
+        }
+        return grams;
+    }
+
+    // What a document is searched by, its fields, and what it is listed by, its keys.
+    public record Document(Map<String, ? extends Comparable<?>> keys, String... fields) {
+    }
+
+    public record Position(Comparable<?> value, String id) {
+    }
+
+    public record Page(List<String> ids, long total) {
+    }
+
+    private record Entry(String text, Map<String, Comparable<?>> keys) {
+
+        // Keys may be null, which Map.copyOf would refuse.
+        static Entry of(final Document aDocument) {
+            final var keys = new HashMap<String, Comparable<?>>(aDocument.keys().size());
+            aDocument.keys().forEach((aKey, aValue) -> keys.put(aKey, sortable(aValue)));
+            return new Entry(normalize(aDocument.fields()), Collections.unmodifiableMap(keys));
+        }
+    }
+
+    private record Write(String id, Entry entry) {
+    }
+
+    private record Snapshot(Map<String, Entry> documents, Map<String, Set<String>> postings) {
+
+        void put(final String anId, final Entry anEntry) {
+            remove(anId);
+            documents.put(anId, anEntry);
+            grams(anEntry.text()).forEach(gram -> postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(anId));
+        }
+
+        void remove(final String anId) {
+            final var previous = documents.remove(anId);
+            if (previous != null) {
+                grams(previous.text()).forEach(gram -> {
+                    final var ids = postings.get(gram);
+                    if (ids != null) {
+                        ids.remove(anId);
+                    }
+                });
+            }
+        }
+
+        Set<String> matches(final String aWord) {
+            if (aWord.length() <= GRAM_SIZE) {
+                return postings.getOrDefault(aWord, Collections.emptySet());
+            }
+
+            Set<String> candidates = null;
+            for (int i = 0; i + GRAM_SIZE <= aWord.length(); i++) {
+                final var ids = postings.getOrDefault(aWord.substring(i, i + GRAM_SIZE), Collections.emptySet());
+                if (candidates == null) {
+                    candidates = new HashSet<>(ids);
+                } else {
+                    candidates.retainAll(ids);
+                }
+                if (candidates.isEmpty()) {
+                    return candidates;
+                }
+            }
+
+            candidates.removeIf(anId -> {
+                final var anEntry = documents.get(anId);
+                return anEntry == null || !anEntry.text().contains(aWord);
+            });
+            return candidates;
+        }
+    }
+
+    private static class PostingsTask extends RecursiveTask<Map<String, Set<String>>> {
+        private final List<Map.Entry<String, Entry>> documents;
+
+        private PostingsTask(final List<Map.Entry<String, Entry>> documents) {
+            this.documents = documents;
+        }
+
+        @Override
+        protected Map<String, Set<String>> compute() {
+            if (documents.size() <= SPLIT_THRESHOLD) {
+                final var postings = new HashMap<String, Set<String>>();
+                documents.forEach(entry -> grams(entry.getValue().text())
+                        .forEach(gram -> postings.computeIfAbsent(gram, key -> new HashSet<>()).add(entry.getKey())));
+                return postings;
+            }
+
+            final var middle = documents.size() / 2;
+            final var left = new PostingsTask(documents.subList(0, middle));
+            final var right = new PostingsTask(documents.subList(middle, documents.size()));
+            left.fork();
+            final var rightPostings = right.compute();
+            final var leftPostings = left.join();
+
+            final var larger = leftPostings.size() >= rightPostings.size() ? leftPostings : rightPostings;
+            final var smaller = larger == leftPostings ? rightPostings : leftPostings;
+            smaller.forEach((gram, ids) -> larger.merge(gram, ids, (a, b) -> {
+                a.addAll(b);
+                return a;
+            }));
+            return larger;
+        }
+    }
+}
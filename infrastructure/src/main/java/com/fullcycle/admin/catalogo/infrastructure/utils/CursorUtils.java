@@ -0,0 +1,81 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import jakarta.persistence.Tuple;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Sort.Direction;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+public final class CursorUtils {
+    private static final String ID = "id";
+    private static final String SEPARATOR = "\n";
+
+    private CursorUtils() {
+    }
+
+    public static String encode(final Object anEntity, final String aSort, final Direction aDirection) {
+        final var accessor = PropertyAccessorFactory.forBeanPropertyAccess(anEntity);
+        return encode(accessor.getPropertyValue(ID), accessor.getPropertyValue(aSort), aSort, aDirection);
+    }
+
+    public static String encode(final Tuple aRow, final String aSort, final Direction aDirection) {
+        return encode(aRow.get(ID), aRow.get(aSort), aSort, aDirection);
+    }
+
+    // Keyset on the identifier alone, for listings that are ordered by nothing else.
+    public static String encode(final Object anId, final Direction aDirection) {
+        return encode(anId, null, ID, aDirection);
+    }
+
+    private static String encode(final Object anId, final Object aValue, final String aSort, final Direction aDirection) {
+        final var raw = aSort + SEPARATOR + aDirection.name() + SEPARATOR + anId
+                + (aValue != null ? SEPARATOR + aValue : "");
+
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(final String aToken, final String aSort, final Direction aDirection) {
+        final String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(aToken), StandardCharsets.UTF_8)
+                    .split(SEPARATOR, 4);
+        } catch (final IllegalArgumentException ex) {
+            throw invalidCursor();
+        }
+
+        if (parts.length < 3 || !parts[0].equals(aSort) || !parts[1].equals(aDirection.name())) {
+            throw invalidCursor();
+        }
+
+        return new Cursor(parts[0], parts[2], parts.length == 4 ? parts[3] : null);
+    }
+
+    public static Comparable<?> value(final Cursor aCursor, final Class<?> aType) {
+        try {
+            if (Instant.class.equals(aType)) {
+                return Instant.parse(aCursor.value());
+            }
+            if (Boolean.class.equals(aType) || boolean.class.equals(aType)) {
+                return Boolean.valueOf(aCursor.value());
+            }
+            if (String.class.equals(aType)) {
+                return aCursor.value();
+            }
+        } catch (final RuntimeException ex) {
+            throw invalidCursor();
+        }
+        throw invalidCursor();
+    }
+
+    private static DomainException invalidCursor() {
+        return DomainException.with(new Error("'after' is not a valid cursor for this sort"));
+    }
+
+    public record Cursor(String sort, String id, String value) {
+    }
+}
@@ -0,0 +1,152 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.infrastructure.utils.CursorUtils.Cursor;
+import jakarta.persistence.Query;
+import org.springframework.data.domain.Sort.Direction;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// List queries are kept as JPQL text, one per variant, so Hibernate parses and translates each shape once and the
+// driver sees the same SQL for every request of that shape. Select, filter and leading order fragments must be
+// constants of the caller, which keeps the number of variants bounded.
+public final class SliceQueries {
+
+    private static final String ID = "id";
+    private static final String CURSOR_ID = "cursorId";
+    private static final String CURSOR_VALUE = "cursorValue";
+    private static final String TERMS = "terms";
+
+    private final String entity;
+    private final String alias;
+    private final ConcurrentMap<Variant, String> selects = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, String> counts = new ConcurrentHashMap<>();
+
+    public SliceQueries(final String anEntity, final String anAlias) {
+        this.entity = Objects.requireNonNull(anEntity);
+        this.alias = Objects.requireNonNull(anAlias);
+    }
+
+    public static Direction direction(final String aDirection) {
+        return Direction.fromOptionalString(aDirection)
+                .orElseThrow(() -> DomainException.with(new Error("'dir' must be one of asc or desc")));
+    }
+
+    public String select(
+            final String aSelect,
+            final String aWhere,
+            final String aLeadingOrder,
+            final String aSort,
+            final Direction aDirection,
+            final Cursor aCursor
+    ) {
+        final var aVariant = new Variant(aSelect, aWhere, aLeadingOrder, aSort, aDirection, CursorKind.of(aCursor));
+        return this.selects.computeIfAbsent(aVariant, this::build);
+    }
+
+    public String count(final String aWhere) {
+        return this.counts.computeIfAbsent(
+                Objects.requireNonNullElse(aWhere, ""),
+                where -> "select count(%s) from %s %s%s".formatted(alias, entity, alias, where.isEmpty() ? "" : " where " + where)
+        );
+    }
+
+    public static void bindCursor(final Query aQuery, final Cursor aCursor, final Class<?> aType) {
+        if (aCursor == null) {
+            return;
+        }
+        aQuery.setParameter(CURSOR_ID, aCursor.id());
+        if (aCursor.value() != null) {
+            aQuery.setParameter(CURSOR_VALUE, CursorUtils.value(aCursor, aType));
+        }
+    }
+
+    private String build(final Variant aVariant) {
+        final var sort = alias + "." + aVariant.sort();
+        final var id = alias + "." + ID;
+        final var ascending = aVariant.direction().isAscending();
+
+        final var conditions = new ArrayList<String>();
+        if (aVariant.where() != null) {
+            conditions.add(aVariant.where());
+        }
+        // NULLs sort first on ascending and last on descending order, both on MySQL and H2.
+        switch (aVariant.cursor()) {
+            case VALUE -> conditions.add((ascending
+                    ? "(%1$s > :%3$s or (%1$s = :%3$s and %2$s > :%4$s))"
+                    : "(%1$s < :%3$s or %1$s is null or (%1$s = :%3$s and %2$s < :%4$s))")
+                    .formatted(sort, id, CURSOR_VALUE, CURSOR_ID));
+            case NULL_VALUE -> conditions.add((ascending
+                    ? "((%1$s is null and %2$s > :%3$s) or %1$s is not null)"
+                    : "(%1$s is null and %2$s < :%3$s)")
+                    .formatted(sort, id, CURSOR_ID));
+            case NONE -> {
+            }
+        }
+
+        final var direction = ascending ? "asc" : "desc";
+        final var orders = new ArrayList<String>();
+        if (aVariant.leadingOrder() != null) {
+            orders.add(aVariant.leadingOrder());
+        }
+        orders.add(sort + " " + direction);
+        orders.add(id + " " + direction);
+
+        return aVariant.select() + " from " + entity + " " + alias
+                + (conditions.isEmpty() ? "" : " where " + String.join(" and ", conditions))
+                + " order by " + String.join(", ", orders);
+    }
+
+    // A search predicate whose value is bound to :terms, plus an optional order that leads the requested sort.
+    public record Filter(String where, String order, Object value) {
+
+        public static final Filter NONE = new Filter(null, null, null);
+
+        public static Filter with(final String aWhere, final Object aValue) {
+            return new Filter(aWhere, null, aValue);
+        }
+
+        public static Filter with(final String aWhere, final String anOrder, final Object aValue) {
+            return new Filter(aWhere, anOrder, aValue);
+        }
+
+        public boolean matchesNothing() {
+            return value instanceof Collection<?> values && values.isEmpty()
+                    || value instanceof String text && text.isEmpty();
+        }
+
+        public void bind(final Query aQuery) {
+            if (where != null) {
+                aQuery.setParameter(TERMS, value);
+            }
+        }
+    }
+
+    private enum CursorKind {
+        NONE,
+        VALUE,
+        NULL_VALUE;
+
+        static CursorKind of(final Cursor aCursor) {
+            if (aCursor == null) {
+                return NONE;
+            }
+            return aCursor.value() != null ? VALUE : NULL_VALUE;
+        }
+    }
+
+    private record Variant(
+            String select,
+            String where,
+            String leadingOrder,
+            String sort,
+            Direction direction,
+            CursorKind cursor
+    ) {
+    }
+}
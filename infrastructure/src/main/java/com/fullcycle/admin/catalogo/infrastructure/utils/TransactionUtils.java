@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class TransactionUtils {
+
+    private TransactionUtils() {
+    }
+
+    // Runs the action once the current transaction commits, or right away outside of one; a rollback drops it.
+    public static void afterCommit(final Runnable anAction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            anAction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                anAction.run();
+            }
+        });
+    }
+}
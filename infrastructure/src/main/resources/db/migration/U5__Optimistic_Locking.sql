@@ -0,0 +1,2 @@
+ALTER TABLE genres DROP COLUMN version;
+ALTER TABLE category DROP COLUMN version;
\ No newline at end of file
@@ -0,0 +1 @@
+DROP TABLE cache_invalidations;
\ No newline at end of file
@@ -0,0 +1,2 @@
+ALTER TABLE category ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE genres ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
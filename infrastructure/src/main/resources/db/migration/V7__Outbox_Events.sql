@@ -0,0 +1,9 @@
+-- Ids are UUIDv7 assigned by the application, so they sort by creation time and inserts can be batched.
+CREATE TABLE outbox_events(
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    aggregate_type VARCHAR(32) NOT NULL,
+    aggregate_id VARCHAR(36) NOT NULL,
+    event_type VARCHAR(64) NOT NULL,
+    payload TEXT NOT NULL,
+    occurred_at DATETIME(6) NOT NULL
+);
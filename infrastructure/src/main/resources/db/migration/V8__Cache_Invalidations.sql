@@ -0,0 +1,9 @@
+-- Every node tails this table by seq to drop the cache entries written on other nodes; a NULL entry_key drops the whole cache.
+CREATE TABLE cache_invalidations(
+    seq BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    cache_name VARCHAR(32) NOT NULL,
+    entry_key VARCHAR(36) NULL,
+    created_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_cache_invalidations_created_at ON cache_invalidations (created_at);
@@ -1,12 +1,15 @@
 package com.fullcycle.admin.catalogo;
 
+import com.fullcycle.admin.catalogo.infrastructure.cache.persistence.CacheInvalidationRepository;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Collection;
 import java.util.List;
@@ -19,12 +22,18 @@ public class MySQLCleanUpExtension implements BeforeEachCallback {
 
 
         cleanUp(List.of(
-                appContext.getBean(GenreRepository.class, CategoryRepository.class)
+                appContext.getBean(GenreRepository.class),
+                appContext.getBean(CategoryRepository.class),
+                appContext.getBean(OutboxEventRepository.class),
+                appContext.getBean(CacheInvalidationRepository.class)
         ));
 
-        final var em = appContext.getBean(TestEntityManager.class);
-        em.flush();
-        em.clear();
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            appContext.getBeanProvider(TestEntityManager.class).ifAvailable(em -> {
+                em.flush();
+                em.clear();
+            });
+        }
     }
 
     private void cleanUp(final Collection<CrudRepository> repositories) {
@@ -0,0 +1,42 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.infrastructure.category.importer.CategoryImportFormat;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@IntegrationTest
+public class ImportCategoriesUseCaseIT {
+
+    @Autowired
+    private ImportCategoriesUseCase useCase;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Test
+    public void givenACsvFileLargerThanABatch_whenCallsImportCategories_shouldPersistEveryValidRow() {
+        final var expectedImported = 1_234;
+        final var body = new StringBuilder("name,description,is_active\n");
+        for (int i = 0; i < expectedImported; i++) {
+            body.append("Categoria ").append(i).append(",\"Descrição, ").append(i).append("\",").append(i % 2 == 0).append('\n');
+        }
+        body.append(",Sem nome,true\n");
+
+        final var rows = CategoryImportFormat.CSV.rows(new ByteArrayInputStream(body.toString().getBytes(StandardCharsets.UTF_8)));
+
+        final var actualOutput = useCase.execute(ImportCategoriesCommand.with(rows));
+
+        assertEquals(expectedImported, actualOutput.imported());
+        assertEquals(1, actualOutput.rejected());
+        assertEquals(expectedImported + 1L, actualOutput.rejections().get(0).row());
+        assertEquals(expectedImported, categoryRepository.count());
+        assertEquals(expectedImported / 2, categoryRepository.findAll().stream().filter(it -> !it.isActive()).count());
+    }
+}
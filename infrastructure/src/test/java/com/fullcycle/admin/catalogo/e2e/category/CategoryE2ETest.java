@@ -127,23 +127,32 @@ public class CategoryE2ETest {
     }
 
     @Test
-    public void asACatalogAdminIShouldBeAbleToSortAllCategoriesByDescriptionDesc() throws Exception {
+    public void asACatalogAdminIShouldBeAbleToSearchCategoriesOrderedByRelevance() throws Exception {
+        Assertions.assertTrue(MYSQL_CONTAINER.isRunning());
+        Assertions.assertEquals(0, categoryRepository.count());
+
+        givenACategory("Documentários", "Documentários sobre filmes", true);
+        givenACategory("Filmes", "Filmes e mais filmes", true);
+        givenACategory("Séries", null, true);
+
+        listCategories(0, 10, "filmes")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", equalTo(2)))
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].name", equalTo("Filmes")))
+                .andExpect(jsonPath("$.items[1].name", equalTo("Documentários")));
+    }
+
+    @Test
+    public void asACatalogAdminIShouldNotBeAbleToSortCategoriesByAnUnindexedField() throws Exception {
         Assertions.assertTrue(MYSQL_CONTAINER.isRunning());
         Assertions.assertEquals(0, categoryRepository.count());
 
         givenACategory("Filmes", "C", true);
-        givenACategory("Documentários", "Z", true);
-        givenACategory("Séries", "A", true);
 
         listCategories(0, 3, "", "description", "desc")
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$.current_page", equalTo(0)))
-                .andExpect(jsonPath("$.per_page", equalTo(3)))
-                .andExpect(jsonPath("$.total", equalTo(3)))
-                .andExpect(jsonPath("$.items", hasSize(3)))
-                .andExpect(jsonPath("$.items[0].name", equalTo("Documentários")))
-                .andExpect(jsonPath("$.items[1].name", equalTo("Filmes")))
-                .andExpect(jsonPath("$.items[2].name", equalTo("Séries")));
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0].message", equalTo("'sort' must be one of name, createdAt or deletedAt")));
     }
 
     @Test
@@ -2,23 +2,40 @@ package com.fullcycle.admin.catalogo.infrastructure.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fullcycle.admin.catalogo.ControllerTest;
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryOutput;
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.ImportCategoriesCommand;
+import com.fullcycle.admin.catalogo.application.category.create.ImportCategoriesException;
+import com.fullcycle.admin.catalogo.application.category.create.ImportCategoriesOutput;
+import com.fullcycle.admin.catalogo.application.category.create.ImportCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.CategoryOutput;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
 import com.fullcycle.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoriesStatusOutput;
+import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoriesStatusUseCase;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryOutput;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.list.GenreListOutput;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.list.ListGenresByCategoryCommand;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.list.ListGenresByCategoryUseCase;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.exceptions.VersionConflictException;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
 import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.UpdateCategoriesStatusRequest;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
 import io.vavr.API;
 import io.vavr.control.Either;
@@ -31,8 +48,11 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import static io.vavr.control.Either.left;
 import static io.vavr.control.Either.right;
@@ -40,6 +60,9 @@ import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @ControllerTest(controllers = CategoryApi.class)
@@ -54,18 +77,36 @@ public class CategoryApiTest {
     @MockBean
     private CreateCategoryUseCase createCategoryUseCase;
 
+    @MockBean
+    private CreateCategoriesUseCase createCategoriesUseCase;
+
     @MockBean
     private GetCategoryByIdUseCase getCategoryByIdUseCase;
 
     @MockBean
     private UpdateCategoryUseCase updateCategoryUseCase;
 
+    @MockBean
+    private UpdateCategoriesStatusUseCase updateCategoriesStatusUseCase;
+
     @MockBean
     private DeleteCategoryUseCase deleteCategoryUseCase;
 
+    @MockBean
+    private DeleteCategoriesUseCase deleteCategoriesUseCase;
+
     @MockBean
     private ListCategoriesUseCase listCategoriesUseCase;
 
+    @MockBean
+    private ExportCategoriesUseCase exportCategoriesUseCase;
+
+    @MockBean
+    private ImportCategoriesUseCase importCategoriesUseCase;
+
+    @MockBean
+    private ListGenresByCategoryUseCase listGenresByCategoryUseCase;
+
     @Test
     public void givenAValidCommand_whenCallCreateCategory_shouldReturnCategoryId() throws Exception {
         final var expectedName = "Filmes";
@@ -191,6 +232,7 @@ public class CategoryApiTest {
                 .andDo(MockMvcResultHandlers.print())
                 .andExpectAll(
                         status().isOk(),
+                        header().string("ETag", "\"0\""),
                         jsonPath("$.id", equalTo(expectedId.getValue())),
                         jsonPath("$.name", equalTo(expectedName)),
                         jsonPath("$.description", equalTo(expectedDescription)),
@@ -224,6 +266,61 @@ public class CategoryApiTest {
                 );
     }
 
+    @Test
+    public void givenACategoryWithGenres_whenCallsListGenres_shouldReturnThePageAndItsCursor() throws Exception {
+        // given
+        final var aGenre = Genre.newGenre("Ação", true).addCategory(CategoryID.from("123"));
+
+        final var expectedAfter = "aWQKQVNDCjEyMw";
+        final var expectedNextCursor = "aWQKQVNDCjQ1Ng";
+
+        when(listGenresByCategoryUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 1, Pagination.UNKNOWN_TOTAL, List.of(GenreListOutput.from(aGenre)), expectedNextCursor));
+
+        // when
+        final var request = MockMvcRequestBuilders.get("/categories/{id}/genres", "123")
+                .queryParam("perPage", "1")
+                .queryParam("after", expectedAfter)
+                .queryParam("total", "none")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mockMvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.next_cursor", equalTo(expectedNextCursor)))
+                .andExpect(jsonPath("$.has_more", equalTo(true)))
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id", equalTo(aGenre.getId().getValue())))
+                .andExpect(jsonPath("$.items[0].categories_id", equalTo(List.of("123"))));
+
+        verify(listGenresByCategoryUseCase, times(1)).execute(eq(
+                ListGenresByCategoryCommand.with("123", 1, expectedAfter, TotalMode.NONE)
+        ));
+    }
+
+    @Test
+    public void givenAnUnknownCategory_whenCallsListGenres_shouldReturnNotFound() throws Exception {
+        // given
+        final var expectedErrorMessage = "Category with ID 123 was not found";
+
+        when(listGenresByCategoryUseCase.execute(any()))
+                .thenThrow(NotFoundException.with(Category.class, CategoryID.from("123")));
+
+        // when
+        final var request = MockMvcRequestBuilders.get("/categories/{id}/genres", "123")
+                .accept(MediaType.APPLICATION_JSON);
+
+        // then
+        this.mockMvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpectAll(
+                        status().isNotFound(),
+                        jsonPath("$.message", equalTo(expectedErrorMessage))
+                );
+    }
+
     @Test
     public void givenAValidCommand_whenCallsUpdateCategory_shouldReturnCategoryId() throws Exception {
         final var expectedId = "123";
@@ -356,7 +453,7 @@ public class CategoryApiTest {
         final var expectedPage = 0;
         final var expectedPerPage = 10;
         final var expectedTerms = "movies";
-        final var expectedSort = "description";
+        final var expectedSort = "createdAt";
         final var expectedDirection = "desc";
         final var expectedItemsCount = 1;
         final var expectedTotal = 1;
@@ -401,4 +498,420 @@ public class CategoryApiTest {
         ));
     }
 
+    @Test
+    public void givenACursor_whenCallsListCategories_shouldForwardItAndReturnNextCursor() throws Exception {
+        // given
+        final var aCategory = Category.newCategory("Movies", null, true);
+
+        final var expectedAfter = "bmFtZQpBU0MKMTIz";
+        final var expectedNextCursor = "bmFtZQpBU0MKNDU2";
+        final var expectedItems = List.of(CategoryListOutput.from(aCategory));
+
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 10, 2, expectedItems, expectedNextCursor));
+
+        // when
+        final var request = MockMvcRequestBuilders.get("/categories")
+                .queryParam("after", expectedAfter)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mockMvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.next_cursor", equalTo(expectedNextCursor)))
+                .andExpect(jsonPath("$.items", hasSize(1)));
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
+                Objects.equals(expectedAfter, query.after())
+                        && query.hasCursor()
+                        && query.totalMode() == TotalMode.EXACT
+        ));
+    }
+
+    @Test
+    public void givenAnInvalidTotalMode_whenCallsListCategories_shouldReturnUnprocessableEntity() throws Exception {
+        // when
+        final var request = MockMvcRequestBuilders.get("/categories")
+                .queryParam("total", "approximately")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mockMvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0].message", equalTo("'total' must be one of exact, estimated or none")));
+
+        verify(listCategoriesUseCase, never()).execute(any());
+    }
+
+
+    @Test
+    public void givenAnUnsupportedSort_whenCallsListCategories_shouldReturnUnprocessableEntity() throws Exception {
+        // when
+        final var request = MockMvcRequestBuilders.get("/categories")
+                .queryParam("sort", "description")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mockMvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0].message", equalTo("'sort' must be one of name, createdAt or deletedAt")));
+
+        verify(listCategoriesUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenAnInvalidDirection_whenCallsListCategories_shouldReturnUnprocessableEntity() throws Exception {
+        // when
+        final var request = MockMvcRequestBuilders.get("/categories")
+                .queryParam("dir", "sideways")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mockMvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0].message", equalTo("'dir' must be one of asc or desc")));
+
+        verify(listCategoriesUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenPersistedCategories_whenCallsExportCategories_shouldStreamOneJsonLinePerCategory() throws Exception {
+        // given
+        final var movies = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var tvShows = Category.newCategory("Séries", null, false);
+
+        doAnswer(invocation -> {
+            final Consumer<CategoryListOutput> action = invocation.getArgument(0);
+            action.accept(CategoryListOutput.from(movies));
+            action.accept(CategoryListOutput.from(tvShows));
+            return null;
+        }).when(exportCategoriesUseCase).execute(any());
+
+        // when
+        final var started = this.mockMvc.perform(MockMvcRequestBuilders.get("/categories/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mockMvc.perform(asyncDispatch(started))
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_NDJSON_VALUE));
+
+        final var actualLines = response.andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, actualLines.length);
+        final var firstLine = this.objectMapper.readTree(actualLines[0]);
+        final var secondLine = this.objectMapper.readTree(actualLines[1]);
+        assertEquals(movies.getId().getValue(), firstLine.get("id").asText());
+        assertEquals(movies.getDescription(), firstLine.get("description").asText());
+        assertEquals(tvShows.getName(), secondLine.get("name").asText());
+        assertFalse(secondLine.get("is_active").asBoolean());
+    }
+
+    @Test
+    public void givenValidAndInvalidItems_whenCallsCreateCategories_shouldReturnMultiStatusWithPerItemResults() throws Exception {
+        final var expectedMessage = "'name' should not be null";
+        final var aInput = List.of(
+                new CreateCategoryRequest("Filmes", null, null),
+                new CreateCategoryRequest(null, null, true)
+        );
+
+        when(createCategoriesUseCase.execute(any())).thenReturn(List.of(
+                right(CreateCategoryOutput.from("123")),
+                left(Notification.create(new Error(expectedMessage)))
+        ));
+
+        final var request = MockMvcRequestBuilders.post("/categories/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.objectMapper.writeValueAsString(aInput));
+
+        this.mockMvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpectAll(
+                        status().isMultiStatus(),
+                        jsonPath("$", hasSize(2)),
+                        jsonPath("$[0].index", equalTo(0)),
+                        jsonPath("$[0].id", equalTo("123")),
+                        jsonPath("$[1].index", equalTo(1)),
+                        jsonPath("$[1].id", nullValue()),
+                        jsonPath("$[1].errors[0].message", equalTo(expectedMessage))
+                );
+
+        verify(createCategoriesUseCase, times(1)).execute(argThat(cmds ->
+                cmds.size() == 2
+                        && cmds.get(0).isActive()
+                        && Objects.equals("Filmes", cmds.get(0).name())
+                        && Objects.isNull(cmds.get(1).name())
+        ));
+    }
+
+    @Test
+    public void givenOnlyValidItems_whenCallsCreateCategories_shouldReturnCreated() throws Exception {
+        final var aInput = List.of(new CreateCategoryRequest("Filmes", null, true));
+
+        when(createCategoriesUseCase.execute(any())).thenReturn(List.of(right(CreateCategoryOutput.from("123"))));
+
+        final var request = MockMvcRequestBuilders.post("/categories/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.objectMapper.writeValueAsString(aInput));
+
+        this.mockMvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpectAll(
+                        status().isCreated(),
+                        jsonPath("$[0].id", equalTo("123"))
+                );
+    }
+
+    @Test
+    public void givenAnEmptyList_whenCallsCreateCategories_shouldReturnUnprocessableEntity() throws Exception {
+        final var expectedMessage = "'categories' should not be empty";
+
+        when(createCategoriesUseCase.execute(any())).thenThrow(DomainException.with(new Error(expectedMessage)));
+
+        final var request = MockMvcRequestBuilders.post("/categories/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]");
+
+        this.mockMvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpectAll(
+                        status().isUnprocessableEntity(),
+                        jsonPath("$.errors", hasSize(1)),
+                        jsonPath("$.errors[0].message", equalTo(expectedMessage))
+                );
+    }
+
+    @Test
+    public void givenACsvBody_whenCallsImportCategories_shouldReadItRowByRowAndReturnMultiStatus() throws Exception {
+        // given
+        final var body = "name,description,is_active\nFilmes,A categoria mais assistida,true\n,Sem nome,true\n";
+        final var expectedErrors = List.of(new Error("'name' should not be null"));
+
+        when(importCategoriesUseCase.execute(any())).thenAnswer(invocation -> {
+            final ImportCategoriesCommand aCommand = invocation.getArgument(0);
+            final var rows = new ArrayList<CreateCategoryCommand>();
+            aCommand.rows().forEachRemaining(rows::add);
+            assertEquals(CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true), rows.get(0));
+            assertEquals(2, rows.size());
+            return ImportCategoriesOutput.with(1, 1, List.of(new ImportCategoriesOutput.Rejection(2, expectedErrors)));
+        });
+
+        // when
+        final var request = MockMvcRequestBuilders.post("/categories/import")
+                .contentType("text/csv")
+                .content(body);
+
+        final var response = this.mockMvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.imported", equalTo(1)))
+                .andExpect(jsonPath("$.rejected", equalTo(1)))
+                .andExpect(jsonPath("$.rejections[0].row", equalTo(2)))
+                .andExpect(jsonPath("$.rejections[0].errors[0].message", equalTo("'name' should not be null")));
+    }
+
+    @Test
+    public void givenAnNdjsonBody_whenCallsImportCategoriesAndEveryRowIsImported_shouldReturnCreated() throws Exception {
+        // given
+        when(importCategoriesUseCase.execute(any())).thenAnswer(invocation -> {
+            final ImportCategoriesCommand aCommand = invocation.getArgument(0);
+            var count = 0L;
+            while (aCommand.rows().hasNext()) {
+                aCommand.rows().next();
+                count++;
+            }
+            return ImportCategoriesOutput.with(count, 0, List.of());
+        });
+
+        // when
+        final var request = MockMvcRequestBuilders.post("/categories/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("{\"name\":\"Filmes\"}\n{\"name\":\"Séries\",\"is_active\":false}\n".getBytes(StandardCharsets.UTF_8));
+
+        final var response = this.mockMvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(status().isCreated())
+                .andExpect(jsonPath("$.imported", equalTo(2)))
+                .andExpect(jsonPath("$.rejections", hasSize(0)));
+    }
+
+    @Test
+    public void givenAMalformedRowAfterSomeBatches_whenCallsImportCategories_shouldReturnUnprocessableWithTheImportedCount() throws Exception {
+        // given
+        when(importCategoriesUseCase.execute(any())).thenAnswer(invocation -> {
+            final ImportCategoriesCommand aCommand = invocation.getArgument(0);
+            var count = 0L;
+            try {
+                while (aCommand.rows().hasNext()) {
+                    aCommand.rows().next();
+                    count++;
+                }
+            } catch (final DomainException ex) {
+                throw ImportCategoriesException.with(count, ex);
+            }
+            return ImportCategoriesOutput.with(count, 0, List.of());
+        });
+
+        // when
+        final var request = MockMvcRequestBuilders.post("/categories/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("{\"name\":\"Filmes\"}\n{\"name\":}\n".getBytes(StandardCharsets.UTF_8));
+
+        final var response = this.mockMvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message", equalTo("Malformed JSON at line 2")))
+                .andExpect(jsonPath("$.errors[0].message", equalTo("Malformed JSON at line 2")))
+                .andExpect(jsonPath("$.imported", equalTo(1)));
+    }
+
+    @Test
+    public void givenAnUnsupportedBody_whenCallsImportCategories_shouldReturnUnsupportedMediaType() throws Exception {
+        // when
+        final var request = MockMvcRequestBuilders.post("/categories/import")
+                .contentType(MediaType.APPLICATION_XML)
+                .content("<categories/>");
+
+        final var response = this.mockMvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(status().isUnsupportedMediaType());
+
+        verify(importCategoriesUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenIdsAndStatus_whenCallsUpdateStatus_shouldReturnUpdatedAndNotFoundIds() throws Exception {
+        final var aInput = new UpdateCategoriesStatusRequest(List.of("123", "456"), false);
+
+        when(updateCategoriesStatusUseCase.execute(any()))
+                .thenReturn(UpdateCategoriesStatusOutput.from(List.of("123"), List.of("456")));
+
+        final var request = MockMvcRequestBuilders.patch("/categories/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.objectMapper.writeValueAsString(aInput));
+
+        this.mockMvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.updated", equalTo(List.of("123"))),
+                        jsonPath("$.not_found", equalTo(List.of("456")))
+                );
+
+        verify(updateCategoriesStatusUseCase, times(1)).execute(argThat(cmd ->
+                Objects.equals(List.of("123", "456"), cmd.ids()) && !cmd.isActive()
+        ));
+    }
+
+    @Test
+    public void givenANullStatus_whenCallsUpdateStatus_shouldReturnUnprocessableEntity() throws Exception {
+        final var aInput = new UpdateCategoriesStatusRequest(List.of("123"), null);
+
+        final var request = MockMvcRequestBuilders.patch("/categories/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.objectMapper.writeValueAsString(aInput));
+
+        this.mockMvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpectAll(
+                        status().isUnprocessableEntity(),
+                        jsonPath("$.errors[0].message", equalTo("'is_active' should not be null"))
+                );
+
+        verify(updateCategoriesStatusUseCase, times(0)).execute(any());
+    }
+
+    @Test
+    public void givenIds_whenCallsDeleteByIds_shouldReturnNoContent() throws Exception {
+        final var expectedIds = List.of("123", "456");
+
+        doNothing().when(deleteCategoriesUseCase).execute(any());
+
+        final var request = MockMvcRequestBuilders.delete("/categories")
+                .param("ids", "123,456")
+                .contentType(MediaType.APPLICATION_JSON);
+
+        this.mockMvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(status().isNoContent());
+
+        verify(deleteCategoriesUseCase, times(1)).execute(eq(expectedIds));
+    }
+
+    @Test
+    public void givenAnIfMatchHeader_whenCallsUpdateCategory_shouldForwardVersionAndReturnNewETag() throws Exception {
+        final var expectedId = "123";
+        final var input = new UpdateCategoryRequest("Filmes", null, true);
+
+        when(updateCategoryUseCase.execute(any())).thenReturn(API.Right(new UpdateCategoryOutput(expectedId, 4)));
+
+        final var request = MockMvcRequestBuilders.put("/categories/{id}", expectedId)
+                .header("If-Match", "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(input));
+
+        this.mockMvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpectAll(
+                        status().isOk(),
+                        header().string("ETag", "\"4\""),
+                        jsonPath("$.id", equalTo(expectedId)));
+
+        verify(updateCategoryUseCase, times(1)).execute(argThat(cmd -> Objects.equals(3L, cmd.expectedVersion())));
+    }
+
+    @Test
+    public void givenAnUnknownIfMatchHeader_whenCallsUpdateCategory_shouldForwardAVersionThatNeverMatches() throws Exception {
+        final var input = new UpdateCategoryRequest("Filmes", null, true);
+
+        when(updateCategoryUseCase.execute(any())).thenReturn(API.Right(UpdateCategoryOutput.from("123")));
+
+        final var request = MockMvcRequestBuilders.put("/categories/{id}", "123")
+                .header("If-Match", "W/\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(input));
+
+        this.mockMvc.perform(request)
+                .andExpect(status().isOk());
+
+        verify(updateCategoryUseCase, times(1)).execute(argThat(cmd -> Objects.equals(-1L, cmd.expectedVersion())));
+    }
+
+    @Test
+    public void givenAStaleIfMatchHeader_whenCallsUpdateCategory_shouldReturnPreconditionFailed() throws Exception {
+        final var expectedId = CategoryID.from("123");
+        final var expectedErrorMessage = "Category with ID 123 was modified by another request";
+        final var input = new UpdateCategoryRequest("Filmes", null, true);
+
+        when(updateCategoryUseCase.execute(any())).thenThrow(VersionConflictException.with(Category.class, expectedId));
+
+        final var request = MockMvcRequestBuilders.put("/categories/{id}", expectedId.getValue())
+                .header("If-Match", "\"1\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(input));
+
+        this.mockMvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpectAll(
+                        status().isPreconditionFailed(),
+                        jsonPath("$.message", equalTo(expectedErrorMessage)));
+    }
 }
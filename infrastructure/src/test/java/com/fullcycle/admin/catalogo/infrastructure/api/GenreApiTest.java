@@ -0,0 +1,92 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullcycle.admin.catalogo.ControllerTest;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.export.ExportGenresUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.list.GenreListOutput;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ControllerTest(controllers = GenreApi.class)
+public class GenreApiTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private ExportGenresUseCase exportGenresUseCase;
+
+    @Test
+    public void givenPersistedGenres_whenCallsExportGenres_shouldStreamOneJsonLinePerGenre() throws Exception {
+        // given
+        final var action = Genre.newGenre("Ação", true)
+                .addCategories(List.of(CategoryID.from("123"), CategoryID.from("456")));
+        final var drama = Genre.newGenre("Drama", true);
+
+        doAnswer(invocation -> {
+            final Consumer<GenreListOutput> consumer = invocation.getArgument(0);
+            consumer.accept(GenreListOutput.from(action));
+            consumer.accept(GenreListOutput.from(drama));
+            return null;
+        }).when(exportGenresUseCase).execute(any());
+
+        // when
+        final var started = this.mockMvc.perform(MockMvcRequestBuilders.get("/genres/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mockMvc.perform(asyncDispatch(started))
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_NDJSON_VALUE));
+
+        final var actualLines = response.andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8).split("\\n");
+        assertEquals(2, actualLines.length);
+
+        final var firstLine = this.objectMapper.readTree(actualLines[0]);
+        assertEquals(action.getId().getValue(), firstLine.get("id").asText());
+        assertEquals("Ação", firstLine.get("name").asText());
+        assertEquals(2, firstLine.get("categories_id").size());
+        assertEquals("123", firstLine.get("categories_id").get(0).asText());
+
+        final var secondLine = this.objectMapper.readTree(actualLines[1]);
+        assertEquals(drama.getId().getValue(), secondLine.get("id").asText());
+        assertTrue(secondLine.get("categories_id").isEmpty());
+    }
+
+    @Test
+    public void givenAnEmptyCatalog_whenCallsExportGenres_shouldStreamAnEmptyBody() throws Exception {
+        // when
+        final var started = this.mockMvc.perform(MockMvcRequestBuilders.get("/genres/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        this.mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().string(""));
+    }
+}
@@ -0,0 +1,104 @@
+package com.fullcycle.admin.catalogo.infrastructure.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class BoundedCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    public void givenALoadedKey_whenCallsGetAgain_shouldServeItWithoutLoading() {
+        final var cache = cache(100, Duration.ofMinutes(1));
+
+        Assertions.assertEquals(Optional.of("a"), cache.get("a", this::load));
+        Assertions.assertEquals(Optional.of("a"), cache.get("a", this::load));
+
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertEquals(new CacheStats(1, 1, 0, 0, 1, 1), cache.stats());
+        Assertions.assertEquals(0.5, cache.stats().hitRatio());
+    }
+
+    @Test
+    public void givenAnAbsentKey_whenCallsGet_shouldNotCacheTheMiss() {
+        final var cache = cache(100, Duration.ofMinutes(1));
+
+        Assertions.assertTrue(cache.get("a", key -> Optional.empty()).isEmpty());
+        Assertions.assertEquals(Optional.of("a"), cache.get("a", this::load));
+        Assertions.assertEquals(0, cache.stats().hits());
+    }
+
+    @Test
+    public void givenAnEntryOlderThanTheTtl_whenCallsGet_shouldLoadItAgain() {
+        final var cache = cache(100, Duration.ofSeconds(10));
+        cache.get("a", this::load);
+
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        cache.get("a", this::load);
+
+        Assertions.assertEquals(2, loads.get());
+        Assertions.assertEquals(1, cache.stats().expirations());
+    }
+
+    @Test
+    public void givenEntriesOverTheMaxWeight_whenCallsGet_shouldEvictTheLeastRecentlyUsed() {
+        final var cache = cache(6, Duration.ofMinutes(1));
+        cache.get("aa", this::load);
+        cache.get("bb", this::load);
+        cache.get("cc", this::load);
+        cache.get("aa", this::load);
+
+        cache.get("ddd", this::load);
+
+        final var stats = cache.stats();
+        Assertions.assertEquals(2, stats.evictions());
+        Assertions.assertEquals(5, stats.weight());
+        Assertions.assertEquals(2, stats.size());
+        loads.set(0);
+        cache.get("aa", this::load);
+        cache.get("bb", this::load);
+        Assertions.assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void givenAnInvalidationDuringTheLoad_whenCallsGet_shouldNotStoreTheStaleValue() {
+        final var cache = cache(100, Duration.ofMinutes(1));
+
+        cache.get("a", key -> {
+            cache.invalidate(key);
+            return load(key);
+        });
+        cache.get("a", this::load);
+
+        Assertions.assertEquals(2, loads.get());
+        Assertions.assertEquals(0, cache.stats().hits());
+    }
+
+    @Test
+    public void givenCachedEntries_whenCallsInvalidateAll_shouldLoadEveryKeyAgain() {
+        final var cache = cache(100, Duration.ofMinutes(1));
+        cache.get("a", this::load);
+        cache.get("b", this::load);
+
+        cache.invalidateAll();
+        cache.get("a", this::load);
+
+        Assertions.assertEquals(3, loads.get());
+        Assertions.assertEquals(1, cache.stats().size());
+    }
+
+    private BoundedCache<String, String> cache(final long maxWeight, final Duration ttl) {
+        return new BoundedCache<>(maxWeight, ttl, String::length, clock::get);
+    }
+
+    private Optional<String> load(final String aKey) {
+        loads.incrementAndGet();
+        return Optional.of(aKey);
+    }
+}
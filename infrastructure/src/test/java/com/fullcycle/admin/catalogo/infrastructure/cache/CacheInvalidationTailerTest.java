@@ -0,0 +1,219 @@
+package com.fullcycle.admin.catalogo.infrastructure.cache;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.infrastructure.cache.persistence.CacheInvalidationRepository;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.category.search.CategorySearchIndex;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.WebServerConfig;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.fullcycle.admin.catalogo.infrastructure.genre.search.GenreSearchIndex;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+// Two application contexts stand in for two nodes sharing one database: each caches and indexes on its own and learns
+// about the other's writes only through cache_invalidations.
+public class CacheInvalidationTailerTest {
+
+    private static final Duration CONVERGENCE = Duration.ofSeconds(5);
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = node();
+        nodeB = node();
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        nodeB.close();
+        nodeA.close();
+    }
+
+    @BeforeEach
+    void cleanUp() {
+        nodeA.getBean(GenreRepository.class).deleteAll();
+        nodeA.getBean(CategoryRepository.class).deleteAll();
+        nodeA.getBean(CacheInvalidationRepository.class).deleteAll();
+    }
+
+    @Test
+    public void givenACategoryCachedOnBothNodes_whenOneNodeUpdatesIt_shouldServeTheNewVersionOnTheOther() {
+        final var aCategory = categories(nodeA).create(Category.newCategory("Filmes", null, true));
+        final var anId = aCategory.getId();
+        Assertions.assertEquals("Filmes", categories(nodeB).findById(anId).get().getName());
+        Assertions.assertEquals("Filmes", categories(nodeB).findById(anId).get().getName());
+        Assertions.assertTrue(categoryCache(nodeB).stats().hits() > 0);
+
+        categories(nodeA).update(categories(nodeA).findById(anId).get().update("Séries", null, true));
+
+        await(() -> "Séries".equals(categories(nodeB).findById(anId).get().getName()));
+    }
+
+    @Test
+    public void givenAGenreCachedOnTheOtherNode_whenOneNodeDeletesItsCategory_shouldDropTheLinkOnTheOther() {
+        final var aCategory = categories(nodeA).create(Category.newCategory("Filmes", null, true));
+        final var aGenre = genres(nodeA).create(Genre.newGenre("Ação", true).addCategory(aCategory.getId()));
+        Assertions.assertEquals(1, genres(nodeB).findById(aGenre.getId()).get().getCategories().size());
+
+        categories(nodeA).deleteById(aCategory.getId());
+
+        await(() -> genres(nodeB).findById(aGenre.getId()).get().getCategories().isEmpty()
+                && categories(nodeB).findById(aCategory.getId()).isEmpty());
+    }
+
+    @Test
+    public void givenAWriteThatCommitsAfterALaterOne_whenTheOtherNodeTails_shouldStillApplyIt() throws Exception {
+        final var filmes = categories(nodeA).create(Category.newCategory("Filmes", null, true));
+        final var series = categories(nodeA).create(Category.newCategory("Séries", null, true));
+        categories(nodeB).findById(filmes.getId());
+        categories(nodeB).findById(series.getId());
+
+        // The first transaction takes its seq and holds it open while a second one commits a later seq.
+        final var written = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var slow = CompletableFuture.runAsync(() -> transaction(nodeA).executeWithoutResult(status -> {
+            categories(nodeA).update(categories(nodeA).findById(filmes.getId()).get().update("Filmes antigos", null, true));
+            written.countDown();
+            await(release);
+        }));
+        await(written);
+        categories(nodeA).update(categories(nodeA).findById(series.getId()).get().update("Novelas", null, true));
+        await(() -> "Novelas".equals(categories(nodeB).findById(series.getId()).get().getName()));
+        Assertions.assertEquals("Filmes", categories(nodeB).findById(filmes.getId()).get().getName());
+
+        release.countDown();
+        slow.get(CONVERGENCE.toSeconds(), TimeUnit.SECONDS);
+
+        await(() -> "Filmes antigos".equals(categories(nodeB).findById(filmes.getId()).get().getName()));
+    }
+
+    @Test
+    public void givenAWriteOpenWhileANodeStarts_whenItCommitsAfterALaterOne_shouldStillBeAppliedOnTheNewNode() throws Exception {
+        final var filmes = categories(nodeA).create(Category.newCategory("Filmes", null, true));
+        final var series = categories(nodeA).create(Category.newCategory("Séries", null, true));
+
+        final var written = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var slow = CompletableFuture.runAsync(() -> transaction(nodeA).executeWithoutResult(status -> {
+            categories(nodeA).update(categories(nodeA).findById(filmes.getId()).get().update("Filmes antigos", null, true));
+            written.countDown();
+            await(release);
+        }));
+        await(written);
+        categories(nodeA).update(categories(nodeA).findById(series.getId()).get().update("Novelas", null, true));
+
+        try (final var nodeC = node()) {
+            nodeC.getBean(CacheInvalidationTailer.class).poll();
+            Assertions.assertEquals("Filmes", categories(nodeC).findById(filmes.getId()).get().getName());
+
+            release.countDown();
+            slow.get(CONVERGENCE.toSeconds(), TimeUnit.SECONDS);
+
+            await(() -> "Filmes antigos".equals(categories(nodeC).findById(filmes.getId()).get().getName()));
+        }
+    }
+
+    @Test
+    public void givenTheSearchIndexOnBothNodes_whenOneNodeWrites_shouldSearchTheChangesOnTheOther() {
+        final var aCategory = categories(nodeA).create(Category.newCategory("Filmes", null, true));
+        final var aGenre = genres(nodeA).create(Genre.newGenre("Aventura", true));
+        final var aCategoryId = aCategory.getId().getValue();
+        await(() -> categorySearch(nodeB).search("fil").contains(aCategoryId)
+                && genreSearch(nodeB).search("avent").contains(aGenre.getId().getValue()));
+
+        categories(nodeA).update(categories(nodeA).findById(aCategory.getId()).get().update("Documentários", null, true));
+        await(() -> categorySearch(nodeB).search("documentarios").contains(aCategoryId)
+                && !categorySearch(nodeB).search("fil").contains(aCategoryId));
+
+        categories(nodeA).deleteById(aCategory.getId());
+        genres(nodeA).deleteById(aGenre.getId());
+        await(() -> !categorySearch(nodeB).search("documentarios").contains(aCategoryId)
+                && !genreSearch(nodeB).search("avent").contains(aGenre.getId().getValue()));
+    }
+
+    private static ConfigurableApplicationContext node() {
+        return new SpringApplicationBuilder(WebServerConfig.class)
+                .profiles("test-integration")
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:adm_videos_nodes;MODE=MYSQL;DATABASE_TO_LOWER=TRUE",
+                        "--cache.enabled=true",
+                        "--cache.invalidation.enabled=true",
+                        "--cache.invalidation.interval=50",
+                        "--search.index.enabled=true"
+                );
+    }
+
+    private static CategoryGateway categories(final ConfigurableApplicationContext aNode) {
+        return aNode.getBean(CategoryGateway.class);
+    }
+
+    private static GenreGateway genres(final ConfigurableApplicationContext aNode) {
+        return aNode.getBean(GenreGateway.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BoundedCache<CategoryID, Category> categoryCache(final ConfigurableApplicationContext aNode) {
+        return aNode.getBean("categoryCache", BoundedCache.class);
+    }
+
+    private static CategorySearchIndex categorySearch(final ConfigurableApplicationContext aNode) {
+        return aNode.getBean(CategorySearchIndex.class);
+    }
+
+    private static GenreSearchIndex genreSearch(final ConfigurableApplicationContext aNode) {
+        return aNode.getBean(GenreSearchIndex.class);
+    }
+
+    private static TransactionTemplate transaction(final ConfigurableApplicationContext aNode) {
+        return new TransactionTemplate(aNode.getBean(PlatformTransactionManager.class));
+    }
+
+    private static void await(final BooleanSupplier aCondition) {
+        final var deadline = System.nanoTime() + CONVERGENCE.toNanos();
+        while (!aCondition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                Assertions.fail("caches did not converge within " + CONVERGENCE);
+            }
+            sleep();
+        }
+    }
+
+    private static void await(final CountDownLatch aLatch) {
+        try {
+            Assertions.assertTrue(aLatch.await(CONVERGENCE.toSeconds(), TimeUnit.SECONDS));
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(20);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
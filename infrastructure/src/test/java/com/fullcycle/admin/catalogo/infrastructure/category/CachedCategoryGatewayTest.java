@@ -0,0 +1,117 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.infrastructure.cache.BoundedCache;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.genre.CachedGenreGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Instant;
+import java.util.List;
+
+@MySQLGatewayTest
+@TestPropertySource(properties = "cache.enabled=true")
+public class CachedCategoryGatewayTest {
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private GenreGateway genreGateway;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private BoundedCache<CategoryID, Category> categoryCache;
+
+    @Autowired
+    private BoundedCache<GenreID, Genre> genreCache;
+
+    @BeforeEach
+    void setUp() {
+        categoryCache.invalidateAll();
+        genreCache.invalidateAll();
+    }
+
+    @Test
+    public void givenCacheEnabled_whenInjectingTheGateways_shouldGetTheCachedDecorators() {
+        Assertions.assertInstanceOf(CachedCategoryGateway.class, categoryGateway);
+        Assertions.assertInstanceOf(CachedGenreGateway.class, genreGateway);
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsFindById_shouldNotReadTheDatabaseAgain() {
+        final var aCategory = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var before = categoryCache.stats();
+        categoryGateway.findById(aCategory.getId());
+
+        categoryRepository.deleteAllInBatch();
+        final var actualCategory = categoryGateway.findById(aCategory.getId());
+
+        Assertions.assertTrue(actualCategory.isPresent());
+        Assertions.assertEquals("Filmes", actualCategory.get().getName());
+        Assertions.assertEquals(before.hits() + 1, categoryCache.stats().hits());
+        Assertions.assertEquals(before.misses() + 1, categoryCache.stats().misses());
+    }
+
+    @Test
+    public void givenACachedCategory_whenMutatingTheReturnedInstance_shouldKeepTheCachedOneIntact() {
+        final var aCategory = categoryGateway.create(Category.newCategory("Filmes", null, true));
+
+        categoryGateway.findById(aCategory.getId()).get().update("Séries", "Mudado", false);
+
+        final var actualCategory = categoryGateway.findById(aCategory.getId()).get();
+        Assertions.assertEquals("Filmes", actualCategory.getName());
+        Assertions.assertTrue(actualCategory.isActive());
+        Assertions.assertTrue(actualCategory.getDomainEvents().isEmpty());
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsUpdate_shouldServeTheNewVersion() {
+        final var aCategory = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var cached = categoryGateway.findById(aCategory.getId()).get();
+
+        categoryGateway.update(cached.update("Séries", null, true));
+
+        final var actualCategory = categoryGateway.findById(aCategory.getId()).get();
+        Assertions.assertEquals("Séries", actualCategory.getName());
+        Assertions.assertEquals(cached.getVersion() + 1, actualCategory.getVersion());
+    }
+
+    @Test
+    public void givenCachedCategories_whenCallsUpdateStatus_shouldServeTheNewStatus() {
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+        categoryGateway.findById(filmes.getId());
+        categoryGateway.findById(series.getId());
+
+        categoryGateway.updateStatus(List.of(filmes.getId(), series.getId()), false, Instant.now());
+
+        Assertions.assertFalse(categoryGateway.findById(filmes.getId()).get().isActive());
+        Assertions.assertFalse(categoryGateway.findById(series.getId()).get().isActive());
+    }
+
+    @Test
+    public void givenACachedGenreLinkedToACategory_whenCallsDeleteById_shouldDropBothFromTheCache() {
+        final var aCategory = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var aGenre = genreGateway.create(Genre.newGenre("Ação", true).addCategory(aCategory.getId()));
+        categoryGateway.findById(aCategory.getId());
+        Assertions.assertEquals(List.of(aCategory.getId()), genreGateway.findById(aGenre.getId()).get().getCategories());
+
+        categoryGateway.deleteById(aCategory.getId());
+
+        Assertions.assertTrue(categoryGateway.findById(aCategory.getId()).isEmpty());
+        Assertions.assertTrue(genreGateway.findById(aGenre.getId()).get().getCategories().isEmpty());
+    }
+}
@@ -0,0 +1,99 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// FULLTEXT only exists on MySQL; not transactional because InnoDB indexes a row for MATCH only once it commits.
+@MySQLGatewayTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {"search.index.enabled=false", "search.full-text=true"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class CategoryMySQLGatewayFullTextTest {
+
+    @Container
+    private static final MySQLContainer MYSQL_CONTAINER = new MySQLContainer("mysql:latest")
+            .withPassword("123456")
+            .withUsername("root")
+            .withDatabaseName("adm_videos");
+
+    @DynamicPropertySource
+    public static void setDatasourceProperties(final DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL_CONTAINER::getJdbcUrl);
+        registry.add("spring.datasource.driver-class-name", MYSQL_CONTAINER::getDriverClassName);
+    }
+
+    @Autowired
+    private CategoryMySQLGateway categoryGateway;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Test
+    public void givenMatchesWithTiedScores_whenWalkingEveryPageOfARelevanceSearch_shouldReturnEachMatchExactlyOnce() {
+        final var expectedIds = new ArrayList<CategoryID>();
+        final var entities = new ArrayList<CategoryJpaEntity>();
+        for (int i = 0; i < 7; i++) {
+            final var aCategory = i % 3 == 0
+                    ? Category.newCategory("Filmes", "Filmes e mais filmes", true)
+                    : Category.newCategory(i % 2 == 0 ? "Curtas" : "Longas", "Filmes", true);
+            expectedIds.add(aCategory.getId());
+            entities.add(CategoryJpaEntity.from(aCategory));
+        }
+        entities.add(CategoryJpaEntity.from(Category.newCategory("Séries", null, true)));
+        categoryRepository.saveAllAndFlush(entities);
+
+        final var actualIds = new ArrayList<CategoryID>();
+        for (int page = 0; ; page++) {
+            final var actualResult = categoryGateway.findAll(new SearchQuery(page, 2, "filmes", "name", "asc"));
+            Assertions.assertNull(actualResult.nextCursor());
+            actualResult.items().forEach(it -> actualIds.add(it.getId()));
+            if (!actualResult.hasMore()) {
+                break;
+            }
+        }
+
+        assertEquals(expectedIds.size(), actualIds.size());
+        assertEquals(Set.copyOf(expectedIds), Set.copyOf(actualIds));
+    }
+
+    @Test
+    public void givenACursor_whenCallsFindAllOrderedByRelevance_shouldThrowDomainException() {
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Séries", null, true))
+        ));
+
+        final var aCursor = categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "asc")).nextCursor();
+
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> categoryGateway.findAll(new SearchQuery(0, 1, "filmes", "name", "asc", aCursor))
+        );
+
+        assertEquals("'after' can't be used when searching by relevance, use 'page' instead", actualException.getErrors().get(0).message());
+    }
+}
@@ -0,0 +1,150 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.category.search.CategorySearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Not transactional: the index only takes a write once its transaction commits.
+@MySQLGatewayTest
+@TestPropertySource(properties = "search.index.enabled=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class CategoryMySQLGatewaySearchIndexTest {
+
+    @Autowired
+    private CategoryMySQLGateway categoryGateway;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategorySearchIndex searchIndex;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // The tables are emptied between tests, the index has to be told.
+    @BeforeEach
+    void cleanUp() {
+        searchIndex.rebuild();
+    }
+
+    @Test
+    public void givenPrePersistedCategoriesAndRebuiltIndex_whenCallsFindAllWithAccentlessPartialTerms_shouldReturnFiltered() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", "Séries de animação", true);
+        final var documentarios = Category.newCategory("Documentários", "Documentários históricos", true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios)
+        ));
+        searchIndex.rebuild();
+
+        final var aQuery = new SearchQuery(0, 10, "ANIMACAO seri", "name", "asc");
+        final var actualResult = categoryGateway.findAll(aQuery);
+
+        assertEquals(1, actualResult.total());
+        assertEquals(1, actualResult.items().size());
+        assertEquals(series.getId(), actualResult.items().get(0).getId());
+    }
+
+    @Test
+    public void givenCategoriesWrittenThroughGateway_whenCallsFindAllWithTerms_shouldReflectCreateUpdateAndDelete() {
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Series", null, true));
+
+        categoryGateway.update(series.update("Documentarios", null, true));
+        categoryGateway.deleteById(filmes.getId());
+
+        assertEquals(0, categoryGateway.findAll(new SearchQuery(0, 10, "fil", "name", "asc")).total());
+        assertEquals(0, categoryGateway.findAll(new SearchQuery(0, 10, "series", "name", "asc")).total());
+
+        final var actualResult = categoryGateway.findAll(new SearchQuery(0, 10, "doc", "name", "asc"));
+
+        assertEquals(1, actualResult.total());
+        assertEquals(series.getId(), actualResult.items().get(0).getId());
+    }
+
+    @Test
+    public void givenWritesInATransaction_whenItRollsBack_shouldKeepThemOutOfTheIndex() {
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            categoryGateway.create(Category.newCategory("Documentarios", null, true));
+            categoryGateway.update(filmes.update("Series", null, true));
+            categoryGateway.deleteById(filmes.getId());
+            status.setRollbackOnly();
+        });
+
+        assertEquals(Set.of(), searchIndex.search("doc"));
+        assertEquals(Set.of(), searchIndex.search("series"));
+        assertEquals(Set.of(filmes.getId().getValue()), searchIndex.search("fil"));
+    }
+
+    @Test
+    public void givenTermsWithNoMatch_whenCallsFindAll_shouldReturnEmptyPage() {
+        categoryGateway.create(Category.newCategory("Filmes", null, true));
+
+        final var actualResult = categoryGateway.findAll(new SearchQuery(0, 10, "xyz", "name", "asc"));
+
+        assertEquals(0, actualResult.total());
+        assertEquals(0, actualResult.items().size());
+    }
+
+    @Test
+    public void givenMoreMatchesThanAPage_whenPagingByOffsetAndCursor_shouldFollowTheSortAndCountEveryMatch() {
+        final var e = categoryGateway.create(Category.newCategory("Filmes E", null, true));
+        final var a = categoryGateway.create(Category.newCategory("filmes a", null, true));
+        final var c = categoryGateway.create(Category.newCategory("Filmes C", null, true));
+        final var b = categoryGateway.create(Category.newCategory("Filmes b", null, true));
+        final var d = categoryGateway.create(Category.newCategory("Filmes D", null, true));
+        categoryGateway.create(Category.newCategory("Séries", null, true));
+
+        final var firstPage = categoryGateway.findAll(new SearchQuery(0, 2, "film", "name", "asc"));
+        assertEquals(5, firstPage.total());
+        assertEquals(List.of(a.getId(), b.getId()), firstPage.items().stream().map(Category::getId).toList());
+        assertTrue(firstPage.hasMore());
+
+        final var secondPage = categoryGateway.findAll(new SearchQuery(0, 2, "film", "name", "asc", firstPage.nextCursor()));
+        assertEquals(5, secondPage.total());
+        assertEquals(List.of(c.getId(), d.getId()), secondPage.items().stream().map(Category::getId).toList());
+
+        final var lastPage = categoryGateway.findAll(new SearchQuery(0, 2, "film", "name", "asc", secondPage.nextCursor()));
+        assertEquals(List.of(e.getId()), lastPage.items().stream().map(Category::getId).toList());
+        assertFalse(lastPage.hasMore());
+
+        final var byOffset = categoryGateway.findAll(new SearchQuery(1, 2, "film", "name", "desc"));
+        assertEquals(List.of(c.getId(), b.getId()), byOffset.items().stream().map(Category::getId).toList());
+    }
+
+    @Test
+    public void givenABulkDeactivation_whenSortingMatchesByDeletedAt_shouldSeeTheNewKeys() {
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var curtas = categoryGateway.create(Category.newCategory("Filmes curtos", null, true));
+
+        categoryGateway.updateStatus(List.of(curtas.getId()), false, InstantUtils.now());
+
+        final var actualResult = categoryGateway.findAll(new SearchQuery(0, 2, "film", "deletedAt", "desc"));
+        assertEquals(List.of(curtas.getId(), filmes.getId()), actualResult.items().stream().map(Category::getId).toList());
+    }
+}
@@ -0,0 +1,88 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MySQLGatewayTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class CategoryMySQLGatewayStatementsTest {
+
+    @Autowired
+    private CategoryMySQLGateway categoryGateway;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        this.statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    public void givenANewCategory_whenCallsCreate_shouldIssueOnlyTheInserts() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+
+        statistics.clear();
+        categoryGateway.create(aCategory);
+        entityManager.flush();
+
+        // category insert and the CategoryCreated outbox insert
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(2, statistics.getEntityInsertCount());
+    }
+
+    @Test
+    public void givenAPersistedCategory_whenCallsUpdate_shouldIssueTheLoadAndTheUpdate() {
+        final var aCategory = Category.newCategory("Film", null, true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+        entityManager.clear();
+
+        statistics.clear();
+        categoryGateway.update(aCategory.clone().update("Filmes", "A categoria mais assistida", true));
+        entityManager.flush();
+
+        // category select, category update and the CategoryUpdated outbox insert
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityUpdateCount());
+    }
+
+    @Test
+    public void givenTheSameListVariant_whenCallsFindAllSummariesWithOtherValues_shouldReuseTheCompiledQuery() {
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Séries", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Documentários", null, true))
+        ));
+
+        final var firstPage = categoryGateway.findAllSummaries(new SearchQuery(0, 1, "", "name", "asc", null, TotalMode.NONE));
+        final var secondPage = categoryGateway.findAllSummaries(new SearchQuery(0, 1, "", "name", "asc", firstPage.nextCursor(), TotalMode.NONE));
+
+        statistics.clear();
+        final var thirdPage = categoryGateway.findAllSummaries(new SearchQuery(0, 1, "", "name", "asc", secondPage.nextCursor(), TotalMode.NONE));
+
+        assertEquals("Séries", thirdPage.items().get(0).name());
+        assertTrue(statistics.getQueryPlanCacheHitCount() > 0);
+        assertEquals(0, statistics.getQueryPlanCacheMissCount());
+    }
+}
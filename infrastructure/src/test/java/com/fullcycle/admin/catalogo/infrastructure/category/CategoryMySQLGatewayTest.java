@@ -3,14 +3,30 @@ package com.fullcycle.admin.catalogo.infrastructure.category;
 import com.fullcycle.admin.catalogo.MySQLGatewayTest;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySummary;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.exceptions.VersionConflictException;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -23,6 +39,15 @@ public class CategoryMySQLGatewayTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     public void givenAValidCategory_whenCallsCreate_shouldReturnANewCategory() {
         final var expectedName = "Filmes";
@@ -105,6 +130,35 @@ public class CategoryMySQLGatewayTest {
         assertEquals(actualEntity.getDeletedAt(), actualCategory.getDeletedAt());
     }
 
+    @Test
+    public void givenAPrePersistedCategory_whenCallsUpdate_shouldIncrementItsVersion() {
+        final var aCategory = categoryGateway.create(Category.newCategory("Film", null, true));
+
+        final var firstUpdate = categoryGateway.update(aCategory.clone().update("Filmes", null, true));
+        final var secondUpdate = categoryGateway.update(firstUpdate.clone().update("Filmes", "Desc", true));
+
+        assertEquals(aCategory.getVersion() + 1, firstUpdate.getVersion());
+        assertEquals(aCategory.getVersion() + 2, secondUpdate.getVersion());
+        assertEquals(secondUpdate.getVersion(), categoryRepository.findById(aCategory.getId().getValue()).get().getVersion());
+    }
+
+    @Test
+    public void givenAStaleCategory_whenCallsUpdate_shouldThrowVersionConflictAndKeepTheNewerWrite() {
+        final var aCategory = categoryGateway.create(Category.newCategory("Film", null, true));
+        final var expectedErrorMessage = "Category with ID %s was modified by another request".formatted(aCategory.getId().getValue());
+
+        categoryGateway.update(aCategory.clone().update("Filmes", null, true));
+
+        final var actualException = Assertions.assertThrows(
+                VersionConflictException.class,
+                () -> categoryGateway.update(aCategory.clone().update("Series", null, true))
+        );
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        assertEquals("Filmes", jdbcTemplate.queryForObject(
+                "SELECT name FROM category WHERE version = ?", String.class, aCategory.getVersion() + 1));
+    }
+
     @Test
     public void givenAPrePersistedCategoryAndValidCategoryId_whenTryToDeleteIt_shouldDeleteCategory() {
         final var aCategory = Category.newCategory("Filmes", null, true);
@@ -199,6 +253,31 @@ public class CategoryMySQLGatewayTest {
         assertEquals(documentaries.getId(), actualResult.items().get(0).getId());
     }
 
+    @Test
+    public void givenPrePersistedCategories_whenCallsForEachSummary_shouldVisitEveryCategoryInIdOrder() {
+        final var movies = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var tvShow = Category.newCategory("Séries", null, false);
+        final var documentaries = Category.newCategory("Documentários", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(documentaries),
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(tvShow)
+        ));
+
+        final var actualSummaries = new ArrayList<CategorySummary>();
+        categoryGateway.forEachSummary(actualSummaries::add);
+
+        assertEquals(
+                List.of(movies.getId(), tvShow.getId(), documentaries.getId()),
+                actualSummaries.stream().map(CategorySummary::id).toList()
+        );
+        assertEquals(movies.getName(), actualSummaries.get(0).name());
+        assertEquals(movies.getDescription(), actualSummaries.get(0).description());
+        Assertions.assertFalse(actualSummaries.get(1).isActive());
+        Assertions.assertNotNull(actualSummaries.get(1).deletedAt());
+    }
+
     @Test
     public void givenEmptyCategoriesTable_whenCallsFindAll_shouldEmptyPage() {
         final var expectedPage = 0;
@@ -326,4 +405,350 @@ public class CategoryMySQLGatewayTest {
         assertEquals(expectedPerPage, actualResult.items().size());
         assertEquals(movies.getId(), actualResult.items().get(0).getId());
     }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsFindAllFollowingCursor_shouldSeekNextPages() {
+        final var expectedPerPage = 1;
+        final var expectedTotal = 3;
+
+        final var movies = Category.newCategory("Filmes", null, true);
+        final var tvShow = Category.newCategory("Séries", null, true);
+        final var documentaries = Category.newCategory("Documentários", null, true);
+
+        assertEquals(0, categoryRepository.count());
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(tvShow),
+                CategoryJpaEntity.from(documentaries)
+        ));
+
+        assertEquals(3, categoryRepository.count());
+
+        var actualResult = categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "asc"));
+
+        assertEquals(expectedTotal, actualResult.total());
+        assertEquals(documentaries.getId(), actualResult.items().get(0).getId());
+        Assertions.assertNotNull(actualResult.nextCursor());
+
+        actualResult = categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "asc", actualResult.nextCursor()));
+
+        assertEquals(expectedPerPage, actualResult.perPage());
+        assertEquals(expectedTotal, actualResult.total());
+        assertEquals(expectedPerPage, actualResult.items().size());
+        assertEquals(movies.getId(), actualResult.items().get(0).getId());
+        Assertions.assertNotNull(actualResult.nextCursor());
+
+        actualResult = categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "asc", actualResult.nextCursor()));
+
+        assertEquals(expectedPerPage, actualResult.items().size());
+        assertEquals(tvShow.getId(), actualResult.items().get(0).getId());
+        Assertions.assertNull(actualResult.nextCursor());
+    }
+
+    @Test
+    public void givenCategoriesSharingNames_whenWalkingEveryPageOfATermSearch_shouldReturnEachMatchExactlyOnce() {
+        final var expectedIds = new ArrayList<CategoryID>();
+        final var entities = new ArrayList<CategoryJpaEntity>();
+        for (int i = 0; i < 7; i++) {
+            final var aCategory = Category.newCategory(i % 2 == 0 ? "Filmes" : "Curtas", "Filmes nº " + i, true);
+            expectedIds.add(aCategory.getId());
+            entities.add(CategoryJpaEntity.from(aCategory));
+        }
+        entities.add(CategoryJpaEntity.from(Category.newCategory("Séries", null, true)));
+        entities.add(CategoryJpaEntity.from(Category.newCategory("Documentários", null, true)));
+        categoryRepository.saveAllAndFlush(entities);
+
+        final var byCursor = new ArrayList<CategoryID>();
+        String cursor = null;
+        do {
+            final var actualResult = categoryGateway.findAll(new SearchQuery(0, 2, "filmes", "name", "asc", cursor));
+            actualResult.items().forEach(it -> byCursor.add(it.getId()));
+            cursor = actualResult.nextCursor();
+        } while (cursor != null);
+
+        final var byPage = new ArrayList<CategoryID>();
+        for (int page = 0; ; page++) {
+            final var actualResult = categoryGateway.findAll(new SearchQuery(page, 2, "filmes", "name", "desc"));
+            actualResult.items().forEach(it -> byPage.add(it.getId()));
+            if (!actualResult.hasMore()) {
+                break;
+            }
+        }
+
+        assertEquals(expectedIds.size(), byCursor.size());
+        assertEquals(Set.copyOf(expectedIds), Set.copyOf(byCursor));
+        assertEquals(expectedIds.size(), byPage.size());
+        assertEquals(Set.copyOf(expectedIds), Set.copyOf(byPage));
+    }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsFindAllSummaries_shouldProjectListColumnsWithoutManagingEntities() {
+        final var movies = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var tvShow = Category.newCategory("Séries", null, false);
+        final var documentaries = Category.newCategory("Documentários", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(tvShow),
+                CategoryJpaEntity.from(documentaries)
+        ));
+        entityManager.clear();
+
+        var actualResult = categoryGateway.findAllSummaries(new SearchQuery(0, 2, "", "name", "asc"));
+
+        assertEquals(3, actualResult.total());
+        assertEquals(List.of(
+                new CategorySummary(documentaries.getId(), "Documentários", null, true, documentaries.getCreatedAt(), null),
+                new CategorySummary(movies.getId(), "Filmes", "A categoria mais assistida", true, movies.getCreatedAt(), null)
+        ), actualResult.items());
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+
+        actualResult = categoryGateway.findAllSummaries(new SearchQuery(0, 2, "", "name", "asc", actualResult.nextCursor()));
+
+        assertEquals(List.of(
+                new CategorySummary(tvShow.getId(), "Séries", null, false, tvShow.getCreatedAt(), tvShow.getDeletedAt())
+        ), actualResult.items());
+        Assertions.assertNull(actualResult.nextCursor());
+    }
+
+    @Test
+    public void givenAnUnsupportedSort_whenCallsFindAllSummaries_shouldThrowDomainExceptionBeforeQuerying() {
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> categoryGateway.findAllSummaries(new SearchQuery(0, 1, "", "description", "asc"))
+        );
+
+        assertEquals("'sort' must be one of name, createdAt or deletedAt", actualException.getErrors().get(0).message());
+        Assertions.assertThrows(
+                DomainException.class,
+                () -> categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "sideways"))
+        );
+    }
+
+    @Test
+    public void givenPrePersistedCategoriesWithNullDeletedAt_whenCallsFindAllFollowingCursorDesc_shouldSeekNextPages() {
+        final var movies = Category.newCategory("Filmes", "A categoria mais assistida", false);
+        final var tvShow = Category.newCategory("Séries", null, true);
+        final var documentaries = Category.newCategory("Documentários", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(tvShow),
+                CategoryJpaEntity.from(documentaries)
+        ));
+
+        final var actualIds = new ArrayList<CategoryID>();
+        String cursor = null;
+        do {
+            final var actualResult =
+                    categoryGateway.findAll(new SearchQuery(0, 1, "", "deletedAt", "desc", cursor));
+            actualResult.items().forEach(it -> actualIds.add(it.getId()));
+            cursor = actualResult.nextCursor();
+        } while (cursor != null);
+
+        assertEquals(3, actualIds.size());
+        assertEquals(movies.getId(), actualIds.get(0));
+        Assertions.assertTrue(actualIds.containsAll(List.of(tvShow.getId(), documentaries.getId())));
+    }
+
+    @Test
+    public void givenACursorIssuedForAnotherSort_whenCallsFindAll_shouldThrowDomainException() {
+        final var movies = Category.newCategory("Filmes", null, true);
+        final var tvShow = Category.newCategory("Séries", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(tvShow)
+        ));
+
+        final var aCursor = categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "asc")).nextCursor();
+
+        Assertions.assertThrows(
+                DomainException.class,
+                () -> categoryGateway.findAll(new SearchQuery(0, 1, "", "createdAt", "asc", aCursor))
+        );
+        Assertions.assertThrows(
+                DomainException.class,
+                () -> categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "asc", "not-a-cursor"))
+        );
+    }
+
+    @Test
+    public void givenPrePersistedCategoriesAndNoneTotalMode_whenCallsFindAll_shouldSkipCountAndReturnHasMore() {
+        final var movies = Category.newCategory("Filmes", null, true);
+        final var tvShow = Category.newCategory("Séries", null, true);
+        final var documentaries = Category.newCategory("Documentários", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(tvShow),
+                CategoryJpaEntity.from(documentaries)
+        ));
+
+        var actualResult = categoryGateway.findAll(new SearchQuery(0, 2, "", "name", "asc", null, TotalMode.NONE));
+
+        assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+        Assertions.assertTrue(actualResult.hasMore());
+        assertEquals(2, actualResult.items().size());
+
+        actualResult = categoryGateway.findAll(new SearchQuery(1, 2, "", "name", "asc", null, TotalMode.NONE));
+
+        assertEquals(3, actualResult.total());
+        Assertions.assertFalse(actualResult.hasMore());
+        assertEquals(1, actualResult.items().size());
+        assertEquals(tvShow.getId(), actualResult.items().get(0).getId());
+    }
+
+    @Test
+    public void givenPrePersistedCategoriesAndEstimatedTotalMode_whenCallsFindAll_shouldReturnAtLeastSeenRows() {
+        final var movies = Category.newCategory("Filmes", null, true);
+        final var tvShow = Category.newCategory("Séries", null, true);
+        final var documentaries = Category.newCategory("Documentários", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(tvShow),
+                CategoryJpaEntity.from(documentaries)
+        ));
+
+        final var actualResult =
+                categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "asc", null, TotalMode.ESTIMATED));
+
+        Assertions.assertTrue(actualResult.total() >= 2);
+        Assertions.assertTrue(actualResult.hasMore());
+        assertEquals(documentaries.getId(), actualResult.items().get(0).getId());
+    }
+
+    @Test
+    public void givenSomeMissingIds_whenCallsExistsByIds_shouldReturnOnlyPersistedIdsInInputOrder() {
+        final var movies = Category.newCategory("Filmes", null, true);
+        final var tvShow = Category.newCategory("Séries", null, true);
+        final var missingId = CategoryID.from("123");
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(tvShow)
+        ));
+
+        final var actualResult = categoryGateway.existsByIds(List.of(tvShow.getId(), missingId, movies.getId()));
+
+        assertEquals(List.of(tvShow.getId(), movies.getId()), actualResult);
+        assertEquals(List.of(), categoryGateway.existsByIds(List.of()));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void givenMoreIdsThanAChunk_whenCallsExistsByIds_shouldQueryChunksAndReturnAllPersistedIds() {
+        final var persisted = new ArrayList<CategoryID>();
+        final var entities = new ArrayList<CategoryJpaEntity>();
+        final var ids = new ArrayList<CategoryID>();
+        for (int i = 0; i < 2500; i++) {
+            if (i % 2 == 0) {
+                final var aCategory = Category.newCategory("Categoria " + i, null, true);
+                persisted.add(aCategory.getId());
+                ids.add(aCategory.getId());
+                entities.add(CategoryJpaEntity.from(aCategory));
+            } else {
+                ids.add(CategoryID.unique());
+            }
+        }
+        categoryRepository.saveAll(entities);
+
+        try {
+            assertEquals(persisted, categoryGateway.existsByIds(ids));
+        } finally {
+            categoryRepository.deleteAllInBatch();
+        }
+    }
+
+    @Test
+    public void givenAValidCategory_whenCallsCreate_shouldStoreIdAsSixteenBytesAndKeepItsStringForm() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+
+        categoryGateway.create(aCategory);
+        categoryRepository.flush();
+
+        final var storedId = jdbcTemplate.queryForObject("SELECT id FROM category", byte[].class);
+
+        assertEquals(16, storedId.length);
+        assertEquals(aCategory.getId(), categoryGateway.findById(aCategory.getId()).get().getId());
+        Assertions.assertTrue(categoryGateway.findById(CategoryID.from("123")).isEmpty());
+    }
+
+    @Test
+    public void givenMoreCategoriesThanAnInsertBatch_whenCallsCreateAll_shouldPersistAll() {
+        final var categories = new ArrayList<Category>();
+        for (int i = 0; i < 120; i++) {
+            categories.add(Category.newCategory("Categoria " + i, null, true));
+        }
+
+        assertEquals(0, categoryRepository.count());
+
+        final var actualResult = categoryGateway.createAll(categories);
+
+        assertEquals(categories, actualResult);
+        assertEquals(120, categoryRepository.count());
+        assertEquals("Categoria 42", categoryRepository.findById(categories.get(42).getId().getValue()).get().getName());
+    }
+
+    @Test
+    public void givenActiveAndInactiveCategories_whenCallsUpdateStatus_shouldApplyActivateAndDeactivateRules() {
+        final var movies = Category.newCategory("Filmes", null, true);
+        final var tvShows = Category.newCategory("Séries", null, false);
+        final var missingId = CategoryID.from("123");
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(tvShows)
+        ));
+
+        final var expectedUpdatedAt = InstantUtils.now();
+
+        final var actualDeactivated = categoryGateway.updateStatus(
+                List.of(movies.getId(), tvShows.getId(), missingId), false, expectedUpdatedAt);
+
+        assertEquals(List.of(movies.getId(), tvShows.getId()), actualDeactivated);
+
+        final var actualMovies = categoryRepository.findById(movies.getId().getValue()).get();
+        final var actualTvShows = categoryRepository.findById(tvShows.getId().getValue()).get();
+        Assertions.assertFalse(actualMovies.isActive());
+        assertEquals(expectedUpdatedAt, actualMovies.getDeletedAt());
+        assertEquals(expectedUpdatedAt, actualMovies.getUpdatedAt());
+        assertEquals(tvShows.getDeletedAt(), actualTvShows.getDeletedAt());
+        assertEquals(expectedUpdatedAt, actualTvShows.getUpdatedAt());
+
+        categoryGateway.updateStatus(List.of(tvShows.getId()), true, expectedUpdatedAt);
+
+        final var actualActivated = categoryRepository.findById(tvShows.getId().getValue()).get();
+        Assertions.assertTrue(actualActivated.isActive());
+        Assertions.assertNull(actualActivated.getDeletedAt());
+        assertEquals(tvShows.getVersion() + 2, actualActivated.getVersion());
+        assertEquals(movies.getVersion() + 1, actualMovies.getVersion());
+    }
+
+    @Test
+    public void givenCategoriesLinkedToAGenre_whenCallsDeleteAllById_shouldDeleteThemAndTheirGenreLinks() {
+        final var movies = Category.newCategory("Filmes", null, true);
+        final var tvShows = Category.newCategory("Séries", null, true);
+        final var documentaries = Category.newCategory("Documentários", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(tvShows),
+                CategoryJpaEntity.from(documentaries)
+        ));
+
+        final var aGenre = Genre.newGenre("Ação", true);
+        aGenre.addCategories(List.of(movies.getId(), documentaries.getId()));
+        genreRepository.saveAndFlush(GenreJpaEntity.from(aGenre));
+
+        categoryGateway.deleteAllById(List.of(movies.getId(), tvShows.getId(), CategoryID.from("123")));
+
+        assertEquals(1, categoryRepository.count());
+        Assertions.assertTrue(categoryRepository.existsById(documentaries.getId().getValue()));
+
+        final var actualGenre = genreRepository.findById(aGenre.getId().getValue()).get().toAggregate();
+        assertEquals(List.of(documentaries.getId()), actualGenre.getCategories());
+    }
 }
@@ -0,0 +1,122 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.importer;
+
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CategoryImportFormatTest {
+
+    @Test
+    public void givenNdjsonLines_whenReadingRows_shouldReturnOneCommandPerLine() {
+        final var body = """
+                {"name":"Filmes","description":"A categoria mais assistida","is_active":true}
+
+                {"name":"Séries","is_active":false}
+                {"name":"Documentários"}
+                """;
+
+        final var actualRows = read(CategoryImportFormat.NDJSON, body);
+
+        assertEquals(List.of(
+                CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true),
+                CreateCategoryCommand.with("Séries", null, false),
+                CreateCategoryCommand.with("Documentários", null, true)
+        ), actualRows);
+    }
+
+    @Test
+    public void givenAJsonArray_whenReadingNdjsonRows_shouldReadItsElements() {
+        final var actualRows = read(CategoryImportFormat.NDJSON, "[{\"name\":\"Filmes\"},{\"name\":\"Séries\"}]");
+
+        assertEquals(2, actualRows.size());
+        assertEquals("Séries", actualRows.get(1).name());
+    }
+
+    @Test
+    public void givenAMalformedNdjsonLine_whenReadingRows_shouldThrowWithItsLine() {
+        final var rows = CategoryImportFormat.NDJSON.rows(stream("{\"name\":\"Filmes\"}\n{\"name\":\n"));
+
+        assertEquals("Filmes", rows.next().name());
+        final var actualException = Assertions.assertThrows(DomainException.class, rows::next);
+        assertEquals("Malformed JSON at line 3", actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenCsvWithQuotesAndLineBreaks_whenReadingRows_shouldFollowRfc4180() {
+        final var body = "\uFEFFis_active,Name,description\r\n"
+                + "true,Filmes,\"A categoria, mais \"\"assistida\"\"\"\r\n"
+                + "FALSE,\"Séries\",\"Duas\nlinhas\"\r\n"
+                + "\r\n"
+                + ",Documentários,\n"
+                + "true,Animações";
+
+        final var actualRows = read(CategoryImportFormat.CSV, body);
+
+        assertEquals(List.of(
+                CreateCategoryCommand.with("Filmes", "A categoria, mais \"assistida\"", true),
+                CreateCategoryCommand.with("Séries", "Duas\nlinhas", false),
+                CreateCategoryCommand.with("Documentários", null, true),
+                CreateCategoryCommand.with("Animações", null, true)
+        ), actualRows);
+    }
+
+    @Test
+    public void givenCsvWithoutANameColumn_whenReadingRows_shouldThrowDomainException() {
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> CategoryImportFormat.CSV.rows(stream("title,description\nFilmes,\n"))
+        );
+
+        assertEquals("CSV header must have a 'name' column", actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenAnInvalidCsvFlag_whenReadingRows_shouldThrowWithItsLine() {
+        final var rows = CategoryImportFormat.CSV.rows(stream("name,is_active\nFilmes,true\nSéries,yes\n"));
+
+        assertEquals("Filmes", rows.next().name());
+        final var actualException = Assertions.assertThrows(DomainException.class, rows::next);
+        assertEquals("Malformed CSV at line 3: 'is_active' must be true or false", actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenAnUnterminatedCsvQuote_whenReadingRows_shouldThrowDomainException() {
+        final var rows = CategoryImportFormat.CSV.rows(stream("name\n\"Filmes\n"));
+
+        final var actualException = Assertions.assertThrows(DomainException.class, rows::hasNext);
+        assertEquals("Malformed CSV at line 3: unterminated quoted field", actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenContentTypesAndFileNames_whenResolvingTheFormat_shouldMatchTheSupportedOnes() {
+        assertEquals(CategoryImportFormat.NDJSON, CategoryImportFormat.fromContentType("application/x-ndjson"));
+        assertEquals(CategoryImportFormat.CSV, CategoryImportFormat.fromContentType("text/csv; charset=UTF-8"));
+        assertEquals(CategoryImportFormat.NDJSON, CategoryImportFormat.fromFileName("categories.JSONL"));
+        assertEquals(CategoryImportFormat.CSV, CategoryImportFormat.fromFileName("/tmp/categories.csv"));
+
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> CategoryImportFormat.fromContentType("application/xml")
+        );
+        assertEquals("'Content-Type' must be one of application/x-ndjson or text/csv", actualException.getErrors().get(0).message());
+        Assertions.assertThrows(DomainException.class, () -> CategoryImportFormat.fromFileName("categories.xlsx"));
+    }
+
+    private static List<CreateCategoryCommand> read(final CategoryImportFormat aFormat, final String body) {
+        final var rows = new ArrayList<CreateCategoryCommand>();
+        aFormat.rows(stream(body)).forEachRemaining(rows::add);
+        return rows;
+    }
+
+    private static ByteArrayInputStream stream(final String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,80 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.infrastructure.cache.BoundedCache;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.Set;
+
+@MySQLGatewayTest
+@TestPropertySource(properties = "cache.enabled=true")
+public class CachedGenreGatewayTest {
+
+    @Autowired
+    private GenreGateway genreGateway;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private BoundedCache<GenreID, Genre> genreCache;
+
+    @BeforeEach
+    void setUp() {
+        genreCache.invalidateAll();
+    }
+
+    @Test
+    public void givenACachedGenre_whenCallsFindById_shouldNotReadTheDatabaseAgain() {
+        final var aGenre = genreGateway.create(Genre.newGenre("Ação", true));
+        final var before = genreCache.stats();
+        genreGateway.findById(aGenre.getId());
+
+        genreRepository.deleteAllInBatch();
+        entityManager.clear();
+
+        Assertions.assertEquals("Ação", genreGateway.findById(aGenre.getId()).get().getName());
+        Assertions.assertEquals(before.hits() + 1, genreCache.stats().hits());
+    }
+
+    @Test
+    public void givenACachedGenre_whenChangingItsCategoriesAndCallsUpdate_shouldServeOnlyTheSavedLinks() {
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+        final var aGenre = genreGateway.create(Genre.newGenre("Ação", true).addCategory(filmes.getId()));
+        entityManager.flush();
+        entityManager.clear();
+
+        final var cached = genreGateway.findById(aGenre.getId()).get();
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> cached.removeCategory(filmes.getId()));
+        final var aChange = Genre.with(genreGateway.findById(aGenre.getId()).get()).addCategory(series.getId());
+        Assertions.assertEquals(List.of(filmes.getId()), genreGateway.findById(aGenre.getId()).get().getCategories());
+
+        genreGateway.update(aChange);
+        entityManager.flush();
+        entityManager.clear();
+
+        Assertions.assertEquals(
+                Set.of(filmes.getId(), series.getId()),
+                Set.copyOf(genreGateway.findById(aGenre.getId()).get().getCategories())
+        );
+    }
+}
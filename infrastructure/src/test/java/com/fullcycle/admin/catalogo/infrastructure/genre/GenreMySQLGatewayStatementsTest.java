@@ -0,0 +1,114 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@MySQLGatewayTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class GenreMySQLGatewayStatementsTest {
+
+    private static final int GENRES = 30;
+
+    @Autowired
+    private GenreMySQLGateway genreGateway;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        this.statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        final var categories = List.of(
+                Category.newCategory("Filmes", null, true),
+                Category.newCategory("Séries", null, true),
+                Category.newCategory("Documentários", null, true)
+        );
+        categoryRepository.saveAllAndFlush(categories.stream().map(CategoryJpaEntity::from).toList());
+
+        final var genres = new ArrayList<GenreJpaEntity>();
+        for (int i = 0; i < GENRES; i++) {
+            final var aGenre = Genre.newGenre("Gênero %02d".formatted(i), true)
+                    .addCategories(categories.stream().map(Category::getId).toList());
+            genres.add(GenreJpaEntity.from(aGenre));
+        }
+        genreRepository.saveAllAndFlush(genres);
+        entityManager.clear();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, GENRES})
+    public void givenAnyPageSize_whenCallsFindAll_shouldIssueOneQueryForGenresAndOneForTheirCategories(final int perPage) {
+        statistics.clear();
+        final var actualResult = genreGateway.findAll(new SearchQuery(0, perPage, "", "name", "asc", null, TotalMode.NONE));
+
+        assertEquals(perPage, actualResult.items().size());
+        actualResult.items().forEach(aGenre -> assertEquals(3, aGenre.getCategories().size()));
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    public void givenAPersistedGenre_whenCallsFindById_shouldLoadItAndItsCategoriesInOneQuery() {
+        final var anId = genreRepository.findAll().get(0).toAggregate().getId();
+        entityManager.clear();
+
+        statistics.clear();
+        final var actualGenre = genreGateway.findById(anId).get();
+
+        assertEquals(3, actualGenre.getCategories().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void givenASmallCategoryEdit_whenCallsUpdate_shouldIssueOneStatementPerKindOfChange() {
+        final var newCategories = List.of(
+                Category.newCategory("Animes", null, true),
+                Category.newCategory("Novelas", null, true)
+        );
+        categoryRepository.saveAllAndFlush(newCategories.stream().map(CategoryJpaEntity::from).toList());
+
+        final var aGenre = genreGateway.findById(genreRepository.findAll().get(0).toAggregate().getId()).get();
+        entityManager.clear();
+
+        statistics.clear();
+        final var actualGenre = genreGateway.update(Genre.with(aGenre)
+                .removeCategory(aGenre.getCategories().get(0))
+                .addCategories(newCategories.stream().map(Category::getId).toList()));
+
+        assertEquals(4, actualGenre.getCategories().size());
+        // genre select, links delete, batched links insert, genre update and batched outbox insert
+        assertEquals(5, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+    }
+}
@@ -0,0 +1,230 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.VersionConflictException;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@MySQLGatewayTest
+public class GenreMySQLGatewayTest {
+
+    @Autowired
+    private GenreMySQLGateway genreGateway;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    public void givenAValidGenreWithCategories_whenCallsCreate_shouldPersistItAndItsCategories() {
+        final var movies = category("Filmes");
+        final var tvShows = category("Séries");
+        final var aGenre = Genre.newGenre("Ação", true).addCategories(List.of(movies, tvShows));
+
+        final var actualGenre = genreGateway.create(aGenre);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(aGenre.getId(), actualGenre.getId());
+        assertEquals(1, genreRepository.count());
+
+        final var persistedGenre = genreGateway.findById(aGenre.getId()).get();
+        assertEquals("Ação", persistedGenre.getName());
+        Assertions.assertTrue(persistedGenre.isActive());
+        assertEquals(new HashSet<>(List.of(movies, tvShows)), new HashSet<>(persistedGenre.getCategories()));
+        assertEquals(aGenre.getCreatedAt(), persistedGenre.getCreatedAt());
+    }
+
+    @Test
+    public void givenAnUnknownId_whenCallsFindById_shouldReturnEmpty() {
+        Assertions.assertTrue(genreGateway.findById(GenreID.from("123")).isEmpty());
+    }
+
+    @Test
+    public void givenAPersistedGenre_whenCallsUpdate_shouldReplaceItsCategoriesAndIncrementItsVersion() {
+        final var movies = category("Filmes");
+        final var tvShows = category("Séries");
+        final var aGenre = genreGateway.create(Genre.newGenre("Ação", true).addCategories(List.of(movies)));
+        entityManager.flush();
+        entityManager.clear();
+
+        final var actualGenre = genreGateway.update(
+                Genre.with(aGenre).update("Aventura", false, List.of(tvShows)));
+        entityManager.clear();
+
+        final var persistedGenre = genreGateway.findById(aGenre.getId()).get();
+        assertEquals("Aventura", persistedGenre.getName());
+        Assertions.assertFalse(persistedGenre.isActive());
+        Assertions.assertNotNull(persistedGenre.getDeletedAt());
+        assertEquals(List.of(tvShows), persistedGenre.getCategories());
+        assertEquals(aGenre.getVersion() + 1, actualGenre.getVersion());
+        assertEquals(actualGenre.getVersion(), persistedGenre.getVersion());
+    }
+
+    @Test
+    public void givenAStaleGenre_whenCallsUpdate_shouldThrowVersionConflict() {
+        final var aGenre = genreGateway.create(Genre.newGenre("Ação", true));
+        entityManager.flush();
+
+        genreGateway.update(Genre.with(aGenre).update("Aventura", true, List.of()));
+
+        Assertions.assertThrows(
+                VersionConflictException.class,
+                () -> genreGateway.update(Genre.with(aGenre).update("Drama", true, List.of()))
+        );
+    }
+
+    @Test
+    public void givenAGenreWithCategoryChanges_whenCallsUpdate_shouldWriteOnlyTheDeltaAndKeepTheOtherLinks() {
+        final var movies = category("Filmes");
+        final var tvShows = category("Séries");
+        final var documentaries = category("Documentários");
+        final var aGenre = genreGateway.create(Genre.newGenre("Ação", true).addCategories(List.of(movies, tvShows)));
+        entityManager.flush();
+        entityManager.clear();
+
+        final var actualGenre = genreGateway.update(Genre.with(aGenre)
+                .removeCategory(tvShows)
+                .addCategory(documentaries));
+        entityManager.clear();
+
+        assertEquals(List.of(movies, documentaries), actualGenre.getCategories());
+        assertEquals(
+                new HashSet<>(List.of(movies, documentaries)),
+                new HashSet<>(genreGateway.findById(aGenre.getId()).get().getCategories())
+        );
+        assertEquals(2L, entityManager.createQuery("select count(gc) from GenreCategoryJpaEntity gc").getSingleResult());
+    }
+
+    @Test
+    public void givenAPersistedGenreWithCategories_whenCallsDeleteById_shouldDeleteItAndItsLinks() {
+        final var movies = category("Filmes");
+        final var aGenre = genreGateway.create(Genre.newGenre("Ação", true).addCategories(List.of(movies)));
+        entityManager.flush();
+
+        genreGateway.deleteById(aGenre.getId());
+        genreGateway.deleteById(GenreID.from("123"));
+
+        assertEquals(0, genreRepository.count());
+        assertEquals(0L, entityManager.createQuery("select count(gc) from GenreCategoryJpaEntity gc").getSingleResult());
+        assertEquals(1, categoryRepository.count());
+    }
+
+    @Test
+    public void givenPrePersistedGenres_whenCallsFindAll_shouldReturnThePageWithItsCategories() {
+        final var movies = category("Filmes");
+        final var tvShows = category("Séries");
+        final var action = genreGateway.create(Genre.newGenre("Ação", true).addCategories(List.of(movies, tvShows)));
+        final var drama = genreGateway.create(Genre.newGenre("Drama", true).addCategories(List.of(tvShows)));
+        final var comedy = genreGateway.create(Genre.newGenre("Comédia", true));
+        entityManager.flush();
+        entityManager.clear();
+
+        var actualResult = genreGateway.findAll(new SearchQuery(0, 2, "", "name", "asc"));
+
+        assertEquals(3, actualResult.total());
+        assertEquals(List.of(action.getId(), comedy.getId()), actualResult.items().stream().map(Genre::getId).toList());
+        assertEquals(new HashSet<>(List.of(movies, tvShows)), new HashSet<>(actualResult.items().get(0).getCategories()));
+        assertEquals(List.of(), actualResult.items().get(1).getCategories());
+
+        actualResult = genreGateway.findAll(new SearchQuery(0, 2, "", "name", "asc", actualResult.nextCursor()));
+
+        assertEquals(List.of(drama.getId()), actualResult.items().stream().map(Genre::getId).toList());
+        assertEquals(List.of(tvShows), actualResult.items().get(0).getCategories());
+        Assertions.assertNull(actualResult.nextCursor());
+    }
+
+    @Test
+    public void givenPrePersistedGenres_whenCallsForEach_shouldVisitEveryGenreOnceWithAllItsCategories() {
+        final var movies = category("Filmes");
+        final var tvShows = category("Séries");
+        final var action = genreGateway.create(Genre.newGenre("Ação", true).addCategories(List.of(movies, tvShows)));
+        final var comedy = genreGateway.create(Genre.newGenre("Comédia", true));
+        final var drama = genreGateway.create(Genre.newGenre("Drama", false).addCategories(List.of(tvShows)));
+        entityManager.flush();
+        entityManager.clear();
+
+        final var actualGenres = new ArrayList<Genre>();
+        genreGateway.forEach(actualGenres::add);
+
+        assertEquals(List.of(action.getId(), comedy.getId(), drama.getId()), actualGenres.stream().map(Genre::getId).toList());
+        assertEquals(new HashSet<>(List.of(movies, tvShows)), new HashSet<>(actualGenres.get(0).getCategories()));
+        assertEquals(List.of(), actualGenres.get(1).getCategories());
+        assertEquals(List.of(tvShows), actualGenres.get(2).getCategories());
+        Assertions.assertFalse(actualGenres.get(2).isActive());
+        assertEquals(action.getVersion(), actualGenres.get(0).getVersion());
+    }
+
+    @Test
+    public void givenGenresLinkedToACategory_whenCallsFindAllByCategory_shouldSeekThemPageByPageInIdOrder() {
+        final var movies = category("Filmes");
+        final var tvShows = category("Séries");
+        final var action = genreGateway.create(Genre.newGenre("Ação", true).addCategories(List.of(movies, tvShows)));
+        genreGateway.create(Genre.newGenre("Comédia", true).addCategories(List.of(movies)));
+        final var drama = genreGateway.create(Genre.newGenre("Drama", true).addCategories(List.of(tvShows)));
+        final var horror = genreGateway.create(Genre.newGenre("Terror", false).addCategories(List.of(tvShows)));
+        entityManager.flush();
+        entityManager.clear();
+
+        var actualResult = genreGateway.findAllByCategory(tvShows, new SearchQuery(0, 2, "", "id", "asc"));
+
+        assertEquals(3, actualResult.total());
+        assertEquals(List.of(action.getId(), drama.getId()), actualResult.items().stream().map(Genre::getId).toList());
+        assertEquals(new HashSet<>(List.of(movies, tvShows)), new HashSet<>(actualResult.items().get(0).getCategories()));
+        Assertions.assertTrue(actualResult.hasMore());
+
+        actualResult = genreGateway.findAllByCategory(
+                tvShows,
+                new SearchQuery(0, 2, "", "id", "asc", actualResult.nextCursor(), TotalMode.NONE)
+        );
+
+        assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+        assertEquals(List.of(horror.getId()), actualResult.items().stream().map(Genre::getId).toList());
+        Assertions.assertFalse(actualResult.items().get(0).isActive());
+        Assertions.assertNull(actualResult.nextCursor());
+        Assertions.assertFalse(actualResult.hasMore());
+
+        assertEquals(0, genreGateway.findAllByCategory(category("Animes"), new SearchQuery(0, 2, "", "id", "asc")).total());
+    }
+
+    @Test
+    public void givenPrePersistedGenres_whenCallsFindAllWithTerms_shouldReturnFiltered() {
+        genreGateway.create(Genre.newGenre("Ação", true));
+        final var drama = genreGateway.create(Genre.newGenre("Drama", true));
+        entityManager.flush();
+
+        final var actualResult = genreGateway.findAll(new SearchQuery(0, 10, "dra", "name", "asc"));
+
+        assertEquals(1, actualResult.total());
+        assertEquals(drama.getId(), actualResult.items().get(0).getId());
+    }
+
+    private CategoryID category(final String aName) {
+        final var aCategory = Category.newCategory(aName, null, true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+        return aCategory.getId();
+    }
+}
@@ -0,0 +1,187 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.VersionConflictException;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalogo.infrastructure.genre.GenreMySQLGateway;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// Runs without the test transaction so each gateway write commits or rolls back on its own, as it does in production.
+@MySQLGatewayTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class OutboxRelayTest {
+
+    @Autowired
+    private CategoryMySQLGateway categoryGateway;
+
+    @Autowired
+    private GenreMySQLGateway genreGateway;
+
+    @Autowired
+    private OutboxEventRepository outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    public void givenCategoryAndGenreChanges_whenTheGatewaysWriteThem_shouldStoreTheirEventsInTheOutbox() {
+        final var aCategory = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var aGenre = genreGateway.create(Genre.newGenre("Ação", true).addCategory(aCategory.getId()));
+        Assertions.assertEquals(List.of("CategoryCreated", "GenreCreated", "GenreCategoryAdded"), eventTypes());
+
+        categoryGateway.update(categoryGateway.findById(aCategory.getId()).get().update("Séries", "Episódios", true));
+        genreGateway.update(Genre.with(genreGateway.findById(aGenre.getId()).get()).removeCategory(aCategory.getId()));
+        categoryGateway.updateStatus(List.of(aCategory.getId(), CategoryID.unique()), false, Instant.now());
+
+        final var events = outboxRepository.findAll(Sort.by("id"));
+        Assertions.assertEquals(
+                List.of("CategoryCreated", "GenreCreated", "GenreCategoryAdded", "CategoryUpdated", "GenreCategoryRemoved", "CategoryDeactivated"),
+                eventTypes()
+        );
+        Assertions.assertEquals(
+                List.of("Category", "Genre", "Genre", "Category", "Genre", "Category"),
+                events.stream().map(OutboxEventJpaEntity::getAggregateType).toList()
+        );
+        final var categoryId = aCategory.getId().getValue();
+        final var genreId = aGenre.getId().getValue();
+        Assertions.assertEquals(
+                List.of(categoryId, genreId, genreId, categoryId, genreId, categoryId),
+                events.stream().map(OutboxEventJpaEntity::getAggregateId).toList()
+        );
+        final var updated = Json.readValueAsString(events.get(3).getPayload(), Map.class);
+        Assertions.assertEquals("Séries", updated.get("name"));
+        Assertions.assertEquals("Episódios", updated.get("description"));
+    }
+
+    @Test
+    public void givenAStaleVersion_whenTheUpdateFails_shouldNotStoreItsEvents() {
+        final var aCategory = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var stale = categoryGateway.findById(aCategory.getId()).get();
+        categoryGateway.update(categoryGateway.findById(aCategory.getId()).get().deactivate());
+
+        Assertions.assertThrows(VersionConflictException.class, () -> categoryGateway.update(stale.update("Séries", null, true)));
+
+        Assertions.assertEquals(List.of("CategoryCreated", "CategoryDeactivated"), eventTypes());
+    }
+
+    @Test
+    public void givenNewCategoriesInBulk_whenCallsCreateAll_shouldStoreOneCreatedEventEach() {
+        final var inactive = Category.newCategory("Séries", null, false);
+
+        categoryGateway.createAll(List.of(Category.newCategory("Filmes", null, true), inactive));
+
+        Assertions.assertEquals(List.of("CategoryCreated", "CategoryCreated"), eventTypes());
+        final var created = Json.readValueAsString(outboxRepository.findAll(Sort.by("id")).get(1).getPayload(), Map.class);
+        Assertions.assertEquals(inactive.getId().getValue(), created.get("id"));
+        Assertions.assertEquals(false, created.get("active"));
+    }
+
+    @Test
+    public void givenCategoriesAndAGenre_whenTheGatewaysDeleteThem_shouldStoreOneDeletedEventPerRemovedAggregate() {
+        final var movies = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+        final var aGenre = genreGateway.create(Genre.newGenre("Ação", true));
+        outboxRepository.deleteAll();
+
+        genreGateway.deleteById(aGenre.getId());
+        genreGateway.deleteById(aGenre.getId());
+        categoryGateway.deleteById(movies.getId());
+        categoryGateway.deleteAllById(List.of(movies.getId(), series.getId(), CategoryID.unique()));
+
+        final var events = outboxRepository.findAll(Sort.by("id"));
+        Assertions.assertEquals(List.of("GenreDeleted", "CategoryDeleted", "CategoryDeleted"), eventTypes());
+        Assertions.assertEquals(
+                List.of(aGenre.getId().getValue(), movies.getId().getValue(), series.getId().getValue()),
+                events.stream().map(OutboxEventJpaEntity::getAggregateId).toList()
+        );
+    }
+
+    @Test
+    public void givenPendingEvents_whenRelaying_shouldPublishThemInBatchesInOrderAndDeleteThem() {
+        changes(5);
+        final var batches = new ArrayList<List<OutboxMessage>>();
+
+        final var relayed = relay(batches::add).relay();
+
+        Assertions.assertEquals(10, relayed);
+        Assertions.assertEquals(List.of(4, 4, 2), batches.stream().map(List::size).toList());
+        final var ids = batches.stream().flatMap(List::stream).map(OutboxMessage::id).toList();
+        Assertions.assertEquals(ids.stream().sorted().toList(), ids);
+        Assertions.assertEquals(0, outboxRepository.count());
+        Assertions.assertEquals(0, relay(batches::add).relay());
+    }
+
+    @Test
+    public void givenAFailingPublisher_whenRelaying_shouldKeepTheBatchForTheNextRun() {
+        changes(3);
+
+        Assertions.assertThrows(IllegalStateException.class, () -> relay(messages -> {
+            throw new IllegalStateException("broker unavailable");
+        }).relay());
+        Assertions.assertEquals(6, outboxRepository.count());
+
+        final var published = new ArrayList<OutboxMessage>();
+        Assertions.assertEquals(6, relay(published::addAll).relay());
+        Assertions.assertEquals(6, published.size());
+        Assertions.assertEquals(0, outboxRepository.count());
+    }
+
+    @Test
+    public void givenTheFilePublisher_whenRelaying_shouldAppendOneJsonLinePerEvent(@TempDir final Path aDirectory) throws IOException {
+        final var aFile = aDirectory.resolve("outbox").resolve("events.ndjson");
+        final var ids = changes(3);
+
+        relay(new FileOutboxPublisher(aFile)).relay();
+
+        final var lines = Files.readAllLines(aFile);
+        Assertions.assertEquals(6, lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            final var line = Json.mapper().readTree(lines.get(i));
+            final var anId = ids.get(i / 2).getValue();
+            Assertions.assertEquals("Category", line.get("aggregate_type").asText());
+            Assertions.assertEquals(anId, line.get("aggregate_id").asText());
+            Assertions.assertEquals(i % 2 == 0 ? "CategoryCreated" : "CategoryDeactivated", line.get("event_type").asText());
+            Assertions.assertEquals(anId, line.get("payload").get("id").asText());
+        }
+    }
+
+    private List<CategoryID> changes(final int count) {
+        final var ids = new ArrayList<CategoryID>(count);
+        for (int i = 0; i < count; i++) {
+            final var aCategory = categoryGateway.create(Category.newCategory("Categoria " + i, null, true));
+            categoryGateway.update(aCategory.deactivate());
+            ids.add(aCategory.getId());
+        }
+        return ids;
+    }
+
+    private OutboxRelay relay(final OutboxPublisher aPublisher) {
+        return new OutboxRelay(outboxRepository, aPublisher, new TransactionTemplate(transactionManager), 4);
+    }
+
+    private List<String> eventTypes() {
+        return outboxRepository.findAll(Sort.by("id")).stream().map(OutboxEventJpaEntity::getEventType).toList();
+    }
+}
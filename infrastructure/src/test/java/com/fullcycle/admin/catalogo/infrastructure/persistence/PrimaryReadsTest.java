@@ -0,0 +1,122 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryCommand;
+import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryUseCase;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.search.CategorySearchIndex;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Timestamp;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// The replica holds an older copy of each row and reports no lag, so only reads routed to the primary see the latest.
+@IntegrationTest
+@TestPropertySource(properties = {
+        "cache.enabled=true",
+        "search.index.enabled=true",
+        "replica.enabled=true",
+        "replica.datasource.jdbc-url=jdbc:h2:mem:adm_videos_replica_stale;MODE=MYSQL;DATABASE_TO_LOWER=TRUE",
+        "replica.datasource.username=root",
+        "replica.datasource.password=123456",
+        "replica.datasource.auto-commit=true",
+        "replica.check-interval=0s",
+        "replica.max-lag=5s",
+        "replica.lag-query=SELECT seconds FROM replica_lag"
+})
+public class PrimaryReadsTest {
+
+    @Autowired
+    private GetCategoryByIdUseCase getCategoryByIdUseCase;
+
+    @Autowired
+    private UpdateCategoryUseCase updateCategoryUseCase;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private CategorySearchIndex categorySearchIndex;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replicaDataSource;
+
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        Flyway.configure()
+                .dataSource(replicaDataSource)
+                .locations("classpath:db/migration", "classpath:db/vendor/h2")
+                .load()
+                .migrate();
+
+        replica = new JdbcTemplate(replicaDataSource);
+        replica.execute("CREATE TABLE IF NOT EXISTS replica_lag (seconds BIGINT)");
+        replica.update("DELETE FROM replica_lag");
+        replica.update("INSERT INTO replica_lag (seconds) VALUES (0)");
+        replica.update("DELETE FROM category");
+    }
+
+    @Test
+    public void givenAStaleReplica_whenCallsGetByIdWithTheCacheEnabled_shouldLoadAndCacheThePrimaryRow() {
+        final var aCategory = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        copyToReplica(aCategory, "Filmes (réplica)");
+
+        assertEquals("Filmes", getCategoryByIdUseCase.execute(aCategory.getId().getValue()).name());
+        assertEquals("Filmes", getCategoryByIdUseCase.execute(aCategory.getId().getValue()).name());
+    }
+
+    @Test
+    public void givenAStaleReplica_whenUpdatingWithTheCurrentVersion_shouldCheckItAgainstThePrimary() {
+        final var aCategory = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        copyToReplica(aCategory, "Filmes");
+        final var updated = categoryGateway.update(categoryGateway.findLatestById(aCategory.getId()).get()
+                .update("Séries", null, true));
+
+        final var aCommand = UpdateCategoryCommand.with(
+                aCategory.getId().getValue(), "Documentários", null, true, updated.getVersion()
+        );
+
+        Assertions.assertTrue(updateCategoryUseCase.execute(aCommand).isRight());
+        assertEquals("Documentários", getCategoryByIdUseCase.execute(aCategory.getId().getValue()).name());
+    }
+
+    @Test
+    public void givenAStaleReplica_whenRebuildingTheSearchIndex_shouldIndexThePrimaryRows() {
+        final var aCategory = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        copyToReplica(aCategory, "Documentários");
+
+        categorySearchIndex.rebuild();
+
+        assertEquals(Set.of(aCategory.getId().getValue()), categorySearchIndex.search("filmes"));
+        assertEquals(Set.of(), categorySearchIndex.search("documentarios"));
+    }
+
+    private void copyToReplica(final Category aCategory, final String aName) {
+        replica.update(
+                "INSERT INTO category (id, name, description, active, created_at, updated_at, deleted_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                BinaryIdType.toBytes(aCategory.getId().getValue()),
+                aName,
+                aCategory.getDescription(),
+                aCategory.isActive(),
+                Timestamp.from(aCategory.getCreatedAt()),
+                Timestamp.from(aCategory.getUpdatedAt()),
+                null,
+                aCategory.getVersion()
+        );
+    }
+}
@@ -0,0 +1,159 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+// Wraps the application's DataSource so every statement it executes is recorded with its bound parameters,
+// then replays them under MySQL's EXPLAIN to check the access path, index and sort it picked.
+public class QueryPlanRecorder implements BeanPostProcessor {
+
+    private static final Pattern EXPLAINABLE = Pattern.compile("^\\s*(select|update|delete)\\b.*", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    private final List<RecordedStatement> statements = new CopyOnWriteArrayList<>();
+    private DataSource target;
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (bean instanceof DataSource aDataSource && this.target == null) {
+            this.target = aDataSource;
+            return proxy(DataSource.class, aDataSource, (method, args, result) ->
+                    result instanceof Connection aConnection ? recording(aConnection) : result);
+        }
+        return bean;
+    }
+
+    public void clear() {
+        this.statements.clear();
+    }
+
+    public List<QueryPlan> plans() throws SQLException {
+        final var plans = new ArrayList<QueryPlan>();
+        try (final var conn = this.target.getConnection()) {
+            for (final var statement : this.statements) {
+                if (EXPLAINABLE.matcher(statement.sql()).matches()) {
+                    plans.add(explain(conn, statement));
+                }
+            }
+        }
+        return plans;
+    }
+
+    private static QueryPlan explain(final Connection conn, final RecordedStatement aStatement) throws SQLException {
+        try (final var explain = conn.prepareStatement("EXPLAIN " + aStatement.sql())) {
+            for (final var parameter : aStatement.parameters().values()) {
+                parameter.applyTo(explain);
+            }
+            try (final var rs = explain.executeQuery()) {
+                final var steps = new ArrayList<Step>();
+                while (rs.next()) {
+                    steps.add(new Step(rs.getString("table"), rs.getString("type"), rs.getString("key"), rs.getString("Extra")));
+                }
+                return new QueryPlan(aStatement.sql(), steps);
+            }
+        }
+    }
+
+    private Connection recording(final Connection aConnection) {
+        return proxy(Connection.class, aConnection, (method, args, result) ->
+                result instanceof PreparedStatement aStatement && method.getName().equals("prepareStatement")
+                        ? recording(aStatement, (String) args[0])
+                        : result);
+    }
+
+    private PreparedStatement recording(final PreparedStatement aStatement, final String sql) {
+        final var parameters = new TreeMap<Integer, Parameter>();
+        return proxy(PreparedStatement.class, aStatement, (method, args, result) -> {
+            final var name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                parameters.put(index, new Parameter(method, args.clone()));
+            } else if (name.equals("clearParameters")) {
+                parameters.clear();
+            } else if (name.equals("executeQuery") || name.equals("executeUpdate") || name.equals("execute")
+                    || name.equals("addBatch")) {
+                this.statements.add(new RecordedStatement(sql, new TreeMap<>(parameters)));
+            }
+            return result;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(final Class<T> aType, final T aTarget, final Interceptor anInterceptor) {
+        return (T) Proxy.newProxyInstance(aType.getClassLoader(), new Class<?>[]{aType}, (proxy, method, args) -> {
+            final Object result;
+            try {
+                result = method.invoke(aTarget, args);
+            } catch (final InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+            return anInterceptor.after(method, args, result);
+        });
+    }
+
+    // One row of MySQL's EXPLAIN per table the statement reads.
+    public record QueryPlan(String sql, List<Step> steps) {
+
+        public boolean fullScan() {
+            return this.steps.stream().anyMatch(aStep -> "ALL".equals(aStep.type()));
+        }
+
+        // Sorting the handful of rows a primary key lookup returns is not worth an index.
+        public boolean filesort() {
+            return this.steps.stream().anyMatch(aStep -> aStep.extra().contains("Using filesort") && !aStep.keyLookup());
+        }
+
+        public Set<String> keys() {
+            return this.steps.stream().map(Step::key).filter(Objects::nonNull).collect(Collectors.toSet());
+        }
+
+        @Override
+        public String toString() {
+            return this.sql + "\n" + this.steps.stream().map(Step::toString).collect(Collectors.joining("\n"));
+        }
+    }
+
+    public record Step(String table, String type, String key, String extra) {
+
+        public Step {
+            extra = extra != null ? extra : "";
+        }
+
+        boolean keyLookup() {
+            return "const".equals(this.type) || "eq_ref".equals(this.type)
+                    || ("range".equals(this.type) && "PRIMARY".equals(this.key));
+        }
+    }
+
+    private record RecordedStatement(String sql, Map<Integer, Parameter> parameters) {
+    }
+
+    private record Parameter(Method setter, Object[] args) {
+        void applyTo(final PreparedStatement aStatement) throws SQLException {
+            try {
+                this.setter.invoke(aStatement, this.args);
+            } catch (final ReflectiveOperationException ex) {
+                throw new SQLException(ex);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Interceptor {
+        Object after(Method method, Object[] args, Object result);
+    }
+}
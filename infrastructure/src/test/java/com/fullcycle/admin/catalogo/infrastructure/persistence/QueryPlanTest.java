@@ -0,0 +1,371 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.search.CategorySearchIndex;
+import com.fullcycle.admin.catalogo.infrastructure.genre.GenreMySQLGateway;
+import com.fullcycle.admin.catalogo.infrastructure.genre.search.GenreSearchIndex;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.QueryPlanRecorder.QueryPlan;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+// Listings, lookups and exports are checked here; term searches once per search mode in the nested classes below.
+// Plans come from MySQL itself. Not transactional: rows are committed, so ANALYZE TABLE, the FULLTEXT index and the
+// search index rebuild all see them, and the optimizer picks its path from the statistics of a table with some volume.
+@MySQLGatewayTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QueryPlanRecorder.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class QueryPlanTest {
+
+    private static final int BACKGROUND_ROWS = 100;
+    private static final Map<String, String> CATEGORY_KEYS = Map.of(
+            "name", "idx_category_name",
+            "createdAt", "idx_category_created_at",
+            "deletedAt", "idx_category_deleted_at"
+    );
+
+    @Container
+    private static final MySQLContainer MYSQL_CONTAINER = new MySQLContainer("mysql:latest")
+            .withPassword("123456")
+            .withUsername("root")
+            .withDatabaseName("adm_videos");
+
+    @DynamicPropertySource
+    public static void setDatasourceProperties(final DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL_CONTAINER::getJdbcUrl);
+        registry.add("spring.datasource.driver-class-name", MYSQL_CONTAINER::getDriverClassName);
+    }
+
+    @Autowired
+    private QueryPlanRecorder recorder;
+
+    @Autowired
+    private CategoryMySQLGateway categoryGateway;
+
+    @Autowired
+    private GenreMySQLGateway genreGateway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @ParameterizedTest
+    @CsvSource({
+            "name,asc", "name,desc",
+            "createdAt,asc", "createdAt,desc",
+            "deletedAt,asc", "deletedAt,desc"
+    })
+    public void givenASupportedSort_whenListingCategories_shouldReadEveryPageFromItsIndex(final String sort, final String direction) throws SQLException {
+        categories(5);
+        analyze(jdbcTemplate);
+
+        recorder.clear();
+        final var firstPage = categoryGateway.findAll(new SearchQuery(0, 2, "", sort, direction, null, TotalMode.EXACT));
+        categoryGateway.findAll(new SearchQuery(1, 2, "", sort, direction, null, TotalMode.EXACT));
+        categoryGateway.findAll(new SearchQuery(0, 2, "", sort, direction, firstPage.nextCursor(), TotalMode.EXACT));
+        categoryGateway.findAllSummaries(new SearchQuery(0, 2, "", sort, direction, firstPage.nextCursor(), TotalMode.EXACT));
+
+        assertPlans(recorder, QueryPlanTest::isCount, CATEGORY_KEYS.get(sort));
+    }
+
+    @Test
+    public void givenPersistedCategories_whenReadingAndWritingThem_shouldOnlyUseKeyLookups() throws SQLException {
+        final var categories = categories(3);
+        final var aGenre = genreGateway.create(Genre.newGenre("Ação", true).addCategories(categories));
+        analyze(jdbcTemplate);
+
+        recorder.clear();
+        final var aCategory = categoryGateway.findById(categories.get(0)).get();
+        categoryGateway.update(aCategory.update("Filmes", null, true));
+        categoryGateway.existsByIds(categories);
+        categoryGateway.updateStatus(categories, false, Instant.now());
+        categoryGateway.deleteAllById(List.of(categories.get(1)));
+        categoryGateway.deleteById(categories.get(2));
+        genreGateway.deleteById(aGenre.getId());
+
+        assertPlans(recorder, aPlan -> false, "PRIMARY");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "name,asc,idx_genres_name", "name,desc,idx_genres_name",
+            "createdAt,asc,idx_genres_created_at", "createdAt,desc,idx_genres_created_at"
+    })
+    public void givenASupportedSort_whenListingGenres_shouldReadEveryPageFromItsIndex(
+            final String sort,
+            final String direction,
+            final String expectedKey
+    ) throws SQLException {
+        genres(genreGateway, categories(2), 5);
+        analyze(jdbcTemplate);
+
+        recorder.clear();
+        final var firstPage = genreGateway.findAll(new SearchQuery(0, 2, "", sort, direction, null, TotalMode.EXACT));
+        genreGateway.findAll(new SearchQuery(1, 2, "", sort, direction, null, TotalMode.EXACT));
+        genreGateway.findAll(new SearchQuery(0, 2, "", sort, direction, firstPage.nextCursor(), TotalMode.EXACT));
+
+        assertPlans(recorder, QueryPlanTest::isCount, expectedKey);
+    }
+
+    @Test
+    public void givenGenresLinkedToACategory_whenListingThemByCategory_shouldSeekTheCategoryIndex() throws SQLException {
+        final var categories = categories(2);
+        genres(genreGateway, categories, 5);
+        analyze(jdbcTemplate);
+
+        recorder.clear();
+        final var firstPage = genreGateway.findAllByCategory(categories.get(1), new SearchQuery(0, 2, "", "id", "asc", null, TotalMode.EXACT));
+        genreGateway.findAllByCategory(categories.get(1), new SearchQuery(0, 2, "", "id", "asc", firstPage.nextCursor(), TotalMode.EXACT));
+
+        assertPlans(recorder, aPlan -> false, "idx_genres_categories_category");
+    }
+
+    @Test
+    public void givenAPersistedGenre_whenReadingAndUpdatingIt_shouldOnlyUseKeyLookups() throws SQLException {
+        final var categories = categories(3);
+        final var created = genreGateway.create(Genre.newGenre("Ação", true).addCategories(categories.subList(0, 2)));
+        analyze(jdbcTemplate);
+
+        recorder.clear();
+        final var aGenre = genreGateway.findById(created.getId()).get();
+        genreGateway.update(Genre.with(aGenre).removeCategory(categories.get(0)).addCategory(categories.get(2)));
+
+        assertPlans(recorder, aPlan -> false, "PRIMARY");
+    }
+
+    // An export reads every row, but in key order off the primary key, so it streams without sorting anything.
+    @Test
+    public void givenCategoriesAndGenres_whenExportingThem_shouldStreamThemInKeyOrder() throws SQLException {
+        final var categories = categories(3);
+        genreGateway.create(Genre.newGenre("Ação", true).addCategories(categories));
+        genreGateway.create(Genre.newGenre("Drama", true));
+        analyze(jdbcTemplate);
+
+        recorder.clear();
+        categoryGateway.forEachSummary(aSummary -> {
+        });
+        genreGateway.forEach(aGenre -> {
+        });
+
+        final var plans = recorder.plans();
+        Assertions.assertEquals(2, plans.size());
+        plans.forEach(aPlan -> {
+            Assertions.assertFalse(aPlan.filesort(), () -> "filesort:\n" + aPlan);
+            Assertions.assertTrue(aPlan.keys().contains("PRIMARY"), () -> "not read by primary key:\n" + aPlan);
+        });
+    }
+
+    // Each mode runs in a context of its own, so the nested classes take their beans from it rather than from the
+    // enclosing class.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    abstract class TermSearch {
+
+        @Autowired
+        private QueryPlanRecorder recorder;
+
+        @Autowired
+        private CategoryMySQLGateway categoryGateway;
+
+        @Autowired
+        private GenreMySQLGateway genreGateway;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        // The statements this mode reads the whole table or sorts for by design.
+        abstract boolean byDesign(QueryPlan aPlan);
+
+        // The index this mode reads category matches through.
+        abstract String categoryKey(String aSort);
+
+        void indexed() {
+        }
+
+        @ParameterizedTest
+        @CsvSource({
+                "name,asc", "name,desc",
+                "createdAt,asc", "createdAt,desc",
+                "deletedAt,asc", "deletedAt,desc"
+        })
+        public void givenASupportedSort_whenSearchingCategories_shouldReadEveryPageFromAnIndex(final String sort, final String direction) throws SQLException {
+            categories(categoryGateway, 5);
+            analyze(jdbcTemplate);
+            indexed();
+
+            recorder.clear();
+            final var firstPage = categoryGateway.findAll(new SearchQuery(0, 2, "Categoria", sort, direction, null, TotalMode.EXACT));
+            categoryGateway.findAll(new SearchQuery(1, 2, "Categoria", sort, direction, null, TotalMode.EXACT));
+            categoryGateway.findAll(new SearchQuery(0, 2, "Categoria", sort, direction, firstPage.nextCursor(), TotalMode.EXACT));
+            categoryGateway.findAllSummaries(new SearchQuery(0, 2, "Categoria", sort, direction, firstPage.nextCursor(), TotalMode.EXACT));
+
+            assertPlans(recorder, this::byDesign, categoryKey(sort));
+        }
+
+        @ParameterizedTest
+        @CsvSource({"name,asc", "name,desc", "createdAt,asc", "createdAt,desc"})
+        public void givenASupportedSort_whenSearchingGenres_shouldReadEveryPageFromAnIndex(final String sort, final String direction) throws SQLException {
+            genres(genreGateway, categories(categoryGateway, 2), 5);
+            analyze(jdbcTemplate);
+            indexed();
+
+            recorder.clear();
+            final var firstPage = genreGateway.findAll(new SearchQuery(0, 2, "Gênero", sort, direction, null, TotalMode.EXACT));
+            genreGateway.findAll(new SearchQuery(1, 2, "Gênero", sort, direction, null, TotalMode.EXACT));
+            genreGateway.findAll(new SearchQuery(0, 2, "Gênero", sort, direction, firstPage.nextCursor(), TotalMode.EXACT));
+
+            assertPlans(recorder, this::byDesign);
+        }
+    }
+
+    // Matches are paged in memory, so the database only sees primary key lookups for the ids of one page.
+    @Nested
+    @TestPropertySource(properties = "search.index.enabled=true")
+    class SearchIndex extends TermSearch {
+
+        @Autowired
+        private CategorySearchIndex categorySearchIndex;
+
+        @Autowired
+        private GenreSearchIndex genreSearchIndex;
+
+        @Override
+        boolean byDesign(final QueryPlan aPlan) {
+            return false;
+        }
+
+        @Override
+        String categoryKey(final String aSort) {
+            return "PRIMARY";
+        }
+
+        @Override
+        void indexed() {
+            categorySearchIndex.rebuild();
+            genreSearchIndex.rebuild();
+        }
+    }
+
+    // A contains match has no index to seek, so pages walk the sort index and filter as they go, while the COUNT
+    // behind the total reads the table.
+    @Nested
+    @TestPropertySource(properties = {"search.index.enabled=false", "search.full-text=false"})
+    class Like extends TermSearch {
+
+        @Override
+        boolean byDesign(final QueryPlan aPlan) {
+            return isCount(aPlan);
+        }
+
+        @Override
+        String categoryKey(final String aSort) {
+            return CATEGORY_KEYS.get(aSort);
+        }
+    }
+
+    // Categories seek the FULLTEXT index and are ranked by relevance, which has to be sorted; genres have none and
+    // stay on LIKE.
+    @Nested
+    @TestPropertySource(properties = {"search.index.enabled=false", "search.full-text=true"})
+    class FullText extends TermSearch {
+
+        @Override
+        boolean byDesign(final QueryPlan aPlan) {
+            return isCount(aPlan) || aPlan.sql().toLowerCase(Locale.ROOT).contains(" order by match(");
+        }
+
+        @Override
+        String categoryKey(final String aSort) {
+            return "idx_category_name_description_ft";
+        }
+    }
+
+    private List<CategoryID> categories(final int count) {
+        return categories(categoryGateway, count);
+    }
+
+    private static boolean isCount(final QueryPlan aPlan) {
+        return aPlan.sql().toLowerCase(Locale.ROOT).startsWith("select count(");
+    }
+
+    // The rows a test looks for, among others it never matches.
+    private static List<CategoryID> categories(final CategoryMySQLGateway aGateway, final int count) {
+        final var others = new ArrayList<Category>(BACKGROUND_ROWS);
+        for (int i = 0; i < BACKGROUND_ROWS; i++) {
+            others.add(Category.newCategory("Outra " + i, null, i % 2 == 0));
+        }
+        aGateway.createAll(others);
+
+        final var ids = new ArrayList<CategoryID>(count);
+        for (int i = 0; i < count; i++) {
+            final var aCategory = Category.newCategory("Categoria " + i, null, i % 2 == 0);
+            aGateway.create(aCategory);
+            ids.add(aCategory.getId());
+        }
+        return ids;
+    }
+
+    private static void genres(final GenreMySQLGateway aGateway, final List<CategoryID> categories, final int count) {
+        for (int i = 0; i < BACKGROUND_ROWS; i++) {
+            aGateway.create(Genre.newGenre("Outro " + i, true));
+        }
+        for (int i = 0; i < count; i++) {
+            aGateway.create(Genre.newGenre("Gênero " + i, true).addCategories(categories));
+        }
+    }
+
+    private static void analyze(final JdbcTemplate aJdbcTemplate) {
+        aJdbcTemplate.execute("ANALYZE TABLE category, genres, genres_categories");
+    }
+
+    // Every statement not exempt by design reads through an index and in its order; and the expected ones, if any,
+    // are among the indexes used.
+    private static void assertPlans(
+            final QueryPlanRecorder aRecorder,
+            final Predicate<QueryPlan> byDesign,
+            final String... expectedKeys
+    ) throws SQLException {
+        final var plans = aRecorder.plans();
+        Assertions.assertFalse(plans.isEmpty());
+        plans.stream().filter(byDesign.negate()).forEach(aPlan -> {
+            Assertions.assertFalse(aPlan.fullScan(), () -> "full scan:\n" + aPlan);
+            Assertions.assertFalse(aPlan.filesort(), () -> "filesort:\n" + aPlan);
+            aPlan.steps().stream().filter(aStep -> aStep.type() != null).forEach(aStep ->
+                    Assertions.assertNotNull(aStep.key(), () -> "no index on " + aStep.table() + ":\n" + aPlan));
+        });
+
+        final var actualKeys = plans.stream().flatMap(aPlan -> aPlan.keys().stream()).collect(Collectors.toSet());
+        for (final var expectedKey : expectedKeys) {
+            Assertions.assertTrue(actualKeys.contains(expectedKey), () -> expectedKey + " not used, only " + actualKeys);
+        }
+    }
+}
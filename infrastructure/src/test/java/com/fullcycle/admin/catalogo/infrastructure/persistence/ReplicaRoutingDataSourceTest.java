@@ -0,0 +1,107 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Timestamp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@IntegrationTest
+@TestPropertySource(properties = {
+        "replica.enabled=true",
+        "replica.datasource.jdbc-url=jdbc:h2:mem:adm_videos_replica;MODE=MYSQL;DATABASE_TO_LOWER=TRUE",
+        "replica.datasource.username=root",
+        "replica.datasource.password=123456",
+        "replica.datasource.auto-commit=true",
+        "replica.check-interval=0s",
+        "replica.max-lag=5s",
+        "replica.lag-query=SELECT seconds FROM replica_lag"
+})
+public class ReplicaRoutingDataSourceTest {
+
+    @Autowired
+    private GetCategoryByIdUseCase getCategoryByIdUseCase;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replicaDataSource;
+
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        Flyway.configure()
+                .dataSource(replicaDataSource)
+                .locations("classpath:db/migration", "classpath:db/vendor/h2")
+                .load()
+                .migrate();
+
+        replica = new JdbcTemplate(replicaDataSource);
+        replica.execute("CREATE TABLE IF NOT EXISTS replica_lag (seconds BIGINT)");
+        replica.update("DELETE FROM replica_lag");
+        replica.update("INSERT INTO replica_lag (seconds) VALUES (0)");
+        replica.update("DELETE FROM category");
+    }
+
+    @Test
+    public void givenAHealthyReplica_whenCallsGetById_shouldReadFromTheReplica() {
+        final var aCategory = categoryGateway.create(Category.newCategory("Filmes", null, true));
+
+        Assertions.assertThrows(NotFoundException.class, () -> getCategoryByIdUseCase.execute(aCategory.getId().getValue()));
+
+        copyToReplica(aCategory, "Filmes (réplica)");
+
+        assertEquals("Filmes (réplica)", getCategoryByIdUseCase.execute(aCategory.getId().getValue()).name());
+    }
+
+    @Test
+    public void givenAReplicaLaggingBeyondTheThreshold_whenCallsGetById_shouldFallBackToThePrimary() {
+        final var aCategory = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        copyToReplica(aCategory, "Filmes (réplica)");
+
+        replica.update("UPDATE replica_lag SET seconds = 30");
+
+        assertEquals("Filmes", getCategoryByIdUseCase.execute(aCategory.getId().getValue()).name());
+    }
+
+    @Test
+    @DirtiesContext
+    public void givenAnUnavailableReplica_whenCallsGetById_shouldFallBackToThePrimary() {
+        final var aCategory = categoryGateway.create(Category.newCategory("Filmes", null, true));
+
+        replicaDataSource.close();
+
+        assertEquals("Filmes", getCategoryByIdUseCase.execute(aCategory.getId().getValue()).name());
+    }
+
+    private void copyToReplica(final Category aCategory, final String aName) {
+        replica.update(
+                "INSERT INTO category (id, name, description, active, created_at, updated_at, deleted_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                BinaryIdType.toBytes(aCategory.getId().getValue()),
+                aName,
+                aCategory.getDescription(),
+                aCategory.isActive(),
+                Timestamp.from(aCategory.getCreatedAt()),
+                Timestamp.from(aCategory.getUpdatedAt()),
+                null,
+                aCategory.getVersion()
+        );
+    }
+}